@@ -25,6 +25,14 @@ public abstract class FunctionalHandler<T> {
        
     public abstract T getLogic();
     
+    /**
+     * Can the logic be called concurrently without
+     * synchronizing on the logic instance.
+     */
+    public boolean isThreadSafe() {
+        return false;
+    }
+    
     public void close() throws IOException {       
         closeLogic(getLogic());
     }
@@ -5,6 +5,7 @@
 package com.ibm.streamsx.topology.internal.functional;
 
 import com.ibm.streamsx.topology.function.FunctionContext;
+import com.ibm.streamsx.topology.internal.logic.ObjectUtils;
 
 /**
  * Functional logic handler used when 
@@ -12,14 +13,19 @@ import com.ibm.streamsx.topology.function.FunctionContext;
  * or checkpointing/consistent region is not configured.
  * 
  * The logic's initialization occurs at operator initialization time.
+ * 
+ * Logic that is immutable or marked as thread safe
+ * is called without synchronization.
  */
 public final class StatelessFunctionalHandler<T> extends FunctionalHandler<T> {
     
     private final T logic;
+    private final boolean threadSafe;
    
     public StatelessFunctionalHandler(FunctionContext context, T initialLogic) throws Exception {
         super(context);
         this.logic = initialLogic;
+        this.threadSafe = ObjectUtils.isThreadSafe(initialLogic);
         initializeLogic();
     }
     
@@ -27,4 +33,9 @@ public final class StatelessFunctionalHandler<T> extends FunctionalHandler<T> {
     public T getLogic() {
         return logic;
     }
+    
+    @Override
+    public boolean isThreadSafe() {
+        return threadSafe;
+    }
 }
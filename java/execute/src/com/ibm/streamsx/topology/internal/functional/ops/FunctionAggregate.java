@@ -6,25 +6,49 @@ package com.ibm.streamsx.topology.internal.functional.ops;
 
 import com.ibm.streams.operator.Tuple;
 import com.ibm.streams.operator.model.Icons;
+import com.ibm.streams.operator.model.Parameter;
 import com.ibm.streams.operator.model.PrimitiveOperator;
 import com.ibm.streams.operator.window.StreamWindow;
 import com.ibm.streams.operator.window.StreamWindow.Policy;
 import com.ibm.streamsx.topology.internal.functional.window.ContinuousAggregatorCountEvict;
 import com.ibm.streamsx.topology.internal.functional.window.ContinuousAggregatorTimeEvict;
 import com.ibm.streamsx.topology.internal.functional.window.PeriodicAggregator;
+import com.ibm.streamsx.topology.internal.functional.window.SessionAggregator;
+import com.ibm.streamsx.topology.internal.functional.window.TumblingAggregator;
 
 @PrimitiveOperator(name="Aggregate")
 @Icons(location16 = "opt/icons/aggregate_16.gif", location32 = "opt/icons/aggregate_32.gif")
 public class FunctionAggregate<T, A> extends FunctionWindow {
+    
+    private long sessionGap;
+    
     @Override
     void createWindowListener(StreamWindow<Tuple> window)
             throws Exception {
         
-        if (window.getTriggerPolicy() == Policy.TIME)
+        if (window.getType() == StreamWindow.Type.TUMBLING) {
+            if (getSessionGap() > 0)
+                new SessionAggregator<T,A>(this, window, getSessionGap());
+            else
+                new TumblingAggregator<T,A>(this, window);
+        }
+        else if (window.getTriggerPolicy() == Policy.TIME)
             new PeriodicAggregator<T,A>(this, window);
         else if (window.getEvictionPolicy() == Policy.TIME)
             new ContinuousAggregatorTimeEvict<T,A>(this, window);
         else
             new ContinuousAggregatorCountEvict<T,A>(this, window);
     }
+
+    public long getSessionGap() {
+        return sessionGap;
+    }
+
+    /**
+     * Gap in milliseconds that closes a session window.
+     */
+    @Parameter(optional=true)
+    public void setSessionGap(long sessionGap) {
+        this.sessionGap = sessionGap;
+    }
 }
@@ -18,6 +18,7 @@ import com.ibm.streams.operator.model.PrimitiveOperator;
 import com.ibm.streamsx.topology.function.BiFunction;
 import com.ibm.streamsx.topology.internal.functional.FunctionalHandler;
 import com.ibm.streamsx.topology.internal.spljava.SPLMapping;
+import com.ibm.streamsx.topology.internal.spljava.TraceStamp;
 
 @PrimitiveOperator(name="ToSPL")
 @InputPortSet(cardinality = 1)
@@ -42,16 +43,27 @@ public class FunctionConvertToSPL extends FunctionFunctor {
     @Override
     public void process(StreamingInput<Tuple> stream, Tuple tuple)
             throws Exception {
-        Object value = inputMapping.convertFrom(tuple);
+        final TraceStamp previous = traceStart(tuple);
+        try {
+            Object value = inputMapping.convertFrom(tuple);
         
-        final BiFunction<Object, OutputTuple, OutputTuple> convert = convertHandler.getLogic();
+            final BiFunction<Object, OutputTuple, OutputTuple> convert = convertHandler.getLogic();
         
-        OutputTuple outTuple = output.newTuple();
+            OutputTuple outTuple = output.newTuple();
         
-        synchronized (convert) {
-            outTuple = convert.apply(value, outTuple);
+            final long start = latencyStart();
+            if (convertHandler.isThreadSafe()) {
+                outTuple = convert.apply(value, outTuple);
+            } else {
+                synchronized (convert) {
+                    outTuple = convert.apply(value, outTuple);
+                }
+            }
+            latencyEnd(start);
+            if (outTuple != null)
+                output.submit(outTuple);
+        } finally {
+            traceEnd(previous);
         }
-        if (outTuple != null)
-            output.submit(outTuple);
     }
 }
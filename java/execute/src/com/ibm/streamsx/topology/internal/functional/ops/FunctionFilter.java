@@ -18,6 +18,7 @@ import com.ibm.streams.operator.model.PrimitiveOperator;
 import com.ibm.streamsx.topology.function.Predicate;
 import com.ibm.streamsx.topology.internal.functional.FunctionalHandler;
 import com.ibm.streamsx.topology.internal.spljava.SPLMapping;
+import com.ibm.streamsx.topology.internal.spljava.TraceStamp;
 
 @PrimitiveOperator(name="Filter")
 @InputPortSet(cardinality = 1)
@@ -26,7 +27,7 @@ import com.ibm.streamsx.topology.internal.spljava.SPLMapping;
 public class FunctionFilter extends FunctionFunctor {
 
     private FunctionalHandler<Predicate<Object>> filterHandler;
-    private SPLMapping<?> mapping;
+    private SPLMapping<Object> mapping;
     private StreamingOutput<OutputTuple> passed;
 
     @Override
@@ -42,14 +43,25 @@ public class FunctionFilter extends FunctionFunctor {
     @Override
     public void process(StreamingInput<Tuple> stream, Tuple tuple)
             throws Exception {
-        Object value = mapping.convertFrom(tuple);
+        final TraceStamp previous = traceStart(tuple);
+        try {
+            Object value = mapping.convertFrom(tuple);
 
-        final Predicate<Object> filter = filterHandler.getLogic();
-        boolean submitTuple;
-        synchronized (filter) {
-            submitTuple = filter.test(value);
+            final Predicate<Object> filter = filterHandler.getLogic();
+            boolean submitTuple;
+            final long start = latencyStart();
+            if (filterHandler.isThreadSafe()) {
+                submitTuple = filter.test(value);
+            } else {
+                synchronized (filter) {
+                    submitTuple = filter.test(value);
+                }
+            }
+            latencyEnd(start);
+            if (submitTuple)
+                passed.submit(mapping.forward(tuple, value));
+        } finally {
+            traceEnd(previous);
         }
-        if (submitTuple)
-            passed.submit(tuple);
     }
 }
@@ -9,6 +9,8 @@ import java.io.IOException;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Logger;
 
@@ -26,6 +28,7 @@ import com.ibm.streamsx.topology.internal.functional.FunctionalHandler;
 import com.ibm.streamsx.topology.internal.functional.FunctionalHelper;
 import com.ibm.streamsx.topology.internal.functional.FunctionalOpProperties;
 import com.ibm.streamsx.topology.internal.functional.SubmissionParameterManager;
+import com.ibm.streamsx.topology.internal.spljava.TraceStamp;
 
 /**
  * 
@@ -47,8 +50,17 @@ public abstract class FunctionFunctor extends AbstractOperator implements Functi
     private String[] jar;
     private String[] submissionParamNames;
     private String[] submissionParamValues;
+    private boolean latencyMetrics;
+    private boolean latencyTrace;
     
     private FunctionOperatorContext functionContext;
+
+    private LatencyHistogram latency;
+    private ScheduledFuture<?> latencyUpdater;
+
+    private LatencyHistogram traceHop;
+    private LatencyHistogram traceEndToEnd;
+    private ScheduledFuture<?> traceUpdater;
     
     /**
      * Logic (function) used by this operator,
@@ -92,6 +104,28 @@ public abstract class FunctionFunctor extends AbstractOperator implements Functi
         this.submissionParamValues = SubmissionParamValues;
     }
 
+    public final boolean isLatencyMetrics() {
+        return latencyMetrics;
+    }
+
+    @Parameter(optional = true)
+    public final void setLatencyMetrics(boolean latencyMetrics) {
+        this.latencyMetrics = latencyMetrics;
+    }
+
+    public final boolean isLatencyTrace() {
+        return latencyTrace;
+    }
+
+    /**
+     * Set by the topology generator when the topology
+     * traces the latency of sampled tuples.
+     */
+    @Parameter(optional = true)
+    public final void setLatencyTrace(boolean latencyTrace) {
+        this.latencyTrace = latencyTrace;
+    }
+
     @Override
     public synchronized void initialize(OperatorContext context)
             throws Exception {
@@ -99,6 +133,77 @@ public abstract class FunctionFunctor extends AbstractOperator implements Functi
         FunctionalHelper.addLibraries(this, getJar());
         FunctionFunctor.initializeSubmissionParameters(context);
         functionContext = new FunctionOperatorContext(context);
+        if (isLatencyMetrics()) {
+            latency = new LatencyHistogram(context.getMetrics());
+            latencyUpdater = context.getScheduledExecutorService().scheduleWithFixedDelay(
+                    latency::update, 1, 1, TimeUnit.SECONDS);
+        }
+        if (isLatencyTrace()) {
+            TraceStamp.enable();
+            traceHop = new LatencyHistogram(context.getMetrics(), "traceHopLatency",
+                    "traced tuples from the previous operator to this operator");
+            traceEndToEnd = new LatencyHistogram(context.getMetrics(), "traceLatency",
+                    "traced tuples from their source to this operator");
+            traceUpdater = context.getScheduledExecutorService().scheduleWithFixedDelay(
+                    this::updateTrace, 1, 1, TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * Start the recording of the latency of a call to the
+     * operator's function.
+     * @return Start time to pass to {@link #latencyEnd(long)}.
+     */
+    public final long latencyStart() {
+        return latency == null ? 0L : System.nanoTime();
+    }
+
+    /**
+     * Complete the recording of the latency of a call to the
+     * operator's function, if latency metrics are enabled.
+     * @param start Value returned by {@link #latencyStart()}.
+     */
+    public final void latencyEnd(long start) {
+        if (latency != null)
+            latency.record(System.nanoTime() - start);
+    }
+    
+    /**
+     * Start the processing of a tuple that may be traced.
+     * If the tuple is traced its latency from the previous operator
+     * and from its source is recorded and it becomes the traced
+     * tuple of the current thread, so that tuples submitted
+     * while processing it are traced.
+     * @param tuple Tuple arriving at this operator.
+     * @return Value to pass to {@link #traceEnd(TraceStamp)}.
+     */
+    public final TraceStamp traceStart(Tuple tuple) {
+        if (traceHop == null)
+            return null;
+        TraceStamp stamp = TraceStamp.current();
+        if (stamp == null)
+            stamp = TraceStamp.carried(tuple);
+        if (stamp == null)
+            return null;
+
+        final long now = System.nanoTime();
+        traceHop.record(now - stamp.hop());
+        traceEndToEnd.record(now - stamp.origin());
+        return TraceStamp.setCurrent(stamp.arrived(now));
+    }
+
+    /**
+     * Complete the processing of a tuple passed to {@link #traceStart(Tuple)}.
+     * @param previous Value returned by {@code traceStart}.
+     */
+    public final void traceEnd(TraceStamp previous) {
+        if (traceHop != null)
+            TraceStamp.setCurrent(previous);
+    }
+
+    private void updateTrace() {
+        traceHop.update();
+        traceEndToEnd.update();
     }
     
     protected FunctionContext getFunctionContext() {
@@ -115,17 +220,38 @@ public abstract class FunctionFunctor extends AbstractOperator implements Functi
         if (mark == Punctuation.FINAL_MARKER) {
             int totalFinals = finalMarks.incrementAndGet();
             if (totalFinals == getOperatorContext().getNumberOfStreamingInputs())
-                functionContext.finalMarkers();
+                finalMarkers();
         }
     }
     @Override
     public void allPortsReady() throws Exception {
         if (getOperatorContext().getNumberOfStreamingInputs() == 0)
-            functionContext.finalMarkers();
+            finalMarkers();
+    }
+
+    private void finalMarkers() {
+        functionContext.finalMarkers();
+        stopLatencyMetrics();
+    }
+
+    private synchronized void stopLatencyMetrics() {
+        if (latencyUpdater != null) {
+            latencyUpdater.cancel(false);
+            latencyUpdater = null;
+
+            // Final update of the metrics
+            latency.update();
+        }
+        if (traceUpdater != null) {
+            traceUpdater.cancel(false);
+            traceUpdater = null;
+            updateTrace();
+        }
     }
     
     @Override
     public synchronized void shutdown() throws Exception {
+        stopLatencyMetrics();
         close();
         
         if (logicHandler != null)
@@ -16,8 +16,10 @@ import com.ibm.streams.operator.model.Parameter;
 import com.ibm.streams.operator.model.PrimitiveOperator;
 import com.ibm.streams.operator.window.StreamWindow;
 import com.ibm.streamsx.topology.function.Function;
+import com.ibm.streamsx.topology.internal.functional.window.IndexedSlidingJoin;
 import com.ibm.streamsx.topology.internal.functional.window.PartitionedSlidingJoin;
 import com.ibm.streamsx.topology.internal.functional.window.SlidingJoin;
+import com.ibm.streamsx.topology.internal.spljava.TraceStamp;
 
 @PrimitiveOperator(name="Join")
 @InputPorts({
@@ -29,6 +31,8 @@ public class FunctionJoin extends FunctionWindow {
     private SlidingJoin<Object, Object, Object> joiner;
     
     private String joinKeyGetter;
+    
+    private String windowJoinKeyGetter;
 
     @Override
     void createWindowListener(StreamWindow<Tuple> window)
@@ -37,6 +41,11 @@ public class FunctionJoin extends FunctionWindow {
             Function<Object,Object> joinKeyGetter = getLogicObject(getJoinKeyGetter());
             joiner = new PartitionedSlidingJoin<Object, Object, Object>(
                     this, window, joinKeyGetter);
+        } else if (getWindowJoinKeyGetter() != null) {
+            Function<Object,Object> joinKeyGetter = getLogicObject(getJoinKeyGetter());
+            Function<Object,Object> windowJoinKeyGetter = getLogicObject(getWindowJoinKeyGetter());
+            joiner = new IndexedSlidingJoin<Object, Object, Object>(
+                    this, window, joinKeyGetter, windowJoinKeyGetter);
         } else {
             joiner = new SlidingJoin<Object, Object, Object>(this, window);
         }
@@ -49,9 +58,14 @@ public class FunctionJoin extends FunctionWindow {
     @Override
     public void process(StreamingInput<Tuple> stream, Tuple splTuple)
             throws Exception {
-
-        if (stream.getPortNumber() == 1)
-            joiner.port1Join(splTuple);
+        if (stream.getPortNumber() == 1) {
+            final TraceStamp previous = traceStart(splTuple);
+            try {
+                joiner.port1Join(splTuple);
+            } finally {
+                traceEnd(previous);
+            }
+        }
     }
 
     public String getJoinKeyGetter() {
@@ -62,4 +76,13 @@ public class FunctionJoin extends FunctionWindow {
     public void setJoinKeyGetter(String joinKeyGetter) {
         this.joinKeyGetter = joinKeyGetter;
     }
+
+    public String getWindowJoinKeyGetter() {
+        return windowJoinKeyGetter;
+    }
+
+    @Parameter(optional=true)
+    public void setWindowJoinKeyGetter(String windowJoinKeyGetter) {
+        this.windowJoinKeyGetter = windowJoinKeyGetter;
+    }
 }
@@ -0,0 +1,244 @@
+/*
+# Licensed Materials - Property of IBM
+# Copyright IBM Corp. 2026
+ */
+package com.ibm.streamsx.topology.internal.functional.ops;
+
+import static com.ibm.streamsx.topology.internal.functional.FunctionalHelper.getInputMapping;
+import static com.ibm.streamsx.topology.internal.functional.FunctionalHelper.getLogicObject;
+import static com.ibm.streamsx.topology.internal.functional.FunctionalHelper.getOutputMapping;
+
+import java.io.IOException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import com.ibm.streams.operator.OperatorContext;
+import com.ibm.streams.operator.OutputTuple;
+import com.ibm.streams.operator.StreamingInput;
+import com.ibm.streams.operator.StreamingOutput;
+import com.ibm.streams.operator.Tuple;
+import com.ibm.streams.operator.model.Icons;
+import com.ibm.streams.operator.model.InputPortSet;
+import com.ibm.streams.operator.model.InputPorts;
+import com.ibm.streams.operator.model.OutputPortSet;
+import com.ibm.streams.operator.model.OutputPorts;
+import com.ibm.streams.operator.model.Parameter;
+import com.ibm.streams.operator.model.PrimitiveOperator;
+import com.ibm.streams.operator.state.Checkpoint;
+import com.ibm.streams.operator.state.CheckpointContext;
+import com.ibm.streams.operator.state.ConsistentRegionContext;
+import com.ibm.streams.operator.state.StateHandler;
+import com.ibm.streamsx.topology.function.BiFunction;
+import com.ibm.streamsx.topology.function.Function;
+import com.ibm.streamsx.topology.internal.functional.FunctionalHandler;
+import com.ibm.streamsx.topology.internal.functional.window.LastValueTable;
+import com.ibm.streamsx.topology.internal.logic.ObjectUtils;
+import com.ibm.streamsx.topology.internal.spljava.SPLMapping;
+import com.ibm.streamsx.topology.internal.spljava.TraceStamp;
+
+/**
+ * Join tuples arriving on port 1 with the last tuple
+ * with a matching key that arrived on port 0.
+ * <BR>
+ * The last tuples are held in a {@link LastValueTable}
+ * rather than a partitioned window of one tuple.
+ * <BR>
+ * When checkpointing or a consistent region is configured
+ * the table is checkpointed by a {@link StateHandler}.
+ */
+@PrimitiveOperator(name="JoinLast")
+@InputPorts({
+        @InputPortSet(cardinality = 1),
+        @InputPortSet(cardinality = 1) })
+@OutputPorts(@OutputPortSet(cardinality = 1))
+@Icons(location16 = "opt/icons/join_16.gif", location32 = "opt/icons/join_32.gif")
+public class FunctionJoinLast extends FunctionFunctor {
+
+    private String keyGetter;
+    private String joinKeyGetter;
+    private int maxKeys;
+    private long expiry;
+
+    private FunctionalHandler<BiFunction<Object, Object, Object>> joinerHandler;
+    private Function<Object, Object> lastKey;
+    private boolean lastKeyThreadSafe;
+    private Function<Object, Object> joinKey;
+    private boolean joinKeyThreadSafe;
+
+    private SPLMapping<Object> input0Mapping;
+    private SPLMapping<Object> input1Mapping;
+    private SPLMapping<Object> outputMapping;
+    private StreamingOutput<OutputTuple> output;
+
+    private LastValueTable<Object, Object> table;
+    private ScheduledFuture<?> purger;
+
+    @Override
+    public synchronized void initialize(OperatorContext context)
+            throws Exception {
+        super.initialize(context);
+
+        joinerHandler = createLogicHandler();
+        lastKey = getLogicObject(getKeyGetter());
+        lastKeyThreadSafe = ObjectUtils.isThreadSafe(lastKey);
+        joinKey = getLogicObject(getJoinKeyGetter());
+        joinKeyThreadSafe = ObjectUtils.isThreadSafe(joinKey);
+
+        input0Mapping = getInputMapping(this, 0);
+        input1Mapping = getInputMapping(this, 1);
+        outputMapping = getOutputMapping(this, 0);
+        output = getOutput(0);
+
+        table = new LastValueTable<>(getMaxKeys(), getExpiry());
+        if (getExpiry() > 0)
+            purger = context.getScheduledExecutorService().scheduleWithFixedDelay(
+                    table::purge, getExpiry(), getExpiry(), TimeUnit.MILLISECONDS);
+
+        if (context.getOptionalContext(CheckpointContext.class) != null
+                || context.getOptionalContext(ConsistentRegionContext.class) != null)
+            context.registerStateHandler(new TableStateHandler(table));
+    }
+
+    /**
+     * Checkpoints the last tuples for each key.
+     */
+    private static final class TableStateHandler implements StateHandler {
+        private final LastValueTable<Object, Object> table;
+
+        TableStateHandler(LastValueTable<Object, Object> table) {
+            this.table = table;
+        }
+
+        @Override
+        public void checkpoint(Checkpoint checkpoint) throws Exception {
+            table.checkpoint(checkpoint.getOutputStream());
+        }
+
+        @Override
+        public void drain() throws Exception {
+        }
+
+        @Override
+        public void reset(Checkpoint checkpoint) throws Exception {
+            table.reset(checkpoint.getInputStream());
+        }
+
+        @Override
+        public void resetToInitialState() throws Exception {
+            table.clear();
+        }
+
+        @Override
+        public void retireCheckpoint(long id) throws Exception {
+        }
+
+        @Override
+        public void close() throws IOException {
+        }
+    }
+
+    /**
+     * Tuples on port 0 replace the last tuple for their key,
+     * tuples on port 1 are joined with the last tuple for their key.
+     */
+    @Override
+    public void process(StreamingInput<Tuple> stream, Tuple splTuple)
+            throws Exception {
+        if (stream.getPortNumber() == 0) {
+            final Object value = input0Mapping.convertFrom(splTuple);
+            table.put(key(lastKey, lastKeyThreadSafe, value), value);
+            return;
+        }
+
+        final TraceStamp previous = traceStart(splTuple);
+        try {
+            join(input1Mapping.convertFrom(splTuple));
+        } finally {
+            traceEnd(previous);
+        }
+    }
+
+    private void join(Object tTuple) throws Exception {
+        final Object last = table.get(key(joinKey, joinKeyThreadSafe, tTuple));
+
+        final BiFunction<Object, Object, Object> joiner = joinerHandler.getLogic();
+        final Object jTuple;
+        final long start = latencyStart();
+        if (joinerHandler.isThreadSafe()) {
+            jTuple = joiner.apply(tTuple, last);
+        } else {
+            synchronized (joiner) {
+                jTuple = joiner.apply(tTuple, last);
+            }
+        }
+        latencyEnd(start);
+
+        if (jTuple != null)
+            output.submit(outputMapping.convertTo(jTuple));
+    }
+
+    private static Object key(Function<Object, Object> keyer, boolean threadSafe, Object tuple) {
+        if (threadSafe)
+            return keyer.apply(tuple);
+        synchronized (keyer) {
+            return keyer.apply(tuple);
+        }
+    }
+
+    @Override
+    public synchronized void shutdown() throws Exception {
+        if (purger != null)
+            purger.cancel(false);
+        super.shutdown();
+    }
+
+    public String getKeyGetter() {
+        return keyGetter;
+    }
+
+    /**
+     * Key getter for tuples on port 0.
+     */
+    @Parameter
+    public void setKeyGetter(String keyGetter) {
+        this.keyGetter = keyGetter;
+    }
+
+    public String getJoinKeyGetter() {
+        return joinKeyGetter;
+    }
+
+    /**
+     * Key getter for tuples on port 1.
+     */
+    @Parameter
+    public void setJoinKeyGetter(String joinKeyGetter) {
+        this.joinKeyGetter = joinKeyGetter;
+    }
+
+    public int getMaxKeys() {
+        return maxKeys;
+    }
+
+    /**
+     * Maximum number of keys held, the least
+     * recently updated keys are removed first.
+     */
+    @Parameter(optional=true)
+    public void setMaxKeys(int maxKeys) {
+        this.maxKeys = maxKeys;
+    }
+
+    public long getExpiry() {
+        return expiry;
+    }
+
+    /**
+     * Time in milliseconds a key's last
+     * tuple is held after it arrived.
+     */
+    @Parameter(optional=true)
+    public void setExpiry(long expiry) {
+        this.expiry = expiry;
+    }
+}
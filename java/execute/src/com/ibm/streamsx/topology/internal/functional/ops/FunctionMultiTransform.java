@@ -44,9 +44,15 @@ public class FunctionMultiTransform extends FunctionQueueableFunctor {
         
         final Function<Object, Iterable<Object>> transform = transformHandler.getLogic();
         Iterable<Object> modValues;
-        synchronized (transform) {
+        final long start = latencyStart();
+        if (transformHandler.isThreadSafe()) {
             modValues = transform.apply(tuple);
+        } else {
+            synchronized (transform) {
+                modValues = transform.apply(tuple);
+            }
         }
+        latencyEnd(start);
         if (modValues != null) {
             for (Object modValue : modValues) {
                 if (modValue != null)
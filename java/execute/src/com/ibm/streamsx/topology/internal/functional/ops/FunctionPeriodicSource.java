@@ -21,6 +21,7 @@ import com.ibm.streamsx.topology.function.Supplier;
 import com.ibm.streamsx.topology.internal.functional.FunctionalHandler;
 import com.ibm.streamsx.topology.internal.functional.FunctionalHelper;
 import com.ibm.streamsx.topology.internal.spljava.SPLMapping;
+import com.ibm.streamsx.topology.internal.spljava.TraceStamp;
 
 @PrimitiveOperator
 @OutputPortSet(cardinality = 1)
@@ -39,6 +40,7 @@ public class FunctionPeriodicSource extends PollingTupleProducer implements Func
     private String[] jar;
     private String[] submissionParamNames;
     private String[] submissionParamValues;
+    private double latencyTraceFraction;
     private StreamingOutput<OutputTuple> output;
     
     private FunctionContext functionContext;
@@ -54,6 +56,8 @@ public class FunctionPeriodicSource extends PollingTupleProducer implements Func
         
         output = getOutput(0);
         mapping = getOutputMapping(this, 0);
+        if (latencyTraceFraction > 0.0)
+            TraceStamp.enable();
         
         dataHandler = FunctionalOpUtils.createFunctionHandler(
                 getOperatorContext(), getFunctionContext(), getFunctionalLogic());
@@ -98,6 +102,18 @@ public class FunctionPeriodicSource extends PollingTupleProducer implements Func
     public final void setSubmissionParamValues(String[] SubmissionParamValues) {
         this.submissionParamValues = SubmissionParamValues;
     }
+
+    public final double getLatencyTraceFraction() {
+        return latencyTraceFraction;
+    }
+
+    /**
+     * Fraction of the submitted tuples sampled for latency tracing.
+     */
+    @Parameter(optional = true)
+    public final void setLatencyTraceFraction(double latencyTraceFraction) {
+        this.latencyTraceFraction = latencyTraceFraction;
+    }
     
     @Override
     protected void fetchTuples() throws Exception {
@@ -107,7 +123,24 @@ public class FunctionPeriodicSource extends PollingTupleProducer implements Func
                 return;
             if (tuple == null)
                 continue;
+            submit(tuple);
+        }
+    }
+
+    /**
+     * Submit a tuple, sampling it for latency tracing.
+     */
+    private void submit(Object tuple) throws Exception {
+        final TraceStamp stamp = TraceStamp.sample(latencyTraceFraction);
+        if (stamp == null) {
+            output.submit(mapping.convertTo(tuple));
+            return;
+        }
+        TraceStamp.setCurrent(stamp);
+        try {
             output.submit(mapping.convertTo(tuple));
+        } finally {
+            TraceStamp.setCurrent(null);
         }
     }
     
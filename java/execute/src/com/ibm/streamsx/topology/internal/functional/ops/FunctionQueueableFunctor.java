@@ -6,6 +6,9 @@ package com.ibm.streamsx.topology.internal.functional.ops;
 
 import static com.ibm.streamsx.topology.internal.functional.FunctionalHelper.getInputMapping;
 
+import java.io.IOException;
+import java.util.Locale;
+
 import com.ibm.streams.flow.handlers.StreamHandler;
 import com.ibm.streams.operator.OperatorContext;
 import com.ibm.streams.operator.StreamingData.Punctuation;
@@ -13,6 +16,7 @@ import com.ibm.streams.operator.StreamingInput;
 import com.ibm.streams.operator.Tuple;
 import com.ibm.streams.operator.model.Parameter;
 import com.ibm.streamsx.topology.internal.spljava.SPLMapping;
+import com.ibm.streamsx.topology.internal.spljava.TraceStamp;
 
 /**
  * Queuing functional operator with a queue on port 0 if:
@@ -21,13 +25,18 @@ import com.ibm.streamsx.topology.internal.spljava.SPLMapping;
  * AND
  * The input port is not connected to a PE port. In this case
  * there is already a thread for the processing.
+ * 
+ * Parameter queueWaitStrategy selects how the threads
+ * wait on the queue, one of spin, yield or park (the default).
  */
 abstract class FunctionQueueableFunctor extends FunctionFunctor implements StreamHandler<Object> {
     
     private int queueSize;
+    private String queueWaitStrategy;
     
     private SPLMapping<?> inputMapping;
     private StreamHandler<Object> handler;
+    private FunctionalQueue<Object> queue;
     
     @Override
     public synchronized void initialize(OperatorContext context)
@@ -36,15 +45,41 @@ abstract class FunctionQueueableFunctor extends FunctionFunctor implements Strea
         inputMapping = getInputMapping(this, 0);
         if (getQueueSize() <=0 || getInput(0).isConnectedToPEPort())
             handler = this; // not queued
-        else
-            handler = new FunctionalQueue<Object>(context, getQueueSize(), this);
+        else {
+            QueueWaitStrategy wait = getQueueWaitStrategy() == null ? QueueWaitStrategy.PARK
+                    : QueueWaitStrategy.valueOf(getQueueWaitStrategy().toUpperCase(Locale.US));
+            handler = queue = new FunctionalQueue<Object>(context, getQueueSize(), wait, this);
+        }
+    }
+    
+    @Override
+    public void close() throws IOException {
+        if (queue != null)
+            queue.stop();
+        super.close();
     }
     
     @Override
     public final void process(StreamingInput<Tuple> stream, Tuple tuple)
             throws Exception {
-        Object value = inputMapping.convertFrom(tuple);
-        handler.tuple(value);
+        final TraceStamp previous = traceStart(tuple);
+        try {
+            Object value = inputMapping.convertFrom(tuple);
+            if (handler == this)
+                tuple(tuple, value);
+            else
+                handler.tuple(value);
+        } finally {
+            traceEnd(previous);
+        }
+    }
+    
+    /**
+     * Process a tuple that is not queued.
+     * @param splTuple SPL tuple {@code value} was converted from.
+     */
+    void tuple(Tuple splTuple, Object value) throws Exception {
+        tuple(value);
     }
     
     @Override
@@ -62,4 +97,13 @@ abstract class FunctionQueueableFunctor extends FunctionFunctor implements Strea
     public void setQueueSize(int queueSize) {
         this.queueSize = queueSize;
     }
+
+    public String getQueueWaitStrategy() {
+        return queueWaitStrategy;
+    }
+
+    @Parameter(optional=true)
+    public void setQueueWaitStrategy(String queueWaitStrategy) {
+        this.queueWaitStrategy = queueWaitStrategy;
+    }
 }
@@ -13,6 +13,7 @@ import com.ibm.streams.operator.model.Parameter;
 import com.ibm.streamsx.topology.function.Consumer;
 import com.ibm.streamsx.topology.internal.functional.FunctionalHandler;
 import com.ibm.streamsx.topology.internal.spljava.SPLMapping;
+import com.ibm.streamsx.topology.internal.spljava.TraceStamp;
 
 public abstract class FunctionSink extends FunctionFunctor {
     private FunctionalHandler<Consumer<Object>> sinkerHandler;
@@ -42,10 +43,21 @@ public abstract class FunctionSink extends FunctionFunctor {
     @Override
     public void process(StreamingInput<Tuple> stream, Tuple tuple)
             throws Exception {
-        Object value = mapping.convertFrom(tuple);
-        final Consumer<Object> sinker = sinkerHandler.getLogic();
-        synchronized (sinker) {
-            sinker.accept(value);
+        final TraceStamp previous = traceStart(tuple);
+        try {
+            Object value = mapping.convertFrom(tuple);
+            final Consumer<Object> sinker = sinkerHandler.getLogic();
+            final long start = latencyStart();
+            if (sinkerHandler.isThreadSafe()) {
+                sinker.accept(value);
+            } else {
+                synchronized (sinker) {
+                    sinker.accept(value);
+                }
+            }
+            latencyEnd(start);
+        } finally {
+            traceEnd(previous);
         }
     }
 }
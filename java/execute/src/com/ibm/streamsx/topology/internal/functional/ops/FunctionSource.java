@@ -8,6 +8,8 @@ import static com.ibm.streamsx.topology.internal.functional.FunctionalHelper.get
 import static com.ibm.streamsx.topology.internal.functional.ops.FunctionalOpUtils.throwError;
 
 import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.List;
 
 import com.ibm.streams.operator.OperatorContext;
 import com.ibm.streams.operator.OperatorContext.ContextCheck;
@@ -17,11 +19,13 @@ import com.ibm.streams.operator.StreamingOutput;
 import com.ibm.streams.operator.compile.OperatorContextChecker;
 import com.ibm.streams.operator.model.Parameter;
 import com.ibm.streams.operator.samples.patterns.ProcessTupleProducer;
+import com.ibm.streamsx.topology.function.BatchSupplier;
 import com.ibm.streamsx.topology.function.FunctionContext;
 import com.ibm.streamsx.topology.function.Supplier;
 import com.ibm.streamsx.topology.internal.functional.FunctionalHandler;
 import com.ibm.streamsx.topology.internal.functional.FunctionalHelper;
 import com.ibm.streamsx.topology.internal.spljava.SPLMapping;
+import com.ibm.streamsx.topology.internal.spljava.TraceStamp;
 import com.ibm.streamsx.topology.spi.operators.FunctionalOperator;
 
 public abstract class FunctionSource extends ProcessTupleProducer implements Functional, Closeable, FunctionalOperator {
@@ -31,6 +35,11 @@ public abstract class FunctionSource extends ProcessTupleProducer implements Fun
         FunctionalOpUtils.checkNotConsistentRegionSource(checker);
     }
 
+    /**
+     * Number of tuples requested from a {@link BatchSupplier} per call.
+     */
+    static final int BATCH_SIZE = 256;
+
     private FunctionalHandler<Supplier<Iterable<Object>>> dataHandler;
     private SPLMapping<Object> mapping;
 
@@ -39,6 +48,7 @@ public abstract class FunctionSource extends ProcessTupleProducer implements Fun
     private String[] jar;
     private String[] submissionParamNames;
     private String[] submissionParamValues;
+    private double latencyTraceFraction;
     private StreamingOutput<OutputTuple> output;
      
     private FunctionOperatorContext functionContext;
@@ -57,6 +67,8 @@ public abstract class FunctionSource extends ProcessTupleProducer implements Fun
             output = getOutput(0);
                 
             mapping = getOutputMapping(this, 0, outputSerializer);
+            if (latencyTraceFraction > 0.0)
+                TraceStamp.enable();
             
             dataHandler = FunctionalOpUtils.createFunctionHandler(
                     getOperatorContext(), getFunctionContext(), getFunctionalLogic());
@@ -117,17 +129,36 @@ public abstract class FunctionSource extends ProcessTupleProducer implements Fun
         this.outputSerializer = outputSerializer;
     }
 
+    public final double getLatencyTraceFraction() {
+        return latencyTraceFraction;
+    }
+
+    /**
+     * Fraction of the submitted tuples sampled for latency tracing.
+     */
+    @Parameter(optional = true)
+    public final void setLatencyTraceFraction(double latencyTraceFraction) {
+        this.latencyTraceFraction = latencyTraceFraction;
+    }
+
     @Override
     protected final void process() throws Exception {
 
         try {
             Supplier<Iterable<Object>> data = getLogic();
-            for (Object tuple : data.get()) {
-                if (Thread.interrupted())
+            if (data instanceof BatchSupplier) {
+                @SuppressWarnings("unchecked")
+                BatchSupplier<Object> batches = (BatchSupplier<Object>) data;
+                if (!submitBatches(batches))
                     return;
-                if (tuple == null)
-                    continue;
-                output.submit(mapping.convertTo(tuple));
+            } else {
+                for (Object tuple : data.get()) {
+                    if (Thread.interrupted())
+                        return;
+                    if (tuple == null)
+                        continue;
+                    submit(tuple);
+                }
             }
         } catch (Exception e) {
             throw throwError(exception(e));
@@ -139,6 +170,47 @@ public abstract class FunctionSource extends ProcessTupleProducer implements Fun
         functionContext.finalMarkers();
     }
     
+    /**
+     * Submit the tuples from a batch supplier, reusing a single
+     * list for the batches and checking for interruption
+     * once per batch.
+     * @return {@code false} if the thread was interrupted.
+     */
+    private boolean submitBatches(BatchSupplier<Object> data) throws Exception {
+        final List<Object> batch = new ArrayList<>(BATCH_SIZE);
+        boolean more;
+        do {
+            if (Thread.interrupted())
+                return false;
+            more = data.fill(batch, BATCH_SIZE);
+            final int n = batch.size();
+            for (int i = 0; i < n; i++) {
+                final Object tuple = batch.get(i);
+                if (tuple != null)
+                    submit(tuple);
+            }
+            batch.clear();
+        } while (more);
+        return true;
+    }
+
+    /**
+     * Submit a tuple, sampling it for latency tracing.
+     */
+    private void submit(Object tuple) throws Exception {
+        final TraceStamp stamp = TraceStamp.sample(latencyTraceFraction);
+        if (stamp == null) {
+            output.submit(mapping.convertTo(tuple));
+            return;
+        }
+        TraceStamp.setCurrent(stamp);
+        try {
+            output.submit(mapping.convertTo(tuple));
+        } finally {
+            TraceStamp.setCurrent(null);
+        }
+    }
+
     @Override
     public void shutdown() throws Exception {
         try {
@@ -20,6 +20,7 @@ import com.ibm.streams.operator.model.PrimitiveOperator;
 import com.ibm.streamsx.topology.function.ToIntFunction;
 import com.ibm.streamsx.topology.internal.functional.FunctionalHandler;
 import com.ibm.streamsx.topology.internal.spljava.SPLMapping;
+import com.ibm.streamsx.topology.internal.spljava.TraceStamp;
 
 @PrimitiveOperator(name="Split")
 @InputPortSet(cardinality = 1)
@@ -28,7 +29,7 @@ import com.ibm.streamsx.topology.internal.spljava.SPLMapping;
 public class FunctionSplit extends FunctionFunctor {
 
     private FunctionalHandler<ToIntFunction<Object>> splitterHandler;
-    private SPLMapping<?> mapping;
+    private SPLMapping<Object> mapping;
     private int n;
     private List<StreamingOutput<OutputTuple>> oports;
 
@@ -48,15 +49,25 @@ public class FunctionSplit extends FunctionFunctor {
     @Override
     public void process(StreamingInput<Tuple> stream, Tuple tuple)
             throws Exception {
-        Object value = mapping.convertFrom(tuple);
+        final TraceStamp previous = traceStart(tuple);
+        try {
+            Object value = mapping.convertFrom(tuple);
 
-        
-        final ToIntFunction<Object> splitter = splitterHandler.getLogic();
-        int r;
-        synchronized (splitter) {
-            r = splitter.applyAsInt(value);
+            final ToIntFunction<Object> splitter = splitterHandler.getLogic();
+            int r;
+            final long start = latencyStart();
+            if (splitterHandler.isThreadSafe()) {
+                r = splitter.applyAsInt(value);
+            } else {
+                synchronized (splitter) {
+                    r = splitter.applyAsInt(value);
+                }
+            }
+            latencyEnd(start);
+            if (r >= 0)
+                oports.get(r % n).submit(mapping.forward(tuple, value));
+        } finally {
+            traceEnd(previous);
         }
-        if (r >= 0)
-            oports.get(r % n).submit(tuple);
     }
 }
@@ -10,9 +10,11 @@ import com.ibm.streams.operator.OperatorContext;
 import com.ibm.streams.operator.OutputTuple;
 import com.ibm.streams.operator.StreamingData.Punctuation;
 import com.ibm.streams.operator.StreamingOutput;
+import com.ibm.streams.operator.Tuple;
 import com.ibm.streams.operator.model.Icons;
 import com.ibm.streams.operator.model.InputPortSet;
 import com.ibm.streams.operator.model.OutputPortSet;
+import com.ibm.streams.operator.model.Parameter;
 import com.ibm.streams.operator.model.PrimitiveOperator;
 import com.ibm.streamsx.topology.function.Function;
 import com.ibm.streamsx.topology.internal.functional.FunctionalHandler;
@@ -27,6 +29,7 @@ public class FunctionTransform extends FunctionQueueableFunctor {
     private FunctionalHandler<Function<Object, Object>> transformHandler;
     private SPLMapping<Object> outputMapping;
     private StreamingOutput<OutputTuple> output;
+    private boolean passByRef;
 
     @Override
     public synchronized void initialize(OperatorContext context)
@@ -39,14 +42,38 @@ public class FunctionTransform extends FunctionQueueableFunctor {
     }
     
     public void tuple(Object value) throws Exception {
+        transform(null, value);
+    }
+    
+    @Override
+    void tuple(Tuple splTuple, Object value) throws Exception {
+        transform(isPassByRef() ? splTuple : null, value);
+    }
+    
+    /**
+     * Transform a value, if the function returns the
+     * value it was passed then the input tuple is forwarded
+     * when it holds the value by reference.
+     */
+    private void transform(Tuple splTuple, Object value) throws Exception {
 
         Object modValue;
         Function<Object, Object> transform = transformHandler.getLogic();
-        synchronized (transform) {
+        final long start = latencyStart();
+        if (transformHandler.isThreadSafe()) {
             modValue = transform.apply(value);
+        } else {
+            synchronized (transform) {
+                modValue = transform.apply(value);
+            }
         }
+        latencyEnd(start);
         if (modValue != null) {
-            output.submit(outputMapping.convertTo(modValue));
+            if (modValue == value && splTuple != null
+                    && outputMapping.canForward(splTuple, modValue))
+                output.submit(splTuple);
+            else
+                output.submit(outputMapping.convertTo(modValue));
         }
     }
     
@@ -54,4 +81,17 @@ public class FunctionTransform extends FunctionQueueableFunctor {
     public void mark(Punctuation mark) throws Exception {
         output.punctuate(mark);
     }
+
+    public boolean isPassByRef() {
+        return passByRef;
+    }
+
+    /**
+     * Set by the topology generator when this operator is
+     * only connected to Java functional operators.
+     */
+    @Parameter(optional=true)
+    public void setPassByRef(boolean passByRef) {
+        this.passByRef = passByRef;
+    }
 }
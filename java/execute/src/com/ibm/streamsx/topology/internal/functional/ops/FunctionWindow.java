@@ -28,8 +28,11 @@ import com.ibm.streamsx.topology.internal.spljava.SPLMapping;
 public abstract class FunctionWindow extends FunctionFunctor {
         
     private String keyGetter;
+    private boolean offHeap;
 
     private Metric nPartitions;
+    private Metric windowStoreBytes;
+    private Metric windowOffHeapBytes;
 
     @Override
     public void initialize(OperatorContext context) throws Exception {
@@ -60,6 +63,26 @@ public abstract class FunctionWindow extends FunctionFunctor {
         this.nPartitions = nPartitions;
     }
 
+    public Metric getWindowStoreBytes() {
+        return windowStoreBytes;
+    }
+
+    @CustomMetric(kind = Kind.GAUGE,
+            description = "Estimated bytes retained by the window's partitions, excluding the tuples.")
+    public void setWindowStoreBytes(Metric windowStoreBytes) {
+        this.windowStoreBytes = windowStoreBytes;
+    }
+
+    public Metric getWindowOffHeapBytes() {
+        return windowOffHeapBytes;
+    }
+
+    @CustomMetric(kind = Kind.GAUGE,
+            description = "Bytes of direct memory allocated to hold the window's tuples off-heap.")
+    public void setWindowOffHeapBytes(Metric windowOffHeapBytes) {
+        this.windowOffHeapBytes = windowOffHeapBytes;
+    }
+
     abstract void createWindowListener(StreamWindow<Tuple> window)
             throws Exception;
 
@@ -74,4 +97,16 @@ public abstract class FunctionWindow extends FunctionFunctor {
     public void setKeyGetter(String keyGetter) {
         this.keyGetter = keyGetter;
     }
+
+    public boolean isOffHeap() {
+        return offHeap;
+    }
+
+    /**
+     * Hold the window's tuples in serialized form off-heap.
+     */
+    @Parameter(optional=true)
+    public void setOffHeap(boolean offHeap) {
+        this.offHeap = offHeap;
+    }
 }
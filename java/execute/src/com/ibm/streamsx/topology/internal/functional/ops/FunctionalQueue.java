@@ -4,77 +4,227 @@
  */
 package com.ibm.streamsx.topology.internal.functional.ops;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
 
 import com.ibm.streams.flow.handlers.StreamHandler;
 import com.ibm.streams.operator.OperatorContext;
 import com.ibm.streams.operator.StreamingData.Punctuation;
+import com.ibm.streams.operator.metrics.Metric;
+import com.ibm.streams.operator.metrics.OperatorMetrics;
 
+/**
+ * Bounded queue between the thread(s) submitting tuples
+ * to an operator and a reader thread that passes them
+ * to the operator's handler.
+ * <BR>
+ * The queue is a ring buffer, writers claim a slot
+ * without locking and the reader drains all available tuples
+ * (up to {@link #MAX_BATCH}) as a single batch, so there is
+ * no lock acquisition or thread hand-off per tuple.
+ * Waiting (by the reader for tuples or writers for space)
+ * is controlled by a {@link QueueWaitStrategy}, a reader
+ * parked by the strategy is unparked by the next writer.
+ * <BR>
+ * Metrics are maintained for the queue depth, the size of the
+ * last batch and the total time writers were blocked on a full queue.
+ */
 class FunctionalQueue<T> implements StreamHandler<T>, Runnable {
 
-    private BlockingQueue<T> queue;
-    
+    /**
+     * Maximum number of tuples passed to the handler in a batch.
+     */
+    private static final int MAX_BATCH = 1024;
+
+    private final AtomicReferenceArray<T> ring;
+    private final int mask;
+
+    /**
+     * Next sequence to be claimed by a writer.
+     */
+    private final AtomicLong tail = new AtomicLong();
+
+    /**
+     * Next sequence to be read, slots for all
+     * earlier sequences are free. Only modified by the reader.
+     */
+    private volatile long head;
+
+    /**
+     * All tuples with an earlier sequence have been
+     * passed to the handler. Only modified by the reader.
+     */
+    private volatile long processed;
+
+    /**
+     * Set by the reader before it parks waiting for tuples,
+     * a writer unparks the reader if it is set.
+     */
+    private volatile boolean readerParked;
+
+    private final QueueWaitStrategy wait;
     private final StreamHandler<T> handler;
     private final Thread reader;
-        
-    FunctionalQueue(OperatorContext context, int size, StreamHandler<T> handler) {
-        this.queue = new ArrayBlockingQueue<>(size);
+
+    private final Metric nQueuedTuples;
+    private final Metric queueBatchSize;
+    private final Metric queueBlockedTime;
+    private final AtomicLong blockedNanos = new AtomicLong();
+
+    FunctionalQueue(OperatorContext context, int size, QueueWaitStrategy wait,
+            StreamHandler<T> handler) {
+        int capacity = Integer.highestOneBit(size);
+        if (capacity < size)
+            capacity <<= 1;
+        this.ring = new AtomicReferenceArray<>(capacity);
+        this.mask = capacity - 1;
+        this.wait = wait;
         this.handler = handler;
 
+        final OperatorMetrics metrics = context.getMetrics();
+        nQueuedTuples = metrics.createCustomMetric("nQueuedTuples",
+                "Number of tuples queued for processing.", Metric.Kind.GAUGE);
+        queueBatchSize = metrics.createCustomMetric("queueBatchSize",
+                "Number of tuples in the last batch taken from the queue.", Metric.Kind.GAUGE);
+        queueBlockedTime = metrics.createCustomMetric("queueBlockedTime",
+                "Total time in milliseconds submitting threads were blocked on a full queue.",
+                Metric.Kind.COUNTER);
+
         reader = context.getThreadFactory().newThread(this);
         reader.setDaemon(false);
         start();
     }
-    
+
     @Override
     public void run() {
-        while (!Thread.interrupted()) {
+        @SuppressWarnings("unchecked")
+        final T[] batch = (T[]) new Object[Math.min(ring.length(), MAX_BATCH)];
+        int idle = 0;
+        while (!Thread.currentThread().isInterrupted()) {
+            final int n = drainTo(batch);
+            if (n == 0) {
+                if (wait.parkReader(idle))
+                    parkReader();
+                else
+                    idle = wait.idle(idle);
+                continue;
+            }
+            idle = 0;
             try {
-                T tuple = queue.take();
-                handler.tuple(tuple);
-
+                for (int i = 0; i < n; i++) {
+                    handler.tuple(batch[i]);
+                    batch[i] = null;
+                }
             } catch (InterruptedException e) {
                 return;
             } catch (Exception e) {
                 throw new RuntimeException(e);
             }
+            final long p = processed + n;
+            processed = p;
+            queueBatchSize.setValue(n);
+            nQueuedTuples.setValue(tail.get() - p);
+        }
+    }
+
+    /**
+     * Park the reader until a writer adds a tuple.
+     * The flag is set before the next slot is checked
+     * and a writer sets the slot before checking the flag
+     * (both volatile), so a tuple cannot be added without
+     * the reader either seeing it or being unparked.
+     */
+    private void parkReader() {
+        readerParked = true;
+        if (ring.get((int) head & mask) == null)
+            LockSupport.park(this);
+        readerParked = false;
+    }
+
+    /**
+     * Take all available tuples (up to the length of batch)
+     * from the queue, freeing their slots.
+     */
+    private int drainTo(T[] batch) {
+        final long h = head;
+        int n = 0;
+        while (n < batch.length) {
+            final int index = (int) (h + n) & mask;
+            final T tuple = ring.get(index);
+            if (tuple == null)
+                break;
+            ring.lazySet(index, null);
+            batch[n++] = tuple;
         }
+        if (n != 0)
+            head = h + n;
+        return n;
     }
-    
-    
-    
+
     @Override
-    public synchronized void tuple(T tuple) throws Exception {
-        queue.put(tuple);
+    public void tuple(T tuple) throws Exception {
+        final long seq = claim();
+        ring.set((int) seq & mask, tuple);
+        if (readerParked) {
+            readerParked = false;
+            LockSupport.unpark(reader);
+        }
+    }
+
+    /**
+     * Claim the next sequence, waiting for space if the queue is full.
+     */
+    private long claim() throws InterruptedException {
+        long blockedStart = 0;
+        int idle = 0;
+        for (;;) {
+            final long seq = tail.get();
+            if (seq - head < ring.length()) {
+                if (tail.compareAndSet(seq, seq + 1)) {
+                    if (blockedStart != 0)
+                        blocked(blockedStart);
+                    return seq;
+                }
+                continue;
+            }
+            if (blockedStart == 0)
+                blockedStart = System.nanoTime();
+            idle = wait.idle(idle);
+            if (Thread.interrupted())
+                throw new InterruptedException();
+        }
+    }
+
+    private void blocked(long blockedStart) {
+        final long total = blockedNanos.addAndGet(System.nanoTime() - blockedStart);
+        queueBlockedTime.setValue(TimeUnit.NANOSECONDS.toMillis(total));
     }
-       
+
     /**
      * Ensure all tuples seen before the mark
      * are processed before the mark.
      */
     @Override
     public void mark(Punctuation mark) throws Exception {
-        if (!queue.isEmpty()) {
-            List<T> drained = new ArrayList<T>(queue.size());
-            queue.drainTo(drained);
-            if (!drained.isEmpty()) {
-                for (T tuple : drained)
-                    handler.tuple(tuple);
-            }
+        final long seq = tail.get();
+        int idle = 0;
+        while (processed < seq && reader.isAlive()) {
+            idle = wait.idle(idle);
+            if (Thread.interrupted())
+                throw new InterruptedException();
         }
-        
+
         handler.mark(mark);
     }
-    
+
     void start() {
         reader.start();
     }
-    
+
     void stop() {
         reader.interrupt();
     }
-    
+
 }
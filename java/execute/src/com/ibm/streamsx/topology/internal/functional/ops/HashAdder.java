@@ -18,17 +18,24 @@ import com.ibm.streams.operator.model.OutputPortSet;
 import com.ibm.streams.operator.model.OutputPorts;
 import com.ibm.streams.operator.model.Parameter;
 import com.ibm.streamsx.topology.function.ToIntFunction;
+import com.ibm.streamsx.topology.internal.logic.ObjectUtils;
 import com.ibm.streamsx.topology.internal.spljava.SPLMapping;
 
 /**
  * Generically adds an int32 hash value as the second
  * attribute to a stream.
+ * <BR>
+ * The hasher is synchronized on unless it is thread safe,
+ * as tuples may be processed concurrently, for example from
+ * the union of multiple sources, and a hasher may maintain
+ * state, such as the key counts of hot key routing.
  */
 @InputPorts({@InputPortSet(cardinality = 1)})
 @OutputPorts({@OutputPortSet(cardinality = 1)})
 public abstract class HashAdder extends FunctionFunctor {
     
     private ToIntFunction<Object> hasher;
+    private boolean hasherThreadSafe;
 
     protected SPLMapping<Object> mapping;
     protected StreamingOutput<OutputTuple> output;
@@ -46,6 +53,7 @@ public abstract class HashAdder extends FunctionFunctor {
         super.initialize(context);
         
         hasher = getLogicObject(getFunctionalLogic());
+        hasherThreadSafe = ObjectUtils.isThreadSafe(hasher);
 
         output = getOutput(0);
         mapping = getInputMapping(this, 0, inputSerializer);
@@ -58,7 +66,15 @@ public abstract class HashAdder extends FunctionFunctor {
         Object value = mapping.convertFrom(tuple);
         OutputTuple ot = output.newTuple();
         ot.setObject(0, tuple.getObject(0));
-        ot.setInt(1, hasher.applyAsInt(value));
+        ot.setInt(1, hash(value));
         output.submit(ot);
     }
+
+    private int hash(Object value) {
+        if (hasherThreadSafe)
+            return hasher.applyAsInt(value);
+        synchronized (hasher) {
+            return hasher.applyAsInt(value);
+        }
+    }
 }
@@ -0,0 +1,145 @@
+/*
+# Licensed Materials - Property of IBM
+# Copyright IBM Corp. 2026
+ */
+package com.ibm.streamsx.topology.internal.functional.ops;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import com.ibm.streams.operator.metrics.Metric;
+import com.ibm.streams.operator.metrics.OperatorMetrics;
+
+/**
+ * Histogram of latencies recorded by an operator,
+ * exported as custom metrics.
+ * <BR>
+ * Latencies (in nanoseconds) are counted in buckets with a
+ * log-linear layout (as with HDR histograms), each power of two
+ * range is split into {@link #SUB_BUCKETS} buckets so
+ * a value is reported with a relative error of less than 1/16.
+ * Recording a latency is a single atomic increment with no allocation.
+ * <BR>
+ * Every {@link #update()} (once a second) the counts are taken
+ * and reset, and the 50th, 99th and 99.9th percentiles and the maximum
+ * of the latencies recorded since the previous update are set as
+ * gauge metrics, for example {@code latencyP50}, {@code latencyP99},
+ * {@code latencyP999} and {@code latencyMax} for the latency of calls
+ * to the operator's function. The metrics
+ * are unchanged by an update when no latencies were recorded.
+ */
+final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Counts taken by an update, only accessed by {@link #update()}.
+     */
+    private final long[] snapshot = new long[BUCKETS];
+
+    private final Metric p50;
+    private final Metric p99;
+    private final Metric p999;
+    private final Metric maxMetric;
+
+    /**
+     * Histogram for the latency of calls to the operator's function.
+     */
+    LatencyHistogram(OperatorMetrics metrics) {
+        this(metrics, "latency", "calls to the operator's function");
+    }
+
+    /**
+     * Histogram exported as the metrics {@code name} followed
+     * by {@code P50}, {@code P99}, {@code P999} and {@code Max}.
+     * @param latencyOf Description of what the latency is of.
+     */
+    LatencyHistogram(OperatorMetrics metrics, String name, String latencyOf) {
+        p50 = gauge(metrics, name + "P50", "50th percentile", latencyOf);
+        p99 = gauge(metrics, name + "P99", "99th percentile", latencyOf);
+        p999 = gauge(metrics, name + "P999", "99.9th percentile", latencyOf);
+        maxMetric = gauge(metrics, name + "Max", "Maximum", latencyOf);
+    }
+
+    private static Metric gauge(OperatorMetrics metrics, String name,
+            String statistic, String latencyOf) {
+        return metrics.createCustomMetric(name,
+                statistic + " of the latency in nanoseconds of " + latencyOf + ".",
+                Metric.Kind.GAUGE);
+    }
+
+    /**
+     * Record a latency.
+     */
+    void record(long nanos) {
+        if (nanos < 0)
+            nanos = 0;
+        counts.incrementAndGet(index(nanos));
+        long m;
+        while (nanos > (m = max.get()) && !max.compareAndSet(m, nanos))
+            ;
+    }
+
+    /**
+     * Set the metrics from the latencies recorded since the last update.
+     */
+    synchronized void update() {
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++)
+            total += snapshot[i] = counts.getAndSet(i, 0);
+        final long intervalMax = max.getAndSet(0);
+        if (total == 0)
+            return;
+
+        p50.setValue(percentile(total, 0.5, intervalMax));
+        p99.setValue(percentile(total, 0.99, intervalMax));
+        p999.setValue(percentile(total, 0.999, intervalMax));
+        maxMetric.setValue(intervalMax);
+    }
+
+    /**
+     * Highest value in the bucket containing the
+     * value at {@code fraction} of the counts.
+     */
+    private long percentile(long total, double fraction, long intervalMax) {
+        final long rank = Math.max(1, (long) Math.ceil(total * fraction));
+        long count = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            count += snapshot[i];
+            if (count >= rank)
+                return Math.min(highestValue(i), intervalMax);
+        }
+        return intervalMax;
+    }
+
+    /**
+     * Bucket for a value, values less than {@link #SUB_BUCKETS}
+     * have their own bucket, otherwise the bucket is selected
+     * by the position of the highest set bit and the
+     * {@link #SUB_BUCKET_BITS} bits following it.
+     */
+    static int index(long value) {
+        if (value < SUB_BUCKETS)
+            return (int) value;
+        final int shift = (Long.SIZE - 1 - Long.numberOfLeadingZeros(value)) - SUB_BUCKET_BITS;
+        final int sub = (int) (value >>> shift) & (SUB_BUCKETS - 1);
+        return (shift + 1) * SUB_BUCKETS + sub;
+    }
+
+    /**
+     * Highest value counted in a bucket.
+     */
+    static long highestValue(int index) {
+        if (index < SUB_BUCKETS)
+            return index;
+        final int shift = index / SUB_BUCKETS - 1;
+        final long sub = index % SUB_BUCKETS;
+        final long lowest = (SUB_BUCKETS + sub) << shift;
+        return lowest + (1L << shift) - 1;
+    }
+}
@@ -0,0 +1,82 @@
+/*
+# Licensed Materials - Property of IBM
+# Copyright IBM Corp. 2026
+ */
+package com.ibm.streamsx.topology.internal.functional.ops;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.ibm.streams.operator.AbstractOperator;
+import com.ibm.streams.operator.OperatorContext;
+import com.ibm.streams.operator.OutputTuple;
+import com.ibm.streams.operator.StreamingInput;
+import com.ibm.streams.operator.StreamingOutput;
+import com.ibm.streams.operator.Tuple;
+import com.ibm.streams.operator.model.InputPortSet;
+import com.ibm.streams.operator.model.InputPorts;
+import com.ibm.streams.operator.model.OutputPortSet;
+import com.ibm.streams.operator.model.OutputPorts;
+import com.ibm.streams.operator.model.Parameter;
+
+/**
+ * Routes tuples to the channels of a parallel region,
+ * output port {@code n} is connected to channel {@code n}.
+ * <BR>
+ * Tuples are sent to every channel for {@code BROADCAST} routing,
+ * or to channel {@code __spl_hash % width} when the input
+ * schema has the {@code __spl_hash} attribute (a partitioned region),
+ * otherwise the channels are used round-robin.
+ * <BR>
+ * Used by the embedded context to replicate a parallel region,
+ * it is not an SPL operator.
+ */
+@InputPorts(@InputPortSet(cardinality = 1))
+@OutputPorts(@OutputPortSet(cardinality = -1))
+public class ParallelSplit extends AbstractOperator {
+
+    static final String HASH_ATTRIBUTE = "__spl_hash";
+
+    private String routing;
+
+    private List<StreamingOutput<OutputTuple>> channels;
+    private int width;
+    private boolean broadcast;
+    private int hashIndex = -1;
+    private final AtomicInteger next = new AtomicInteger();
+
+    @Override
+    public synchronized void initialize(OperatorContext context) throws Exception {
+        super.initialize(context);
+        channels = context.getStreamingOutputs();
+        width = channels.size();
+        broadcast = "BROADCAST".equals(getRouting());
+        if (!broadcast && getInput(0).getStreamSchema().getAttribute(HASH_ATTRIBUTE) != null)
+            hashIndex = getInput(0).getStreamSchema().getAttributeIndex(HASH_ATTRIBUTE);
+    }
+
+    @Override
+    public void process(StreamingInput<Tuple> stream, Tuple tuple) throws Exception {
+        if (broadcast) {
+            for (StreamingOutput<OutputTuple> channel : channels)
+                channel.submit(tuple);
+            return;
+        }
+
+        final int channel;
+        if (hashIndex != -1)
+            channel = Math.floorMod(tuple.getInt(hashIndex), width);
+        else
+            channel = Math.floorMod(next.getAndIncrement(), width);
+        channels.get(channel).submit(tuple);
+    }
+
+    public String getRouting() {
+        return routing;
+    }
+
+    @Parameter(optional=true)
+    public void setRouting(String routing) {
+        this.routing = routing;
+    }
+}
@@ -0,0 +1,86 @@
+/*
+# Licensed Materials - Property of IBM
+# Copyright IBM Corp. 2026
+ */
+package com.ibm.streamsx.topology.internal.functional.ops;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * How a thread waits on a {@link FunctionalQueue},
+ * either the reader waiting for tuples or a writer
+ * waiting for space.
+ * <BR>
+ * A waiting thread calls {@link #idle(int)} repeatedly,
+ * passing in the value returned by the previous call,
+ * starting at zero.
+ */
+enum QueueWaitStrategy {
+
+    /**
+     * Busy spin, lowest hand-off latency but
+     * consumes a core while waiting.
+     */
+    SPIN {
+        @Override
+        void waitFor(int attempt) {
+        }
+    },
+
+    /**
+     * Spin briefly then yield the processor.
+     */
+    YIELD {
+        @Override
+        void waitFor(int attempt) {
+            if (attempt >= SPIN_TRIES)
+                Thread.yield();
+        }
+    },
+
+    /**
+     * Spin briefly, then yield and then park.
+     * An idle reader parks until a writer unparks it,
+     * so an idle queue consumes no CPU. A writer waiting
+     * for space parks for a short period.
+     */
+    PARK {
+        @Override
+        void waitFor(int attempt) {
+            if (attempt >= SPIN_TRIES + YIELD_TRIES)
+                LockSupport.parkNanos(PARK_NANOS);
+            else if (attempt >= SPIN_TRIES)
+                Thread.yield();
+        }
+
+        @Override
+        boolean parkReader(int attempt) {
+            return attempt >= SPIN_TRIES + YIELD_TRIES;
+        }
+    };
+
+    private static final int SPIN_TRIES = 100;
+    private static final int YIELD_TRIES = 100;
+    private static final long PARK_NANOS = 50_000L;
+
+    abstract void waitFor(int attempt);
+
+    /**
+     * Should an idle reader park until it is unparked
+     * by a writer, rather than waiting once.
+     * @param attempt Number of previous waits.
+     */
+    boolean parkReader(int attempt) {
+        return false;
+    }
+
+    /**
+     * Wait once.
+     * @param attempt Number of previous waits.
+     * @return Value to pass into the next call.
+     */
+    final int idle(int attempt) {
+        waitFor(attempt);
+        return attempt == Integer.MAX_VALUE ? attempt : attempt + 1;
+    }
+}
@@ -0,0 +1,104 @@
+/*
+# Licensed Materials - Property of IBM
+# Copyright IBM Corp. 2026
+ */
+package com.ibm.streamsx.topology.internal.functional.ops;
+
+import java.util.Locale;
+
+import com.ibm.streams.flow.handlers.StreamHandler;
+import com.ibm.streams.operator.AbstractOperator;
+import com.ibm.streams.operator.OperatorContext;
+import com.ibm.streams.operator.OutputTuple;
+import com.ibm.streams.operator.StreamingData.Punctuation;
+import com.ibm.streams.operator.StreamingInput;
+import com.ibm.streams.operator.StreamingOutput;
+import com.ibm.streams.operator.Tuple;
+import com.ibm.streams.operator.model.InputPortSet;
+import com.ibm.streams.operator.model.InputPorts;
+import com.ibm.streams.operator.model.OutputPortSet;
+import com.ibm.streams.operator.model.OutputPorts;
+import com.ibm.streams.operator.model.Parameter;
+
+/**
+ * Pass through that submits its tuples from its own thread.
+ * <BR>
+ * Tuples are passed to the thread through a {@link FunctionalQueue}
+ * so the operators downstream of this operator run on a different thread
+ * to the operators upstream. Any number of threads may submit
+ * tuples to the input port.
+ * <BR>
+ * Used by the embedded context to place a thread boundary
+ * at an isolated stream and around each channel of a parallel region,
+ * it is not an SPL operator.
+ */
+@InputPorts(@InputPortSet(cardinality = 1))
+@OutputPorts(@OutputPortSet(cardinality = 1))
+public class QueuedPassThrough extends AbstractOperator implements StreamHandler<Tuple> {
+
+    private int queueSize;
+    private String queueWaitStrategy;
+
+    private StreamingOutput<OutputTuple> out;
+    private FunctionalQueue<Tuple> queue;
+
+    @Override
+    public synchronized void initialize(OperatorContext context) throws Exception {
+        super.initialize(context);
+        out = getOutput(0);
+        QueueWaitStrategy wait = getQueueWaitStrategy() == null ? QueueWaitStrategy.PARK
+                : QueueWaitStrategy.valueOf(getQueueWaitStrategy().toUpperCase(Locale.US));
+        queue = new FunctionalQueue<Tuple>(context, getQueueSize(), wait, this);
+    }
+
+    @Override
+    public synchronized void shutdown() throws Exception {
+        if (queue != null)
+            queue.stop();
+        super.shutdown();
+    }
+
+    @Override
+    public void process(StreamingInput<Tuple> stream, Tuple tuple) throws Exception {
+        queue.tuple(tuple);
+    }
+
+    /**
+     * Waits for all queued tuples to be submitted before the mark is forwarded.
+     */
+    @Override
+    public void processPunctuation(StreamingInput<Tuple> port, Punctuation mark) throws Exception {
+        queue.mark(mark);
+        super.processPunctuation(port, mark);
+    }
+
+    /**
+     * Submit a tuple taken from the queue.
+     */
+    @Override
+    public void tuple(Tuple tuple) throws Exception {
+        out.submit(tuple);
+    }
+
+    @Override
+    public void mark(Punctuation mark) throws Exception {
+    }
+
+    public int getQueueSize() {
+        return queueSize;
+    }
+
+    @Parameter
+    public void setQueueSize(int queueSize) {
+        this.queueSize = queueSize;
+    }
+
+    public String getQueueWaitStrategy() {
+        return queueWaitStrategy;
+    }
+
+    @Parameter(optional=true)
+    public void setQueueWaitStrategy(String queueWaitStrategy) {
+        this.queueWaitStrategy = queueWaitStrategy;
+    }
+}
@@ -4,8 +4,6 @@
  */
 package com.ibm.streamsx.topology.internal.functional.window;
 
-import java.util.LinkedList;
-
 import com.ibm.streams.operator.Tuple;
 import com.ibm.streams.operator.window.StreamWindow;
 import com.ibm.streams.operator.window.StreamWindowEvent;
@@ -37,7 +35,7 @@ public class ContinuousAggregatorCountEvict<I, O> extends SlidingSetAggregator<I
      */
     @Override
     protected void postSetUpdate(StreamWindowEvent<Tuple> event,
-            Object partition, LinkedList<I> tuples) throws Exception {
+            Object partition, PartitionTuples<I> tuples) throws Exception {
         switch (event.getType()) {
         case INSERTION:
             aggregate(partition, tuples);
@@ -0,0 +1,114 @@
+/*
+# Licensed Materials - Property of IBM
+# Copyright IBM Corp. 2026
+ */
+package com.ibm.streamsx.topology.internal.functional.window;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.ibm.streams.operator.Tuple;
+import com.ibm.streams.operator.window.StreamWindow;
+import com.ibm.streamsx.topology.function.Function;
+import com.ibm.streamsx.topology.internal.functional.ops.FunctionWindow;
+import com.ibm.streamsx.topology.internal.logic.ObjectUtils;
+
+/**
+ * Join against a window that is not partitioned, using a hash
+ * index over a key of the window's tuples.
+ * <BR>
+ * The index maps each key to the window tuples with that key,
+ * oldest first, so the joiner is only passed the matching tuples
+ * rather than every tuple in the window. Since tuples are always
+ * evicted oldest first the evicted tuple is always the first
+ * tuple of its key's bucket.
+ * <BR>
+ * The index holds the tuples as Java objects, even
+ * when the window's tuples are held off-heap.
+ */
+public class IndexedSlidingJoin<T, U, J> extends SlidingJoin<T, U, J> {
+
+    private final Function<Object, Object> joinKeyGetter;
+    private final Function<Object, Object> windowKeyGetter;
+    private final boolean joinKeyThreadSafe;
+    private final boolean windowKeyThreadSafe;
+
+    public IndexedSlidingJoin(FunctionWindow op, StreamWindow<Tuple> window,
+            Function<Object, Object> joinKeyGetter,
+            Function<Object, Object> windowKeyGetter) throws Exception {
+        super(op, window);
+        this.joinKeyGetter = joinKeyGetter;
+        this.windowKeyGetter = windowKeyGetter;
+        this.joinKeyThreadSafe = ObjectUtils.isThreadSafe(joinKeyGetter);
+        this.windowKeyThreadSafe = ObjectUtils.isThreadSafe(windowKeyGetter);
+    }
+
+    @Override
+    void inserted(PartitionTuples<U> tuples, U tuple) throws Exception {
+        if (tuples.index == null)
+            index(tuples); // includes tuple
+        else
+            add(index(tuples), tuple);
+    }
+
+    @Override
+    void evict(PartitionTuples<U> tuples) throws Exception {
+        if (tuples.index == null) {
+            tuples.discardFirst();
+            return;
+        }
+
+        final Map<Object, TupleRing<U>> index = index(tuples);
+        final Object key = windowKey(tuples.removeFirst());
+        final TupleRing<U> bucket = index.get(key);
+        bucket.removeFirst();
+        if (bucket.isEmpty())
+            index.remove(key);
+    }
+
+    @Override
+    protected List<U> joinTuples(T tTuple, PartitionTuples<U> tuples) throws Exception {
+        final Object key = key(joinKeyGetter, joinKeyThreadSafe, tTuple);
+        final TupleRing<U> bucket = index(tuples).get(key);
+        if (bucket == null)
+            return Collections.emptyList();
+        return bucket;
+    }
+
+    /**
+     * Get the index for a partition, building it
+     * from its tuples if required (e.g. after a reset).
+     */
+    @SuppressWarnings("unchecked")
+    private Map<Object, TupleRing<U>> index(PartitionTuples<U> tuples) {
+        if (tuples.index == null) {
+            final Map<Object, TupleRing<U>> index = new HashMap<>();
+            for (U tuple : tuples)
+                add(index, tuple);
+            tuples.index = index;
+        }
+        return (Map<Object, TupleRing<U>>) tuples.index;
+    }
+
+    private void add(Map<Object, TupleRing<U>> index, U tuple) {
+        final Object key = windowKey(tuple);
+        TupleRing<U> bucket = index.get(key);
+        if (bucket == null)
+            index.put(key, bucket = new TupleRing<U>());
+        bucket.addLast(tuple);
+    }
+
+    private Object windowKey(U tuple) {
+        return key(windowKeyGetter, windowKeyThreadSafe, tuple);
+    }
+
+    private static Object key(Function<Object, Object> keyer, boolean threadSafe, Object tuple) {
+        if (threadSafe)
+            return keyer.apply(tuple);
+        synchronized (keyer) {
+            return keyer.apply(tuple);
+        }
+    }
+}
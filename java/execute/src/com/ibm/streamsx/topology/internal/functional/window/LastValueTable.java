@@ -0,0 +1,269 @@
+/*
+# Licensed Materials - Property of IBM
+# Copyright IBM Corp. 2026
+ */
+package com.ibm.streamsx.topology.internal.functional.window;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Table of the last value seen for each key.
+ * <BR>
+ * Values are held in a single concurrent hash map, so
+ * an update is a single map entry rather than a partitioned
+ * window of one tuple, and {@link #get(Object)} never locks.
+ * <BR>
+ * The table may be bounded by a maximum number of keys
+ * and by an expiry time for values. When bounded each key's
+ * value is held in an entry that is linked in the order the keys
+ * were last updated, the least recently updated keys are removed
+ * when the table is full or when their value expires.
+ * Only updates modify the order, so reads remain lock-free.
+ * An expired value is never returned, even before
+ * it is removed by an update or {@link #purge()}.
+ * <BR>
+ * The table can be checkpointed, a value's age rather than
+ * its update time is checkpointed as {@code System.nanoTime()}
+ * values are not comparable across processes.
+ */
+public final class LastValueTable<K, V> {
+
+    /**
+     * Key used in place of a null key,
+     * which a concurrent hash map does not support.
+     */
+    private static final Object NULL_KEY = new Object();
+
+    private final ConcurrentHashMap<Object, Object> table = new ConcurrentHashMap<>();
+
+    private final int maxKeys;
+    private final long expiry;
+    private final boolean bounded;
+
+    /**
+     * A value and the time it was set, replaced
+     * as a whole so a reader sees a consistent pair.
+     */
+    private static final class Value {
+        final Object value;
+        final long updated;
+
+        Value(Object value, long updated) {
+            this.value = value;
+            this.updated = updated;
+        }
+    }
+
+    /**
+     * Entry for a key of a bounded table, only
+     * linked and unlinked while holding the table's lock.
+     */
+    private static final class Entry {
+        final Object key;
+        volatile Value value;
+        Entry previous;
+        Entry next;
+
+        Entry(Object key) {
+            this.key = key;
+        }
+    }
+
+    // Least and most recently updated entries of a bounded table.
+    private Entry head;
+    private Entry tail;
+
+    /**
+     * @param maxKeys Maximum number of keys, zero for no maximum.
+     * @param expiry Time in milliseconds a value is held after
+     *            its key was last updated, zero for no expiry.
+     */
+    public LastValueTable(int maxKeys, long expiry) {
+        this.maxKeys = maxKeys;
+        this.expiry = TimeUnit.MILLISECONDS.toNanos(expiry);
+        this.bounded = maxKeys > 0 || expiry > 0;
+    }
+
+    /**
+     * Get the last value for {@code key}.
+     * @return Last value, or {@code null} if no value has been seen
+     *         for {@code key} or its value has expired or been removed.
+     */
+    @SuppressWarnings("unchecked")
+    public V get(K key) {
+        final Object held = table.get(key == null ? NULL_KEY : key);
+        if (!bounded || held == null)
+            return (V) held;
+
+        final Value value = ((Entry) held).value;
+        if (expiry != 0 && System.nanoTime() - value.updated >= expiry)
+            return null;
+        return (V) value.value;
+    }
+
+    /**
+     * Set the last value for {@code key}.
+     */
+    public void put(K key, V value) {
+        final Object tk = key == null ? NULL_KEY : key;
+        if (!bounded) {
+            table.put(tk, value);
+            return;
+        }
+
+        final long now = System.nanoTime();
+        synchronized (this) {
+            update(tk, new Value(value, now));
+            evict(now);
+        }
+    }
+
+    private void update(Object tk, Value value) {
+        Entry entry = (Entry) table.get(tk);
+        if (entry == null) {
+            entry = new Entry(tk);
+            entry.value = value;
+            table.put(tk, entry);
+        } else {
+            unlink(entry);
+            entry.value = value;
+        }
+        linkLast(entry);
+    }
+
+    /**
+     * Remove expired values.
+     */
+    public void purge() {
+        if (expiry == 0)
+            return;
+        synchronized (this) {
+            evict(System.nanoTime());
+        }
+    }
+
+    /**
+     * Remove all values.
+     */
+    public void clear() {
+        synchronized (this) {
+            table.clear();
+            head = tail = null;
+        }
+    }
+
+    /**
+     * Write the keys and values to a checkpoint, the keys
+     * and values must be serializable.
+     */
+    public void checkpoint(ObjectOutputStream out) throws IOException {
+        final List<Object> keys = new ArrayList<>();
+        final List<Object> values = new ArrayList<>();
+        final List<Long> ages = new ArrayList<>();
+        if (!bounded) {
+            for (Map.Entry<Object, Object> e : table.entrySet()) {
+                keys.add(e.getKey());
+                values.add(e.getValue());
+            }
+        } else {
+            final long now = System.nanoTime();
+            synchronized (this) {
+                // Least recently updated first, so that
+                // a reset restores the order.
+                for (Entry entry = head; entry != null; entry = entry.next) {
+                    final Value value = entry.value;
+                    keys.add(entry.key);
+                    values.add(value.value);
+                    ages.add(now - value.updated);
+                }
+            }
+        }
+
+        out.writeInt(keys.size());
+        for (int i = 0; i < keys.size(); i++) {
+            final Object key = keys.get(i);
+            out.writeObject(key == NULL_KEY ? null : key);
+            out.writeObject(values.get(i));
+            if (bounded)
+                out.writeLong(ages.get(i));
+        }
+    }
+
+    /**
+     * Replace the keys and values with those
+     * written by {@link #checkpoint(ObjectOutputStream)}.
+     */
+    public void reset(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        final long now = System.nanoTime();
+        synchronized (this) {
+            clear();
+            final int n = in.readInt();
+            for (int i = 0; i < n; i++) {
+                final Object key = in.readObject();
+                final Object tk = key == null ? NULL_KEY : key;
+                final Object value = in.readObject();
+                if (!bounded)
+                    table.put(tk, value);
+                else
+                    update(tk, new Value(value, now - in.readLong()));
+            }
+            if (bounded)
+                evict(now);
+        }
+    }
+
+    /**
+     * Number of keys held, which may include
+     * keys whose values have expired.
+     */
+    public int size() {
+        return table.size();
+    }
+
+    private void evict(long now) {
+        while (head != null) {
+            if (maxKeys > 0 && table.size() > maxKeys) {
+                remove(head);
+            } else if (expiry != 0 && now - head.value.updated >= expiry) {
+                remove(head);
+            } else {
+                break;
+            }
+        }
+    }
+
+    private void remove(Entry entry) {
+        unlink(entry);
+        table.remove(entry.key, entry);
+    }
+
+    private void linkLast(Entry entry) {
+        entry.previous = tail;
+        entry.next = null;
+        if (tail == null)
+            head = entry;
+        else
+            tail.next = entry;
+        tail = entry;
+    }
+
+    private void unlink(Entry entry) {
+        if (entry.previous == null)
+            head = entry.next;
+        else
+            entry.previous.next = entry.next;
+        if (entry.next == null)
+            tail = entry.previous;
+        else
+            entry.next.previous = entry.previous;
+        entry.previous = null;
+        entry.next = null;
+    }
+}
@@ -0,0 +1,271 @@
+/*
+# Licensed Materials - Property of IBM
+# Copyright IBM Corp. 2026
+ */
+package com.ibm.streamsx.topology.internal.functional.window;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+
+import com.ibm.streams.operator.OperatorContext;
+import com.ibm.streams.operator.PERuntime;
+import com.ibm.streams.operator.metrics.Metric;
+import com.ibm.streamsx.topology.spi.runtime.TupleSerializer;
+
+/**
+ * Storage for serialized window tuples outside of the Java heap.
+ * <BR>
+ * Tuples are appended to direct memory segments, a tuple is
+ * identified by a handle containing its segment and offset.
+ * A segment is released once all of its tuples have been freed.
+ * <BR>
+ * Each window partition has its own store, as windows evict
+ * a partition's oldest tuples first its segments are
+ * released in the order they were filled, so the memory held
+ * by a partition is bounded by its tuples and does not
+ * depend on other partitions.
+ * Segments start small and double in size (up to {@link #SEGMENT_SIZE})
+ * while the partition's tuples span more than {@link #GROW_SEGMENTS} segments,
+ * and halve when they fit in a single segment, so that
+ * partitions holding few tuples only use a small amount of memory.
+ * The last released segment is kept for reuse.
+ * <BR>
+ * Accessed while holding the partition's lock, methods are
+ * also synchronized for safety.
+ */
+final class OffHeapStore {
+
+    static final int MIN_SEGMENT_SIZE = 4 * 1024;
+    static final int SEGMENT_SIZE = 1024 * 1024;
+    static final int GROW_SEGMENTS = 4;
+
+    /**
+     * Name of the operator metric tracking the bytes allocated.
+     */
+    static final String OFF_HEAP_BYTES_METRIC = "windowOffHeapBytes";
+
+    private static final class Segment {
+        final int id;
+        final ByteBuffer data;
+        int live;
+
+        Segment(int id, ByteBuffer data) {
+            this.id = id;
+            this.data = data;
+        }
+    }
+
+    private static final class StagingBuffer extends ByteArrayOutputStream {
+        StagingBuffer() {
+            super(256);
+        }
+
+        byte[] bytes() {
+            return buf;
+        }
+    }
+
+    private final TupleSerializer serializer;
+    private final Metric offHeapBytes;
+    private final StagingBuffer staging = new StagingBuffer();
+
+    private Segment[] segments = new Segment[4];
+    private int nextId;
+    private final ArrayDeque<Integer> freeIds = new ArrayDeque<>();
+    private ByteBuffer spare;
+    private Segment current;
+    private int segmentSize = MIN_SEGMENT_SIZE;
+    private int nSegments;
+
+    /**
+     * @param offHeapBytes Metric tracking the bytes allocated,
+     * {@code null} if the store is not used by an operator.
+     */
+    OffHeapStore(TupleSerializer serializer, Metric offHeapBytes) {
+        this.serializer = serializer;
+        this.offHeapBytes = offHeapBytes;
+    }
+
+    /**
+     * Get the off-heap bytes metric of the operator
+     * executing in the current thread, used for stores
+     * restored from a checkpoint.
+     */
+    static Metric operatorMetric() {
+        final OperatorContext context = PERuntime.getCurrentContext();
+        if (context == null)
+            return null;
+        return context.getMetrics().getCustomMetric(OFF_HEAP_BYTES_METRIC);
+    }
+
+    /**
+     * Serialize and store a tuple.
+     * @return Handle for the stored tuple.
+     */
+    synchronized long write(Object tuple) throws IOException {
+        staging.reset();
+        serializer.serialize(tuple, staging);
+        final int length = staging.size();
+        final int required = length + Integer.BYTES;
+
+        if (current == null || current.data.remaining() < required) {
+            final Segment full = current;
+            if (nSegments > GROW_SEGMENTS)
+                segmentSize = Math.min(SEGMENT_SIZE, segmentSize << 1);
+            else if (nSegments == 1 && full.live == 0)
+                segmentSize = Math.max(MIN_SEGMENT_SIZE, segmentSize >> 1);
+            current = allocate(required);
+            if (full != null && full.live == 0)
+                release(full);
+        }
+
+        final ByteBuffer data = current.data;
+        final int offset = data.position();
+        data.putInt(length);
+        data.put(staging.bytes(), 0, length);
+        current.live++;
+        return (((long) current.id) << 32) | offset;
+    }
+
+    /**
+     * Deserialize a stored tuple.
+     */
+    synchronized Object read(long handle) throws IOException, ClassNotFoundException {
+        final ByteBuffer data = segments[(int) (handle >>> 32)].data;
+        final int offset = (int) handle;
+        final int length = data.getInt(offset);
+        return serializer.deserialize(new SegmentInputStream(data,
+                offset + Integer.BYTES, length));
+    }
+
+    /**
+     * Free a stored tuple.
+     */
+    synchronized void free(long handle) {
+        final Segment segment = segments[(int) (handle >>> 32)];
+        if (--segment.live != 0)
+            return;
+        if (segment == current)
+            segment.data.clear();
+        else
+            release(segment);
+    }
+
+    private Segment allocate(int required) {
+        final int id;
+        if (freeIds.isEmpty()) {
+            id = nextId++;
+            if (id == segments.length)
+                segments = Arrays.copyOf(segments, id << 1);
+        } else {
+            id = freeIds.pop();
+        }
+
+        final int size = Math.max(segmentSize, required);
+        ByteBuffer data = spare;
+        spare = null;
+        if (data != null && data.capacity() != size) {
+            discard(data);
+            data = null;
+        }
+        if (data == null) {
+            data = ByteBuffer.allocateDirect(size);
+            if (offHeapBytes != null)
+                offHeapBytes.incrementValue(data.capacity());
+        }
+
+        final Segment segment = new Segment(id, data);
+        segments[id] = segment;
+        nSegments++;
+        return segment;
+    }
+
+    private void release(Segment segment) {
+        segments[segment.id] = null;
+        freeIds.push(segment.id);
+        nSegments--;
+
+        final ByteBuffer data = segment.data;
+        if (spare == null && data.capacity() == segmentSize) {
+            data.clear();
+            spare = data;
+        } else {
+            discard(data);
+        }
+    }
+
+    private void discard(ByteBuffer data) {
+        // Direct memory is freed when the buffer is garbage collected.
+        if (offHeapBytes != null)
+            offHeapBytes.incrementValue(-data.capacity());
+    }
+
+    /**
+     * Release all segments, invalidating all handles.
+     * Called when the partition is evicted from the window.
+     */
+    synchronized void close() {
+        for (int id = 0; id < nextId; id++) {
+            if (segments[id] != null) {
+                discard(segments[id].data);
+                segments[id] = null;
+            }
+        }
+        if (spare != null)
+            discard(spare);
+        spare = null;
+        current = null;
+        nextId = 0;
+        nSegments = 0;
+        freeIds.clear();
+        segmentSize = MIN_SEGMENT_SIZE;
+    }
+
+    /**
+     * Input stream over a tuple in a segment, reading from
+     * a duplicate so the segment's position is not modified.
+     */
+    private static final class SegmentInputStream extends InputStream {
+        private final ByteBuffer data;
+
+        SegmentInputStream(ByteBuffer segment, int position, int length) {
+            data = segment.duplicate();
+            data.limit(position + length);
+            data.position(position);
+        }
+
+        @Override
+        public int read() {
+            if (!data.hasRemaining())
+                return -1;
+            return data.get() & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (len == 0)
+                return 0;
+            if (!data.hasRemaining())
+                return -1;
+            final int n = Math.min(len, data.remaining());
+            data.get(b, off, n);
+            return n;
+        }
+
+        @Override
+        public long skip(long n) {
+            final int skipped = (int) Math.max(0, Math.min(n, data.remaining()));
+            data.position(data.position() + skipped);
+            return skipped;
+        }
+
+        @Override
+        public int available() {
+            return data.remaining();
+        }
+    }
+}
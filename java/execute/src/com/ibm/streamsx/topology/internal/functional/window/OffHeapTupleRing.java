@@ -0,0 +1,166 @@
+/*
+# Licensed Materials - Property of IBM
+# Copyright IBM Corp. 2026
+ */
+package com.ibm.streamsx.topology.internal.functional.window;
+
+import java.io.Serializable;
+import java.util.NoSuchElementException;
+
+import com.ibm.streamsx.topology.spi.runtime.TupleSerializer;
+
+/**
+ * Tuples in a window partition held in serialized form
+ * in an {@link OffHeapStore}.
+ * <BR>
+ * Only the handles of the stored tuples are held on the heap,
+ * in a {@code long} array used as a ring buffer. Tuples are
+ * deserialized each time they are accessed.
+ * <BR>
+ * When checkpointed the deserialized tuples are written, and
+ * restored into a new off-heap partition with the same capacity.
+ *
+ * @param <I> Tuple type.
+ */
+final class OffHeapTupleRing<I> extends PartitionTuples<I> {
+    private static final long serialVersionUID = 1L;
+
+    private static final int MIN_CAPACITY = 2;
+    private static final int HANDLE_BYTES = 8;
+
+    private final transient OffHeapStore store;
+
+    private transient long[] handles;
+    private transient int head;
+    private transient int size;
+
+    OffHeapTupleRing(OffHeapStore store) {
+        this.store = store;
+    }
+
+    private OffHeapTupleRing(OffHeapStore store, int capacity) {
+        this.store = store;
+        if (capacity != 0)
+            handles = new long[capacity];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public I get(int index) {
+        if (index < 0 || index >= size)
+            throw new IndexOutOfBoundsException(Integer.toString(index));
+        try {
+            return (I) store.read(handles[(head + index) & (handles.length - 1)]);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    void addLast(I tuple) throws Exception {
+        final long handle = store.write(tuple);
+        if (handles == null)
+            handles = new long[MIN_CAPACITY];
+        else if (size == handles.length)
+            resize(handles.length << 1);
+        handles[(head + size) & (handles.length - 1)] = handle;
+        size++;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    I removeFirst() throws Exception {
+        final long handle = pollFirst();
+        try {
+            return (I) store.read(handle);
+        } finally {
+            store.free(handle);
+        }
+    }
+
+    @Override
+    void discardFirst() {
+        store.free(pollFirst());
+    }
+
+    /**
+     * Free all the tuples and the store's memory.
+     */
+    @Override
+    void evicted() {
+        while (size != 0)
+            store.free(pollFirst());
+        store.close();
+    }
+
+    private long pollFirst() {
+        if (size == 0)
+            throw new NoSuchElementException();
+        final long handle = handles[head];
+        head = (head + 1) & (handles.length - 1);
+        size--;
+
+        // Release memory after a burst of tuples.
+        if (handles.length > MIN_CAPACITY && size <= (handles.length >> 2))
+            resize(handles.length >> 1);
+        return handle;
+    }
+
+    private void resize(int capacity) {
+        final long[] resized = new long[capacity];
+        final int mask = handles.length - 1;
+        for (int i = 0; i < size; i++)
+            resized[i] = handles[(head + i) & mask];
+        handles = resized;
+        head = 0;
+    }
+
+    @Override
+    long retainedBytes() {
+        if (handles == null)
+            return OBJECT_BYTES;
+        return OBJECT_BYTES + ARRAY_HEADER_BYTES
+                + ((long) handles.length) * HANDLE_BYTES;
+    }
+
+    /**
+     * Checkpoint the deserialized tuples, the off-heap
+     * store is not part of the checkpoint.
+     */
+    private Object writeReplace() {
+        return new Checkpoint(this);
+    }
+
+    /**
+     * Serialized form of an off-heap partition.
+     */
+    private static final class Checkpoint implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private final int capacity;
+        private final Object[] tuples;
+
+        Checkpoint(OffHeapTupleRing<?> ring) {
+            capacity = ring.handles == null ? 0 : ring.handles.length;
+            tuples = ring.toArray();
+        }
+
+        /**
+         * Restore the tuples into a new store.
+         */
+        private Object readResolve() throws Exception {
+            final OffHeapTupleRing<Object> ring = new OffHeapTupleRing<>(
+                    new OffHeapStore(TupleSerializer.JAVA_SERIALIZER,
+                            OffHeapStore.operatorMetric()),
+                    capacity);
+            for (Object tuple : tuples)
+                ring.addLast(tuple);
+            return ring;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+/*
+# Licensed Materials - Property of IBM
+# Copyright IBM Corp. 2026
+ */
+package com.ibm.streamsx.topology.internal.functional.window;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+/**
+ * Tuples in a window partition, oldest first.
+ * Tuples can only be added at the end and removed from the front,
+ * matching count and time based eviction.
+ * <BR>
+ * The list view passed to user functions is read-only.
+ * <BR>
+ * Not thread safe, access is synchronized by the window listener
+ * using the partition's lock.
+ *
+ * @param <I> Tuple type.
+ * 
+ * @see TupleRing
+ * @see OffHeapTupleRing
+ */
+abstract class PartitionTuples<I> extends AbstractList<I> implements RandomAccess, Serializable {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Estimated sizes in bytes, assuming compressed references,
+     * used to report the memory retained by the window.
+     */
+    static final int OBJECT_BYTES = 32;
+    static final int ARRAY_HEADER_BYTES = 16;
+
+    /**
+     * Aggregation state for the partition maintained
+     * by an incremental aggregator. Not checkpointed,
+     * it is recreated from the tuples when needed.
+     */
+    transient Object aggregation;
+    transient boolean hasAggregation;
+
+    /**
+     * Index over the tuples maintained by an indexed join.
+     * Not checkpointed, it is rebuilt from the tuples when needed.
+     */
+    transient Object index;
+
+    abstract void addLast(I tuple) throws Exception;
+
+    /**
+     * Remove and return the oldest tuple.
+     */
+    abstract I removeFirst() throws Exception;
+
+    /**
+     * Remove the oldest tuple, without returning it.
+     */
+    abstract void discardFirst();
+
+    /**
+     * Called when the partition is evicted from the window,
+     * the tuples are not accessed after this call.
+     */
+    void evicted() {
+    }
+
+    /**
+     * Estimated number of bytes retained on the heap by this object,
+     * excluding the tuples themselves.
+     */
+    abstract long retainedBytes();
+}
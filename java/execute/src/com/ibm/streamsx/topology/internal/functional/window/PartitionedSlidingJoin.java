@@ -8,18 +8,25 @@ import com.ibm.streams.operator.Tuple;
 import com.ibm.streams.operator.window.StreamWindow;
 import com.ibm.streamsx.topology.function.Function;
 import com.ibm.streamsx.topology.internal.functional.ops.FunctionWindow;
+import com.ibm.streamsx.topology.internal.logic.ObjectUtils;
 
 public class PartitionedSlidingJoin<T, U, J> extends SlidingJoin<T, U, J> {
 
     private final Function<Object,Object> joinKeyGetter;
+    private final boolean joinKeyThreadSafe;
     public PartitionedSlidingJoin(FunctionWindow op,
             StreamWindow<Tuple> window, Function<Object,Object> joinKeyGetter) throws Exception {
         super(op, window);
         this.joinKeyGetter = joinKeyGetter;
+        this.joinKeyThreadSafe = ObjectUtils.isThreadSafe(joinKeyGetter);
     }
 
     @Override
     protected Object getPort1PartitionKey(T tTuple) {
-        return joinKeyGetter.apply(tTuple);
+        if (joinKeyThreadSafe)
+            return joinKeyGetter.apply(tTuple);
+        synchronized (joinKeyGetter) {
+            return joinKeyGetter.apply(tTuple);
+        }
     }
 }
@@ -0,0 +1,154 @@
+/*
+# Licensed Materials - Property of IBM
+# Copyright IBM Corp. 2026
+ */
+package com.ibm.streamsx.topology.internal.functional.window;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import com.ibm.streams.operator.Tuple;
+import com.ibm.streams.operator.window.StreamWindow;
+import com.ibm.streams.operator.window.StreamWindowEvent;
+import com.ibm.streamsx.topology.internal.functional.ops.FunctionWindow;
+
+/**
+ *
+ * Aggregate session windows, a partition's session is closed
+ * when no tuple has been inserted into it for the gap.
+ * When a session is closed its tuples are aggregated and then
+ * discarded, as with a tumbling window.
+ * <BR>
+ * The runtime window is a tumbling window of a single tuple,
+ * so it retains no tuples, the session's tuples are held
+ * in the partition's state until the session is closed.
+ * Any open sessions are closed on a final punctuation.
+ * @param <I>
+ *            Input tuple type
+ * @param <O>
+ *            Output tuple type
+ */
+public class SessionAggregator<I, O> extends SlidingSetAggregator<I, O> {
+
+    private final long gap;
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * Open sessions by their partition's tuples,
+     * only accessed while holding the lock for this map.
+     */
+    private final Map<PartitionTuples<I>, Session> sessions = new IdentityHashMap<>();
+
+    /**
+     * An open session for a partition, only accessed
+     * while holding the partition's lock.
+     */
+    private final class Session {
+        final Object partition;
+        final PartitionTuples<I> tuples;
+        long lastInsertion;
+
+        Session(Object partition, PartitionTuples<I> tuples) {
+            this.partition = partition;
+            this.tuples = tuples;
+        }
+    }
+
+    /**
+     * @param gap Session gap in milliseconds.
+     */
+    public SessionAggregator(FunctionWindow op, StreamWindow<Tuple> window, long gap)
+            throws Exception {
+        super(op, window);
+        this.gap = TimeUnit.MILLISECONDS.toNanos(gap);
+        this.scheduler = op.getOperatorContext().getScheduledExecutorService();
+    }
+
+    /**
+     * The session's tuples are not evicted by the runtime window.
+     */
+    @Override
+    void evict(PartitionTuples<I> tuples) throws Exception {
+    }
+
+    @Override
+    protected void postSetUpdate(StreamWindowEvent<Tuple> event,
+            Object partition, PartitionTuples<I> tuples) throws Exception {
+        switch (event.getType()) {
+        case INSERTION:
+            Session session;
+            boolean opened = false;
+            synchronized (sessions) {
+                session = sessions.get(tuples);
+                if (session == null) {
+                    sessions.put(tuples, session = new Session(partition, tuples));
+                    opened = true;
+                }
+            }
+            session.lastInsertion = System.nanoTime();
+            if (opened)
+                schedule(session, gap);
+            break;
+        case FINAL:
+            closeAll();
+            break;
+        default:
+            break;
+        }
+    }
+
+    private void schedule(Session session, long delay) {
+        scheduler.schedule(() -> checkSession(session), delay, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Close a session if the gap has passed since its
+     * last tuple, otherwise check it again when the gap
+     * would have passed.
+     * <BR>
+     * The task's future is not kept, so a failure to close the
+     * session is passed to the thread's uncaught exception handler,
+     * as for an exception thrown by any of the operator's threads.
+     */
+    private void checkSession(Session session) {
+        try {
+            synchronized (partitionLock(session.partition)) {
+                final long idle = System.nanoTime() - session.lastInsertion;
+                if (idle < gap) {
+                    schedule(session, gap - idle);
+                    return;
+                }
+                close(session);
+            }
+        } catch (Throwable t) {
+            final Thread thread = Thread.currentThread();
+            thread.getUncaughtExceptionHandler().uncaughtException(thread, t);
+        }
+    }
+
+    private void close(Session session) throws Exception {
+        synchronized (sessions) {
+            if (sessions.remove(session.tuples) == null)
+                return;
+        }
+        flush(session.partition, session.tuples);
+        while (!session.tuples.isEmpty())
+            session.tuples.discardFirst();
+    }
+
+    private void closeAll() throws Exception {
+        final List<Session> open;
+        synchronized (sessions) {
+            open = new ArrayList<>(sessions.values());
+        }
+        for (Session session : open) {
+            synchronized (partitionLock(session.partition)) {
+                close(session);
+            }
+        }
+    }
+}
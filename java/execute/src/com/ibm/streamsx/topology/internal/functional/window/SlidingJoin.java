@@ -6,7 +6,6 @@ package com.ibm.streamsx.topology.internal.functional.window;
 
 import static com.ibm.streamsx.topology.internal.functional.FunctionalHelper.getInputMapping;
 
-import java.util.LinkedList;
 import java.util.List;
 
 import com.ibm.streams.operator.Tuple;
@@ -43,16 +42,26 @@ public class SlidingJoin<T, U, J> extends SlidingSet<U, J> {
      */
     @Override
     void postSetUpdate(StreamWindowEvent<Tuple> event, Object partition,
-            LinkedList<U> tuples) throws Exception {
+            PartitionTuples<U> tuples) throws Exception {
     }
 
     public void port1Join(Tuple splTuple) throws Exception {
         final BiFunction<T, List<U>, J> joiner = joinerHandler.getLogic();
+        final T tTuple = input1Mapping.convertFrom(splTuple);
+        final Object partition = getPort1PartitionKey(tTuple);
+        final PartitionTuples<U> tuples = partitionState(partition);
         J jTuple;
-        synchronized (this) {
-            T tTuple = input1Mapping.convertFrom(splTuple);
-            LinkedList<U> tuples = getPartitionState(getPort1PartitionKey(tTuple));
-            jTuple = joiner.apply(tTuple, tuples);
+        synchronized (partitionLock(partition)) {
+            final List<U> joinTuples = joinTuples(tTuple, tuples);
+            final long start = op.latencyStart();
+            if (joinerHandler.isThreadSafe()) {
+                jTuple = joiner.apply(tTuple, joinTuples);
+            } else {
+                synchronized (joiner) {
+                    jTuple = joiner.apply(tTuple, joinTuples);
+                }
+            }
+            op.latencyEnd(start);
         }
         if (jTuple != null) {
             Tuple splOutTuple = outputMapping.convertTo(jTuple);
@@ -60,6 +69,14 @@ public class SlidingJoin<T, U, J> extends SlidingSet<U, J> {
         }
     }
 
+    /**
+     * Window tuples passed to the joiner with {@code tTuple},
+     * called while holding the partition's lock.
+     */
+    protected List<U> joinTuples(T tTuple, PartitionTuples<U> tuples) throws Exception {
+        return tuples;
+    }
+
     private static final Integer ZERO = 0;
 
     protected Object getPort1PartitionKey(T tTuple) {
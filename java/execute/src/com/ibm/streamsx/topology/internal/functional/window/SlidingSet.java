@@ -7,33 +7,55 @@ package com.ibm.streamsx.topology.internal.functional.window;
 import static com.ibm.streamsx.topology.internal.functional.FunctionalHelper.getInputMapping;
 import static com.ibm.streamsx.topology.internal.functional.FunctionalHelper.getOutputMapping;
 
-import java.util.LinkedList;
-
 import com.ibm.streams.operator.StreamingOutput;
 import com.ibm.streams.operator.Tuple;
 import com.ibm.streams.operator.window.StatefulWindowListener;
 import com.ibm.streams.operator.window.StreamWindow;
 import com.ibm.streams.operator.window.StreamWindowEvent;
+import com.ibm.streams.operator.window.StreamWindowEvent.Type;
 import com.ibm.streamsx.topology.internal.functional.ops.FunctionWindow;
 import com.ibm.streamsx.topology.internal.spljava.SPLMapping;
+import com.ibm.streamsx.topology.internal.spljava.TraceStamp;
+import com.ibm.streamsx.topology.spi.runtime.TupleSerializer;
 
 /**
  * 
- * State is LinkedList<I> input tuples as their Java object, with the oldest
- * tuple first.
+ * State is a PartitionTuples<I> of input tuples, with the oldest
+ * tuple first. Tuples are held as their Java object, or
+ * if the window is off-heap, in serialized form in an {@link OffHeapStore}
+ * for each partition.
+ * <BR>
+ * A partition's tuples are only accessed while holding the
+ * lock for its stripe (see {@link #partitionLock(Object)}), so
+ * events and joins for partitions in different stripes
+ * are processed concurrently.
  * 
  * @param <I>
  *            Input tuple type
  */
 public abstract class SlidingSet<I, O> extends
-        StatefulWindowListener<LinkedList<I>, Tuple> {
+        StatefulWindowListener<PartitionTuples<I>, Tuple> {
 
-    private final FunctionWindow op;
+    protected final FunctionWindow op;
     private final SPLMapping<I> inputMapping;
 
     protected final SPLMapping<O> outputMapping;
     protected final StreamingOutput<?> output;
 
+    private final boolean offHeap;
+
+    /**
+     * Number of lock stripes, must be a power of two.
+     */
+    private static final int STRIPES = 64;
+    private final Object[] stripes = new Object[STRIPES];
+
+    /**
+     * Lock for looking up (and creating) partition state
+     * through the window's map of partitions.
+     */
+    private final Object partitionsLock = new Object();
+
     protected SlidingSet(FunctionWindow op, StreamWindow<Tuple> window)
             throws ClassNotFoundException {
         super(window);
@@ -41,31 +63,59 @@ public abstract class SlidingSet<I, O> extends
         inputMapping = getInputMapping(op, 0);
         output = op.getOutput(0);
         outputMapping = getOutputMapping(op, 0);
+        offHeap = op.isOffHeap();
+        for (int i = 0; i < STRIPES; i++)
+            stripes[i] = new Object();
     }
 
     @Override
-    public synchronized final void handleEvent(StreamWindowEvent<Tuple> event)
+    public final void handleEvent(StreamWindowEvent<Tuple> event)
             throws Exception {
         final Object partition = event.getPartition();
-        LinkedList<I> tuples = getPartitionState(partition);
+        final PartitionTuples<I> tuples = partitionState(partition);
+        if (event.getType() != Type.INSERTION) {
+            synchronized (partitionLock(partition)) {
+                handleEvent(event, partition, tuples);
+            }
+            return;
+        }
+
+        final TraceStamp previous = op.traceStart(event.getTuples().iterator().next());
+        try {
+            synchronized (partitionLock(partition)) {
+                handleEvent(event, partition, tuples);
+            }
+        } finally {
+            op.traceEnd(previous);
+        }
+    }
+
+    private void handleEvent(StreamWindowEvent<Tuple> event, Object partition,
+            PartitionTuples<I> tuples) throws Exception {
+        final long retained = tuples.retainedBytes();
 
         switch (event.getType()) {
         case INSERTION:
             for (Tuple splTuple : event.getTuples()) {
                 I tuple = inputMapping.convertFrom(splTuple);
                 tuples.addLast(tuple);
+                inserted(tuples, tuple);
             }
-
+            updateRetained(tuples, retained);
             break;
         case EVICTION:
+            evicting(partition, tuples);
             // we only support count and time based eviction, which
             // means any eviction is always the oldest N tuples.
             for (@SuppressWarnings("unused") Tuple splTuple : event.getTuples()) {
-                tuples.removeFirst();
+                evict(tuples);
             }
+            updateRetained(tuples, retained);
             break;
         case PARTITION_EVICTION:
+            tuples.evicted();
             op.getnPartitions().incrementValue(-1);
+            op.getWindowStoreBytes().incrementValue(-retained);
             break;
         default:
             break;
@@ -74,13 +124,69 @@ public abstract class SlidingSet<I, O> extends
         postSetUpdate(event, partition, tuples);
     }
 
+    /**
+     * Get the state for a partition, creating it if required.
+     * The returned tuples must only be accessed while holding
+     * the partition's lock.
+     */
+    final PartitionTuples<I> partitionState(Object partition) {
+        synchronized (partitionsLock) {
+            return getPartitionState(partition);
+        }
+    }
+
+    /**
+     * Lock for a partition's stripe.
+     */
+    final Object partitionLock(Object partition) {
+        if (partition == null)
+            return stripes[0];
+        final int h = partition.hashCode();
+        return stripes[(h ^ (h >>> 16)) & (STRIPES - 1)];
+    }
+
+    /**
+     * Track the change in the memory retained by a partition,
+     * which only changes when its ring buffer is resized.
+     */
+    private void updateRetained(PartitionTuples<I> tuples, long retained) {
+        final long delta = tuples.retainedBytes() - retained;
+        if (delta != 0)
+            op.getWindowStoreBytes().incrementValue(delta);
+    }
+
     abstract void postSetUpdate(StreamWindowEvent<Tuple> event,
-            Object partition, LinkedList<I> tuples) throws Exception;
+            Object partition, PartitionTuples<I> tuples) throws Exception;
+
+    /**
+     * Called after a tuple has been added to the end of its partition's tuples.
+     */
+    void inserted(PartitionTuples<I> tuples, I tuple) throws Exception {
+    }
+
+    /**
+     * Called before the tuples of an eviction are removed
+     * from a partition's tuples.
+     */
+    void evicting(Object partition, PartitionTuples<I> tuples) throws Exception {
+    }
+
+    /**
+     * Remove the oldest tuple from a partition's tuples.
+     */
+    void evict(PartitionTuples<I> tuples) throws Exception {
+        tuples.discardFirst();
+    }
 
     @Override
-    protected final LinkedList<I> getInitializedState(Object partition,
-            LinkedList<I> state) {
+    protected final PartitionTuples<I> getInitializedState(Object partition,
+            PartitionTuples<I> state) {
         op.getnPartitions().increment();
-        return new LinkedList<I>();
+        final PartitionTuples<I> tuples = offHeap
+                ? new OffHeapTupleRing<I>(new OffHeapStore(
+                        TupleSerializer.JAVA_SERIALIZER, op.getWindowOffHeapBytes()))
+                : new TupleRing<I>();
+        updateRetained(tuples, state == null ? 0 : state.retainedBytes());
+        return tuples;
     }
 }
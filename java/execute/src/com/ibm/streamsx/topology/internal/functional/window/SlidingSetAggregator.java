@@ -4,21 +4,33 @@
  */
 package com.ibm.streamsx.topology.internal.functional.window;
 
-import java.util.LinkedList;
 import java.util.List;
 
 import com.ibm.streams.operator.Tuple;
 import com.ibm.streams.operator.window.StreamWindow;
 import com.ibm.streamsx.topology.function.Function;
+import com.ibm.streamsx.topology.function.IncrementalAggregator;
 import com.ibm.streamsx.topology.internal.functional.FunctionalHandler;
 import com.ibm.streamsx.topology.internal.functional.ops.FunctionWindow;
 
 /**
  * This is set based aggregation, the user's function is given
  * the complete list of tuples in the window.
- * State is LinkedList<I> input tuples as their Java object, with the newest
- * tuple at the front.
- * 
+ * State is PartitionTuples<I> input tuples as their Java object, with the oldest
+ * tuple first.
+ * <BR>
+ * If the user's logic is an {@link IncrementalAggregator} then it
+ * is driven directly from the window events, each inserted or
+ * evicted tuple updates the partition's aggregation state
+ * (held with the partition's tuples)
+ * and the aggregation is obtained from that state rather
+ * than the complete list of tuples.
+ * <BR>
+ * A partition's tuples and aggregation state are only accessed
+ * while holding the partition's lock, so the user's logic is
+ * only synchronized on when it is not thread safe, as it is
+ * shared by all partitions.
+ *
  * @param <I>
  *            Input tuple type
  * @param <O>
@@ -26,7 +38,7 @@ import com.ibm.streamsx.topology.internal.functional.ops.FunctionWindow;
  */
 public abstract class SlidingSetAggregator<I, O> extends SlidingSet<I, O> {
 
-    private FunctionalHandler<Function<List<I>, O>> aggregatorHandler;
+    private FunctionalHandler<Object> aggregatorHandler;
 
     public SlidingSetAggregator(FunctionWindow op, StreamWindow<Tuple> window)
             throws Exception {
@@ -34,13 +46,114 @@ public abstract class SlidingSetAggregator<I, O> extends SlidingSet<I, O> {
         aggregatorHandler = op.createLogicHandler();
     }
 
-    protected void aggregate(Object partition, LinkedList<I> tuples)
+    @Override
+    void inserted(PartitionTuples<I> tuples, I tuple) throws Exception {
+        final Object logic = aggregatorHandler.getLogic();
+        if (logic instanceof IncrementalAggregator) {
+            final IncrementalAggregator<I, Object, O> aggregator = incremental(logic);
+            if (aggregatorHandler.isThreadSafe()) {
+                add(aggregator, tuples, tuple);
+            } else {
+                synchronized (aggregator) {
+                    add(aggregator, tuples, tuple);
+                }
+            }
+        }
+    }
+
+    @Override
+    void evict(PartitionTuples<I> tuples) throws Exception {
+        final Object logic = aggregatorHandler.getLogic();
+        if (logic instanceof IncrementalAggregator && tuples.hasAggregation) {
+            final IncrementalAggregator<I, Object, O> aggregator = incremental(logic);
+            final I tuple = tuples.removeFirst();
+            if (aggregatorHandler.isThreadSafe()) {
+                tuples.aggregation = aggregator.remove(tuples.aggregation, tuple);
+            } else {
+                synchronized (aggregator) {
+                    tuples.aggregation = aggregator.remove(tuples.aggregation, tuple);
+                }
+            }
+        } else {
+            // State (if required) is recreated from the remaining tuples.
+            tuples.discardFirst();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    protected void aggregate(Object partition, PartitionTuples<I> tuples)
             throws Exception {
-        final Function<List<I>, O> aggregator = aggregatorHandler.getLogic();
-        O aggregation = aggregator.apply(tuples);
+        final Object logic = aggregatorHandler.getLogic();
+        final O aggregation;
+        final long start = op.latencyStart();
+        if (logic instanceof IncrementalAggregator) {
+            final IncrementalAggregator<I, Object, O> aggregator = incremental(logic);
+            if (aggregatorHandler.isThreadSafe()) {
+                aggregation = aggregator.result(incrementalState(aggregator, tuples));
+            } else {
+                synchronized (aggregator) {
+                    aggregation = aggregator.result(incrementalState(aggregator, tuples));
+                }
+            }
+        } else {
+            final Function<List<I>, O> aggregator = (Function<List<I>, O>) logic;
+            if (aggregatorHandler.isThreadSafe()) {
+                aggregation = aggregator.apply(tuples);
+            } else {
+                synchronized (aggregator) {
+                    aggregation = aggregator.apply(tuples);
+                }
+            }
+        }
+        op.latencyEnd(start);
         if (aggregation != null) {
             Tuple splTuple = outputMapping.convertTo(aggregation);
             output.submit(splTuple);
         }
     }
+
+    /**
+     * Aggregate a partition's batch of tuples and discard any aggregation
+     * state, so the next batch starts from the initial state.
+     * The tuples themselves are discarded by the caller.
+     * Nothing is submitted for an empty batch.
+     */
+    void flush(Object partition, PartitionTuples<I> tuples) throws Exception {
+        if (tuples.isEmpty())
+            return;
+        aggregate(partition, tuples);
+        tuples.aggregation = null;
+        tuples.hasAggregation = false;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <I, O> IncrementalAggregator<I, Object, O> incremental(Object logic) {
+        return (IncrementalAggregator<I, Object, O>) logic;
+    }
+
+    private void add(IncrementalAggregator<I, Object, O> aggregator,
+            PartitionTuples<I> tuples, I tuple) {
+        if (tuples.hasAggregation)
+            tuples.aggregation = aggregator.add(tuples.aggregation, tuple);
+        else
+            incrementalState(aggregator, tuples);
+    }
+
+    /**
+     * Get the aggregation state for a partition, creating it
+     * from the partition's current tuples if needed
+     * (for a new partition or after the tuples were restored
+     * from a checkpoint).
+     */
+    private Object incrementalState(IncrementalAggregator<I, Object, O> aggregator,
+            PartitionTuples<I> tuples) {
+        if (!tuples.hasAggregation) {
+            Object state = aggregator.initialState();
+            for (I tuple : tuples)
+                state = aggregator.add(state, tuple);
+            tuples.aggregation = state;
+            tuples.hasAggregation = true;
+        }
+        return tuples.aggregation;
+    }
 }
@@ -0,0 +1,42 @@
+/*
+# Licensed Materials - Property of IBM
+# Copyright IBM Corp. 2026
+ */
+package com.ibm.streamsx.topology.internal.functional.window;
+
+import com.ibm.streams.operator.Tuple;
+import com.ibm.streams.operator.window.StreamWindow;
+import com.ibm.streams.operator.window.StreamWindowEvent;
+import com.ibm.streamsx.topology.internal.functional.ops.FunctionWindow;
+
+/**
+ * 
+ * Aggregate a tumbling window, each time the window
+ * is flushed its batch of tuples is aggregated and then discarded.
+ * An incremental aggregator's state is discarded with the batch
+ * rather than removing each tuple from it.
+ * @param <I>
+ *            Input tuple type
+ * @param <O>
+ *            Output tuple type
+ */
+public class TumblingAggregator<I, O> extends SlidingSetAggregator<I, O> {
+
+    public TumblingAggregator(FunctionWindow op, StreamWindow<Tuple> window)
+            throws Exception {
+        super(op, window);
+    }
+
+    /**
+     * A tumbling window evicts all its tuples when it is flushed.
+     */
+    @Override
+    void evicting(Object partition, PartitionTuples<I> tuples) throws Exception {
+        flush(partition, tuples);
+    }
+
+    @Override
+    protected void postSetUpdate(StreamWindowEvent<Tuple> event,
+            Object partition, PartitionTuples<I> tuples) throws Exception {
+    }
+}
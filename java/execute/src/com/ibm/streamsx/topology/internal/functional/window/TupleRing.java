@@ -0,0 +1,108 @@
+/*
+# Licensed Materials - Property of IBM
+# Copyright IBM Corp. 2026
+ */
+package com.ibm.streamsx.topology.internal.functional.window;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.NoSuchElementException;
+
+/**
+ * Tuples in a window partition held as Java objects.
+ * <BR>
+ * Tuples are held in an array used as a ring buffer that
+ * grows and shrinks with the number of tuples, so a partition costs
+ * a single object and array rather than a node per tuple
+ * (as with a {@code LinkedList}).
+ *
+ * @param <I> Tuple type.
+ */
+final class TupleRing<I> extends PartitionTuples<I> {
+    private static final long serialVersionUID = 1L;
+
+    private static final int MIN_CAPACITY = 2;
+
+    private static final int REFERENCE_BYTES = 4;
+
+    private transient Object[] elements;
+    private transient int head;
+    private transient int size;
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public I get(int index) {
+        if (index < 0 || index >= size)
+            throw new IndexOutOfBoundsException(Integer.toString(index));
+        return (I) elements[(head + index) & (elements.length - 1)];
+    }
+
+    @Override
+    void addLast(I tuple) {
+        if (elements == null)
+            elements = new Object[MIN_CAPACITY];
+        else if (size == elements.length)
+            resize(elements.length << 1);
+        elements[(head + size) & (elements.length - 1)] = tuple;
+        size++;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    I removeFirst() {
+        if (size == 0)
+            throw new NoSuchElementException();
+        final I tuple = (I) elements[head];
+        elements[head] = null;
+        head = (head + 1) & (elements.length - 1);
+        size--;
+
+        // Release memory after a burst of tuples.
+        if (elements.length > MIN_CAPACITY && size <= (elements.length >> 2))
+            resize(elements.length >> 1);
+        return tuple;
+    }
+
+    private void resize(int capacity) {
+        final Object[] resized = new Object[capacity];
+        final int mask = elements.length - 1;
+        for (int i = 0; i < size; i++)
+            resized[i] = elements[(head + i) & mask];
+        elements = resized;
+        head = 0;
+    }
+
+    @Override
+    void discardFirst() {
+        removeFirst();
+    }
+
+    @Override
+    long retainedBytes() {
+        if (elements == null)
+            return OBJECT_BYTES;
+        return OBJECT_BYTES + ARRAY_HEADER_BYTES
+                + ((long) elements.length) * REFERENCE_BYTES;
+    }
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+        out.writeInt(size);
+        for (int i = 0; i < size; i++)
+            out.writeObject(get(i));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        final int n = in.readInt();
+        for (int i = 0; i < n; i++)
+            addLast((I) in.readObject());
+    }
+}
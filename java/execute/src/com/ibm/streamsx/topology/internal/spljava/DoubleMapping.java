@@ -0,0 +1,29 @@
+/*
+# Licensed Materials - Property of IBM
+# Copyright IBM Corp. 2026
+ */
+package com.ibm.streamsx.topology.internal.spljava;
+
+import com.ibm.streams.operator.Tuple;
+
+/**
+ * SPL tuple for a TStream<Double> Uses the SPL schema Schemas.DOUBLE.
+ * The value is held as a native float64 rather than a serialized object.
+ */
+class DoubleMapping extends SPLMapping<Double> {
+
+    // Singleton, as stateless.
+    DoubleMapping() {
+        super(Schemas.DOUBLE);
+    }
+
+    @Override
+    public Tuple convertTo(Double tuple) {
+        return getSchema().getTuple(new Object[] { tuple });
+    }
+
+    @Override
+    public Double convertFrom(Tuple tuple) {
+        return tuple.getDouble(0);
+    }
+}
@@ -19,16 +19,53 @@ public class JavaObjectBlob implements Blob {
     private byte[] data;
     private int len;
     private final Object object;
+    private final TraceStamp stamp;
 
-    JavaObjectBlob(TupleSerializer serializer, Object object) {
+    /**
+     * Serialized form the object was deserialized from,
+     * {@code null} if the object was created in this PE.
+     */
+    private Blob serialized;
+
+    JavaObjectBlob(TupleSerializer serializer, Object object, TraceStamp stamp) {
         this.serializer = serializer;
         this.object = object;
+        this.stamp = stamp;
+    }
+
+    /**
+     * Blob for an object deserialized from {@code serialized}.
+     * The serialized form is kept so that the object is not
+     * serialized again if the tuple is submitted to another PE.
+     */
+    JavaObjectBlob(TupleSerializer serializer, Object object, Blob serialized, TraceStamp stamp) {
+        this(serializer, object, stamp);
+        this.serialized = serialized;
     }
 
     Object getObject() {
         return object;
     }
 
+    /**
+     * Latency trace stamp, {@code null} if the tuple is not traced.
+     */
+    TraceStamp getStamp() {
+        return stamp;
+    }
+
+    /**
+     * Does this blob hold {@code object} to be serialized
+     * with {@code serializer} and has not yet been serialized.
+     * A blob holding the serialized form it was received
+     * with is not a reference, as its object may have been
+     * modified since it was deserialized.
+     */
+    synchronized boolean isUnserializedReference(Object object, TupleSerializer serializer) {
+        return this.object == object && this.serializer == serializer
+                && data == null && serialized == null;
+    }
+
     @Override
     public long getLength() {
         if (data == null)
@@ -79,27 +116,61 @@ public class JavaObjectBlob implements Blob {
 
     /************************/
 
+    /**
+     * Per-thread buffer the object is serialized into, the blob
+     * then keeps an exact sized copy. This avoids allocating (and growing)
+     * a new buffer for every tuple.
+     */
+    private static final ThreadLocal<AB> BUFFER = ThreadLocal.withInitial(AB::new);
+
+    /**
+     * Buffers retained by a thread are limited to this size
+     * to avoid holding onto the memory for an occasional large tuple.
+     */
+    private static final int MAX_RETAINED_BUFFER = 1024 * 1024;
+
     private synchronized void serializeObject() {
+        
+        if (data != null)
+            return;
+
+        if (serialized != null) {
+            data = serialized.getData();
+            len = data.length;
+            serialized = null;
+            return;
+        }
+
+        AB baos = BUFFER.get();
+        final boolean shared = !baos.inUse;
+        if (!shared)
+            baos = new AB();
 
+        baos.inUse = true;
         try {
-            AB baos = new AB();
-            
+            baos.reset();
             serializer.serialize(object, baos);
             len = baos.size();
-            data = baos.data();
+            data = baos.toByteArray();
 
         } catch (IOException e) {
             throw new RuntimeException(e);
+        } finally {
+            baos.inUse = false;
+            if (shared && baos.capacity() > MAX_RETAINED_BUFFER)
+                BUFFER.remove();
         }
     }
 
     static class AB extends ByteArrayOutputStream {
+        boolean inUse;
+
         AB() {
-            super(1024);
+            super(256);
         }
 
-        byte[] data() {
-            return buf;
+        int capacity() {
+            return buf.length;
         }
     }
 
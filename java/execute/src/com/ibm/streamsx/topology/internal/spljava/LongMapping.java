@@ -0,0 +1,29 @@
+/*
+# Licensed Materials - Property of IBM
+# Copyright IBM Corp. 2026
+ */
+package com.ibm.streamsx.topology.internal.spljava;
+
+import com.ibm.streams.operator.Tuple;
+
+/**
+ * SPL tuple for a TStream<Long> Uses the SPL schema Schemas.LONG.
+ * The value is held as a native int64 rather than a serialized object.
+ */
+class LongMapping extends SPLMapping<Long> {
+
+    // Singleton, as stateless.
+    LongMapping() {
+        super(Schemas.LONG);
+    }
+
+    @Override
+    public Tuple convertTo(Long tuple) {
+        return getSchema().getTuple(new Object[] { tuple });
+    }
+
+    @Override
+    public Long convertFrom(Tuple tuple) {
+        return tuple.getLong(0);
+    }
+}
@@ -53,10 +53,44 @@ class SPLJavaObject extends SPLMapping<Object> {
         }
     }
 
+    /**
+     * A tuple can be forwarded if it holds {@code value} by reference
+     * and has not been serialized (so it reflects any changes
+     * made to {@code value}).
+     */
+    @Override
+    public boolean canForward(Tuple tuple, Object value) {
+        if (!getSchema().equals(tuple.getStreamSchema()))
+            return false;
+        Blob blob = tuple.getBlob(0);
+        return blob instanceof JavaObjectBlob
+                && ((JavaObjectBlob) blob).isUnserializedReference(value, serializer);
+    }
+
+    /**
+     * If {@code tuple} holds {@code value} in serialized form (it was
+     * submitted by another PE) then forward a tuple holding both
+     * {@code value} and its serialized form. Downstream operators
+     * in this PE then use {@code value} rather than deserializing
+     * the tuple again, and the serialized form is reused
+     * if the tuple is submitted to another PE.
+     */
+    @Override
+    public Tuple forward(Tuple tuple, Object value) {
+        if (!getSchema().equals(tuple.getStreamSchema()))
+            return tuple;
+        Blob blob = tuple.getBlob(0);
+        if (blob instanceof JavaObjectBlob)
+            return tuple;
+
+        JavaObjectBlob jblob = new JavaObjectBlob(serializer, value, blob, TraceStamp.current());
+        return getSchema().getTuple(new Blob[] { jblob });
+    }
+
     @Override
     public Tuple convertTo(Object tuple) {
 
-        JavaObjectBlob jblob = new JavaObjectBlob(serializer, tuple);
+        JavaObjectBlob jblob = new JavaObjectBlob(serializer, tuple, TraceStamp.current());
         return getSchema().getTuple(new Blob[] { jblob });
     }
 }
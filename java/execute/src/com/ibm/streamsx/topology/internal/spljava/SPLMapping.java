@@ -19,6 +19,8 @@ public abstract class SPLMapping<T> {
     static final StringMapping JavaString = new StringMapping();
     static final BlobMapping JavaBlob = new BlobMapping();
     static final XMLMapping JavaXML = new XMLMapping();
+    static final LongMapping JavaLong = new LongMapping();
+    static final DoubleMapping JavaDouble = new DoubleMapping();
 
     private final StreamSchema schema;
 
@@ -32,4 +34,21 @@ public abstract class SPLMapping<T> {
     public abstract Tuple convertTo(T tuple);
 
     public abstract T convertFrom(Tuple tuple);
+
+    /**
+     * Can {@code tuple} be submitted as the output tuple
+     * for {@code value} instead of converting {@code value}
+     * into a new tuple.
+     */
+    public boolean canForward(Tuple tuple, T value) {
+        return false;
+    }
+
+    /**
+     * Tuple to submit to forward {@code tuple} that
+     * {@code value} was converted from.
+     */
+    public Tuple forward(Tuple tuple, T value) {
+        return tuple;
+    }
 }
\ No newline at end of file
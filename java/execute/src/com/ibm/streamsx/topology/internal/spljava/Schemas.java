@@ -8,6 +8,8 @@ import static com.ibm.streams.operator.Type.Factory.getStreamSchema;
 import static com.ibm.streamsx.topology.internal.logic.ObjectUtils.deserializeLogic;
 
 import java.lang.reflect.Type;
+import java.util.HashMap;
+import java.util.Map;
 
 import com.ibm.streams.operator.StreamSchema;
 import com.ibm.streams.operator.types.Blob;
@@ -22,8 +24,23 @@ public class Schemas {
     static final StreamSchema STRING = getStreamSchema(ObjectSchemas.STRING_SCHEMA);
     static final StreamSchema BLOB = getStreamSchema(ObjectSchemas.BLOB_SCHEMA);
     static final StreamSchema XML = getStreamSchema(ObjectSchemas.XML_SCHEMA);
+    static final StreamSchema LONG = getStreamSchema(ObjectSchemas.LONG_SCHEMA);
+    static final StreamSchema DOUBLE = getStreamSchema(ObjectSchemas.DOUBLE_SCHEMA);
     static final StreamSchema JAVA_OBJECT = getStreamSchema(ObjectSchemas.JAVA_OBJECT_SCHEMA);
     
+    /**
+     * Schemas with the {@code __spl_hash} attribute mapped to
+     * their schema without it.
+     */
+    private static final Map<StreamSchema, StreamSchema> WITHOUT_HASH = new HashMap<>();
+    static {
+        for (String schema : new String[] {ObjectSchemas.STRING_SCHEMA, ObjectSchemas.BLOB_SCHEMA,
+                ObjectSchemas.XML_SCHEMA, ObjectSchemas.LONG_SCHEMA, ObjectSchemas.DOUBLE_SCHEMA,
+                ObjectSchemas.JAVA_OBJECT_SCHEMA})
+            WITHOUT_HASH.put(getStreamSchema(ObjectSchemas.schemaWithHash(schema)),
+                    getStreamSchema(schema));
+    }
+    
     /**
      * Return the SPL schema that will be used at runtime
      * to hold the java object tuple.
@@ -39,6 +56,12 @@ public class Schemas {
         if (XML.class.equals(tupleType)) {
             return XML;
         }
+        if (Long.class.equals(tupleType)) {
+            return LONG;
+        }
+        if (Double.class.equals(tupleType)) {
+            return DOUBLE;
+        }
 
         return JAVA_OBJECT;
     }
@@ -48,7 +71,20 @@ public class Schemas {
         return new SPLJavaObject(JAVA_OBJECT, serializer);
     }
 
+    /**
+     * Get the mapping for tuples of {@code schema}.
+     * <BR>
+     * Tuples with the {@code __spl_hash} attribute (the input of
+     * a key partitioned parallel region) are mapped to their
+     * object, so a schema with the attribute returns the mapping
+     * for the schema without it. The mapping can only be used to
+     * convert from the tuples.
+     */
     public static SPLMapping<?> getSPLMapping(StreamSchema schema) {
+        
+        final StreamSchema withoutHash = WITHOUT_HASH.get(schema);
+        if (withoutHash != null)
+            schema = withoutHash;
 
         if (STRING.equals(schema)) {
             return SPLMapping.JavaString;
@@ -62,6 +98,12 @@ public class Schemas {
         if (XML.equals(schema)) {
             return SPLMapping.JavaXML;
         }
+        if (LONG.equals(schema)) {
+            return SPLMapping.JavaLong;
+        }
+        if (DOUBLE.equals(schema)) {
+            return SPLMapping.JavaDouble;
+        }
 
         return new SPLTuple(schema);
     }
@@ -0,0 +1,114 @@
+/*
+# Licensed Materials - Property of IBM
+# Copyright IBM Corp. 2026
+ */
+package com.ibm.streamsx.topology.internal.spljava;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import com.ibm.streams.operator.Tuple;
+
+/**
+ * Stamp of a tuple sampled for latency tracing.
+ * <BR>
+ * A stamp holds the time the tuple was submitted by its source
+ * and the time it arrived at the last operator it passed through,
+ * both from {@code System.nanoTime()}.
+ * <BR>
+ * While an operator processes a traced tuple the stamp is the current
+ * stamp of the thread, so that any tuple the operator submits
+ * (synchronously) is traced, whatever its type. A Java object tuple
+ * also carries the stamp in its {@link JavaObjectBlob}, so it remains
+ * traced when it is processed by another thread, such as
+ * a threaded port.
+ * <BR>
+ * Stamps are not serialized, so only operators in the same PE
+ * as the source are traced.
+ */
+public final class TraceStamp {
+
+    private static volatile boolean enabled;
+    private static final ThreadLocal<TraceStamp> CURRENT = new ThreadLocal<>();
+
+    private final long origin;
+    private final long hop;
+
+    private TraceStamp(long origin, long hop) {
+        this.origin = origin;
+        this.hop = hop;
+    }
+
+    /**
+     * Time (nanoseconds) the tuple was submitted by its source.
+     */
+    public long origin() {
+        return origin;
+    }
+
+    /**
+     * Time (nanoseconds) the tuple arrived at the last operator
+     * it passed through, or was submitted by its source.
+     */
+    public long hop() {
+        return hop;
+    }
+
+    /**
+     * Stamp for the tuple arriving at an operator at {@code now}.
+     */
+    public TraceStamp arrived(long now) {
+        return new TraceStamp(origin, now);
+    }
+
+    /**
+     * Enable tracing within this PE, until enabled
+     * tuples created by a mapping are never stamped.
+     */
+    public static void enable() {
+        enabled = true;
+    }
+
+    /**
+     * Sample a tuple being submitted by a source.
+     * @param fraction Fraction of tuples that are sampled.
+     * @return Stamp for the tuple or {@code null} if it is not sampled.
+     */
+    public static TraceStamp sample(double fraction) {
+        if (fraction <= 0.0)
+            return null;
+        if (fraction < 1.0 && ThreadLocalRandom.current().nextDouble() >= fraction)
+            return null;
+        final long now = System.nanoTime();
+        return new TraceStamp(now, now);
+    }
+
+    /**
+     * Stamp of the traced tuple being processed by the current thread.
+     */
+    public static TraceStamp current() {
+        return enabled ? CURRENT.get() : null;
+    }
+
+    /**
+     * Set the stamp of the traced tuple being processed by the current thread.
+     * @return The previous stamp, to be restored once the tuple is processed.
+     */
+    public static TraceStamp setCurrent(TraceStamp stamp) {
+        final TraceStamp previous = CURRENT.get();
+        CURRENT.set(stamp);
+        return previous;
+    }
+
+    /**
+     * Stamp carried by a tuple.
+     * @return Stamp if {@code tuple} holds a traced Java object, otherwise {@code null}.
+     */
+    public static TraceStamp carried(Tuple tuple) {
+        if (tuple.getStreamSchema().getAttributeCount() == 0)
+            return null;
+        final Object value = tuple.getObject(0);
+        if (value instanceof JavaObjectBlob)
+            return ((JavaObjectBlob) value).getStamp();
+        return null;
+    }
+}
@@ -0,0 +1,43 @@
+/*
+# Licensed Materials - Property of IBM
+# Copyright IBM Corp. 2026
+ */
+package com.ibm.streamsx.topology.function;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * A function that supplies values in batches.
+ * <BR>
+ * Used by a source that produces a high rate of tuples,
+ * the per-tuple overhead of the source is reduced by
+ * obtaining tuples a batch at a time.
+ * <BR>
+ * If an implementation also implements
+ * {@code java.lang.AutoCloseable} then it will be
+ * automatically closed when the application terminates.
+ * 
+ * @param <T>
+ *            Type of the supplied values.
+ * 
+ * @see com.ibm.streamsx.topology.Topology#batchSource(BatchSupplier)
+ */
+public interface BatchSupplier<T> extends Serializable {
+
+    /**
+     * Add the next batch of values to {@code batch}.
+     * <BR>
+     * {@code batch} is empty when this method is called and
+     * the same list is passed to every call, so the function
+     * must not retain a reference to it. Any {@code null} values
+     * added to the batch are ignored.
+     * 
+     * @param batch List to add the values to.
+     * @param size Requested number of values, fewer (including none)
+     * or more values may be added.
+     * @return {@code true} if more values may be supplied,
+     * {@code false} if this is the final batch.
+     */
+    boolean fill(List<T> batch, int size);
+}
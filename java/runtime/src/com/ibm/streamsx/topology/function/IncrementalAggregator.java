@@ -0,0 +1,71 @@
+/*
+# Licensed Materials - Property of IBM
+# Copyright IBM Corp. 2026
+ */
+package com.ibm.streamsx.topology.function;
+
+import java.io.Serializable;
+
+/**
+ * An aggregator that maintains its aggregation incrementally
+ * as tuples are inserted into and evicted from a window.
+ * <BR>
+ * In contrast to an aggregation function passed the complete
+ * list of tuples in the window, an incremental aggregator
+ * is only passed the tuple being inserted or evicted, thus the cost of
+ * maintaining the aggregation is independent of the window size.
+ * <P>
+ * Each window partition has its own aggregation state, created by
+ * {@link #initialState()} when the partition is first seen.
+ * Tuples are always evicted in the order they were inserted,
+ * oldest first.
+ * </P>
+ * <BR>
+ * If an implementation also implements
+ * {@code java.lang.AutoCloseable} then it will be
+ * automatically closed when the application terminates.
+ *
+ * @param <T>
+ *            Type of the tuples in the window.
+ * @param <S>
+ *            Type of the per-partition aggregation state.
+ * @param <A>
+ *            Type of the aggregation.
+ *
+ * @see com.ibm.streamsx.topology.TWindow#aggregate(IncrementalAggregator)
+ */
+public interface IncrementalAggregator<T, S, A> extends Serializable {
+
+    /**
+     * Create the aggregation state for an empty window partition.
+     * @return Initial aggregation state.
+     */
+    S initialState();
+
+    /**
+     * Add a tuple inserted into the window to the aggregation state.
+     * @param state Current aggregation state for the tuple's partition.
+     * @param tuple Tuple inserted into the window.
+     * @return Updated aggregation state, may be {@code state} itself
+     * if the state is mutable.
+     */
+    S add(S state, T tuple);
+
+    /**
+     * Remove a tuple evicted from the window from the aggregation state.
+     * @param state Current aggregation state for the tuple's partition.
+     * @param tuple Tuple evicted from the window.
+     * @return Updated aggregation state, may be {@code state} itself
+     * if the state is mutable.
+     */
+    S remove(S state, T tuple);
+
+    /**
+     * Return the aggregation for the current state of a window partition.
+     * If {@code null} is returned then no tuple is submitted
+     * to the aggregate stream.
+     * @param state Current aggregation state for a partition.
+     * @return Aggregation of the window partition.
+     */
+    A result(S state);
+}
@@ -0,0 +1,28 @@
+/*
+# Licensed Materials - Property of IBM
+# Copyright IBM Corp. 2026
+ */
+package com.ibm.streamsx.topology.function;
+
+import java.io.Serializable;
+
+/**
+ * A function that tests a {@code long} tuple.
+ * <BR>
+ * If an implementation also implements
+ * {@code java.lang.AutoCloseable} then it will be
+ * automatically closed when the application terminates.
+ *
+ * @see com.ibm.streamsx.topology.streams.NumericStreams#filterLong(com.ibm.streamsx.topology.TStream, LongPredicate)
+ */
+@FunctionalInterface
+public interface LongPredicate extends Serializable {
+    
+    /**
+     * Test {@code tuple} against this predicate.
+     * 
+     * @param tuple Tuple to be tested.
+     * @return True if the tuple passed this predicate, false otherwise.
+     */
+    boolean test(long tuple);
+}
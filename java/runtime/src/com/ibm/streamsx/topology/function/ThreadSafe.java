@@ -0,0 +1,37 @@
+/*
+# Licensed Materials - Property of IBM
+# Copyright IBM Corp. 2026
+ */
+package com.ibm.streamsx.topology.function;
+
+/**
+ * Marker interface for a function that can be called
+ * concurrently from multiple threads.
+ * <P>
+ * By default calls to a function's method that processes tuples
+ * are synchronized on the function instance, so a function
+ * with state does not need to be thread safe even when its
+ * operator's input port is threaded.
+ * Functions that have no state (no instance fields, or only
+ * {@code final} fields of immutable types such as {@code String} or
+ * {@code Integer}) are detected and called without synchronization.
+ * </P>
+ * <P>
+ * Other functions can implement this interface to declare that they
+ * are thread safe, so they are also called without synchronization
+ * and tuples can be processed by the function in parallel.
+ * A lambda expression can be marked using an intersection cast, for example:
+ * <pre>
+ * <code>
+ * stream.filter((Predicate&lt;String> &amp; ThreadSafe) s -> cache.contains(s));
+ * </code>
+ * </pre>
+ * </P>
+ * <P>
+ * A function that is checkpointed (for a consistent region or
+ * periodic checkpointing) and is not immutable is always
+ * called with synchronization.
+ * </P>
+ */
+public interface ThreadSafe {
+}
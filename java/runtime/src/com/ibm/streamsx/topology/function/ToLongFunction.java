@@ -0,0 +1,31 @@
+/*
+# Licensed Materials - Property of IBM
+# Copyright IBM Corp. 2026
+ */
+package com.ibm.streamsx.topology.function;
+
+import java.io.Serializable;
+
+/**
+ * A function that applies a computation to a tuple
+ * and returns a {@code long} result.
+ * <BR>
+ * If an implementation also implements
+ * {@code java.lang.AutoCloseable} then it will be
+ * automatically closed when the application terminates.
+ * @param <T>
+ *            Type of the input to the function
+ *
+ * @see com.ibm.streamsx.topology.streams.NumericStreams#mapToLong(com.ibm.streamsx.topology.TStream, ToLongFunction)
+ */
+@FunctionalInterface
+public interface ToLongFunction<T> extends Serializable {
+    
+    /**
+     * Apply the function to the {@code tuple} and return a {@code long}.
+     * 
+     * @param tuple Tuple to be processed.
+     * @return long result of the function.
+     */
+    long applyAsLong(T tuple);
+}
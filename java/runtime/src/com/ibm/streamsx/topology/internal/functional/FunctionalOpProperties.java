@@ -17,5 +17,21 @@ public interface FunctionalOpProperties {
     
     String JOIN_KEY_GETTER_PARAM = "joinKeyGetter";
     
+    String JOIN_WINDOW_KEY_GETTER_PARAM = "windowJoinKeyGetter";
+    
+    String JOIN_LAST_MAX_KEYS_PARAM = "maxKeys";
+    
+    String JOIN_LAST_EXPIRY_PARAM = "expiry";
+    
     String WINDOW_KEY_GETTER_PARAM = "keyGetter";
+    
+    String WINDOW_OFF_HEAP_PARAM = "offHeap";
+    
+    String WINDOW_SESSION_GAP_PARAM = "sessionGap";
+    
+    String LATENCY_METRICS_PARAM = "latencyMetrics";
+    
+    String LATENCY_TRACE_FRACTION_PARAM = "latencyTraceFraction";
+    
+    String LATENCY_TRACE_PARAM = "latencyTrace";
 }
@@ -16,11 +16,15 @@ public abstract class ObjectSchemas {
     public static final String XML_SCHEMA = "tuple<xml document>";
     public static final String JAVA_OBJECT_SCHEMA = "tuple<blob __spl_jo>";
     public static final String JSON_SCHEMA = "tuple<rstring jsonString>";
+    public static final String LONG_SCHEMA = "tuple<int64 value>";
+    public static final String DOUBLE_SCHEMA = "tuple<float64 value>";
     
     private static final Set<String> DIRECT_SCHEMA_CLASSES;
     static {
         Set<String> directSchemaClasses = new HashSet<>();
         directSchemaClasses.add(String.class.getName());
+        directSchemaClasses.add(Long.class.getName());
+        directSchemaClasses.add(Double.class.getName());
         directSchemaClasses.add("com.ibm.streams.operator.types.Blob");
         directSchemaClasses.add("com.ibm.streams.operator.types.XML");
         
@@ -39,6 +43,13 @@ public abstract class ObjectSchemas {
             if (String.class.equals(tupleType))
                 return STRING_SCHEMA;
 
+            // Numeric values use native SPL types
+            // rather than a serialized object.
+            if (Long.class.equals(tupleType))
+                return LONG_SCHEMA;
+            if (Double.class.equals(tupleType))
+                return DOUBLE_SCHEMA;
+
             Class<?> clazz = (Class<?>) tupleType;
 
             if (clazz.getName().equals("com.ibm.streams.operator.types.Blob"))
@@ -51,6 +62,25 @@ public abstract class ObjectSchemas {
         return JAVA_OBJECT_SCHEMA;
     }
     
+    /**
+     * Is a stream of {@code type} published using its direct schema.
+     * {@code Long} and {@code Double} streams use native schemas
+     * between operators but are published as Java objects,
+     * the schema used before they had native schemas,
+     * so subscribers in existing applications still match.
+     */
+    public static boolean publishesDirectSchema(Type type) {
+        return usesDirectSchema(type)
+                && !Long.class.equals(type) && !Double.class.equals(type);
+    }
+    
+    /**
+     * Schema used to publish and subscribe to a stream of {@code tupleType}.
+     */
+    public static String getPublishSchema(Type tupleType) {
+        return publishesDirectSchema(tupleType) ? getMappingSchema(tupleType) : JAVA_OBJECT_SCHEMA;
+    }
+    
     private static final String HASH_ATTR_SCHEMA = ", int32 __spl_hash>";
     
     public static String schemaWithHash(String schema) {
@@ -60,6 +90,8 @@ public abstract class ObjectSchemas {
         case BLOB_SCHEMA:
         case XML_SCHEMA:
         case JSON_SCHEMA:
+        case LONG_SCHEMA:
+        case DOUBLE_SCHEMA:
             return schema.replace(">", HASH_ATTR_SCHEMA);
         default:
             throw new IllegalStateException(schema);
@@ -0,0 +1,85 @@
+/*
+# Licensed Materials - Property of IBM
+# Copyright IBM Corp. 2026
+ */
+package com.ibm.streamsx.topology.internal.logic;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import com.ibm.streamsx.topology.function.BatchSupplier;
+import com.ibm.streamsx.topology.function.Supplier;
+
+/**
+ * Source logic for a {@link BatchSupplier}.
+ * <BR>
+ * The source operator submits the batches directly,
+ * {@link #get()} iterates over the batches for any
+ * other use of the logic.
+ */
+public class BatchedSupplier<T> implements Supplier<Iterable<T>>,
+        BatchSupplier<T>, WrapperFunction {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Batch size used when iterating over the batches.
+     */
+    private static final int ITERATOR_BATCH_SIZE = 64;
+
+    private final BatchSupplier<T> data;
+
+    public BatchedSupplier(BatchSupplier<T> data) {
+        this.data = data;
+    }
+
+    @Override
+    public Object getWrappedFunction() {
+        return data;
+    }
+
+    @Override
+    public boolean fill(List<T> batch, int size) {
+        return data.fill(batch, size);
+    }
+
+    @Override
+    public final Iterable<T> get() {
+        return new Iterable<T>() {
+
+            @Override
+            public Iterator<T> iterator() {
+                return new Iterator<T>() {
+                    private final List<T> batch = new ArrayList<>(ITERATOR_BATCH_SIZE);
+                    private int next;
+                    private boolean more = true;
+
+                    @Override
+                    public boolean hasNext() {
+                        while (next == batch.size()) {
+                            if (!more)
+                                return false;
+                            batch.clear();
+                            next = 0;
+                            more = fill(batch, ITERATOR_BATCH_SIZE);
+                        }
+                        return true;
+                    }
+
+                    @Override
+                    public T next() {
+                        if (!hasNext())
+                            throw new NoSuchElementException();
+                        return batch.get(next++);
+                    }
+
+                    @Override
+                    public void remove() {
+                        throw new UnsupportedOperationException();
+                    }
+                };
+            }
+        };
+    }
+}
@@ -0,0 +1,71 @@
+/*
+# Licensed Materials - Property of IBM
+# Copyright IBM Corp. 2026
+ */
+package com.ibm.streamsx.topology.internal.logic;
+
+import com.ibm.streamsx.topology.function.Function;
+import com.ibm.streamsx.topology.function.Supplier;
+import com.ibm.streamsx.topology.function.ToIntFunction;
+
+/**
+ * Obtain the channel for a key extracted from a tuple
+ * using a consistent hash of the key.
+ * <BR>
+ * The channel is the jump consistent hash (Lamping and Veach)
+ * of the key's {@code hashCode()}, so when the width of the parallel
+ * region changes from {@code N} to {@code N+1} only {@code 1/(N+1)}
+ * of the keys move to a different channel.
+ * <BR>
+ * The returned value is used as the {@code __spl_hash} attribute
+ * for the region's partitioning, the SPL runtime maps an
+ * {@code int32} partitioning value {@code c} to channel {@code c % width}.
+ */
+public final class ConsistentKeyHasher<T,K> implements ToIntFunction<T>, WrapperFunction {
+    private static final long serialVersionUID = 1L;
+
+    private final Function<T,K> keyFunction;
+    private final Supplier<Integer> width;
+    private transient int channels;
+
+    public ConsistentKeyHasher(Function<T,K> keyFunction, Supplier<Integer> width) {
+        this.keyFunction = keyFunction;
+        this.width = width;
+    }
+
+    @Override
+    public int applyAsInt(T tuple) {
+        return jump(keyFunction.apply(tuple).hashCode(), channels());
+    }
+
+    /**
+     * Width of the parallel region, which may be a submission parameter.
+     */
+    int channels() {
+        if (channels == 0)
+            channels = width.get();
+        return channels;
+    }
+
+    @Override
+    public Object getWrappedFunction() {
+        return keyFunction;
+    }
+
+    /**
+     * Jump consistent hash.
+     * @param key Key to hash.
+     * @param buckets Number of buckets.
+     * @return Bucket for {@code key} in the range {@code 0..buckets-1}.
+     */
+    static int jump(long key, int buckets) {
+        long b = -1;
+        long j = 0;
+        while (j < buckets) {
+            b = j;
+            key = key * 2862933555777941757L + 1;
+            j = (long) ((b + 1) * ((double) (1L << 31) / (double) ((key >>> 33) + 1)));
+        }
+        return (int) b;
+    }
+}
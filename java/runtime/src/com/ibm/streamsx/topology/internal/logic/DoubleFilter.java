@@ -0,0 +1,30 @@
+/*
+# Licensed Materials - Property of IBM
+# Copyright IBM Corp. 2026
+ */
+package com.ibm.streamsx.topology.internal.logic;
+
+import com.ibm.streamsx.topology.function.DoublePredicate;
+import com.ibm.streamsx.topology.function.Predicate;
+
+/**
+ * Filter {@code Double} tuples using a {@code DoublePredicate}.
+ */
+public final class DoubleFilter implements Predicate<Double>, WrapperFunction {
+    private static final long serialVersionUID = 1L;
+    
+    private final DoublePredicate filter;
+    public DoubleFilter(DoublePredicate filter) {
+        this.filter = filter;
+    }
+    
+    @Override
+    public boolean test(Double tuple) {
+        return filter.test(tuple);
+    }
+
+    @Override
+    public Object getWrappedFunction() {
+        return filter;
+    }
+}
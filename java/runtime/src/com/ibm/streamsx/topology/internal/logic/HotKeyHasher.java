@@ -0,0 +1,236 @@
+/*
+# Licensed Materials - Property of IBM
+# Copyright IBM Corp. 2026
+ */
+package com.ibm.streamsx.topology.internal.logic;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import com.ibm.streamsx.topology.function.Function;
+import com.ibm.streamsx.topology.function.Supplier;
+import com.ibm.streamsx.topology.function.ToIntFunction;
+
+/**
+ * Obtain the channel for a key extracted from a tuple, spreading
+ * the tuples of hot keys across multiple channels.
+ * <BR>
+ * A key's channel is its consistent hash (see {@link ConsistentKeyHasher}).
+ * The most frequent keys are tracked using the Space-Saving algorithm,
+ * with the counts halved periodically so that the tracked
+ * frequencies follow changes in the stream. Tracked keys are kept
+ * in a Stream-Summary, buckets of keys with the same count in
+ * increasing order of count, so counting a tuple, including replacing
+ * the least frequent key, takes constant time. A key whose tuples
+ * are more than a single channel's share of the stream is hot,
+ * its tuples are sent round-robin to its channel and the
+ * following channels, one channel for each share of the stream.
+ */
+public final class HotKeyHasher<T,K> implements ToIntFunction<T>, WrapperFunction {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Minimum number of tracked keys, at least four
+     * keys are tracked per channel.
+     */
+    static final int MIN_CAPACITY = 64;
+
+    /**
+     * Number of tuples before the counts are halved.
+     */
+    static final int DECAY_INTERVAL = 1 << 14;
+
+    /**
+     * Number of tuples before any key is considered hot.
+     */
+    static final int MIN_TUPLES = 1024;
+
+    /**
+     * A tracked key.
+     */
+    private static final class Counter {
+        Object key;
+        /** Offset of the channel for the key's next hot tuple. */
+        int next;
+        Bucket bucket;
+        Counter before;
+        Counter after;
+    }
+
+    /**
+     * Tracked keys with the same count.
+     */
+    private static final class Bucket {
+        long count;
+        Bucket prev;
+        Bucket next;
+        Counter head;
+    }
+
+    private final Function<T,K> keyFunction;
+    private final Supplier<Integer> width;
+
+    private transient int channels;
+    private transient int capacity;
+    private transient Map<Object,Counter> counters;
+    /** Bucket with the lowest count. */
+    private transient Bucket first;
+    private transient long total;
+    private transient int sinceDecay;
+
+    public HotKeyHasher(Function<T,K> keyFunction, Supplier<Integer> width) {
+        this.keyFunction = keyFunction;
+        this.width = width;
+    }
+
+    @Override
+    public int applyAsInt(T tuple) {
+        final K key = keyFunction.apply(tuple);
+        final int n = channels();
+        final int channel = ConsistentKeyHasher.jump(key.hashCode(), n);
+        if (n == 1)
+            return channel;
+
+        final Counter counter = count(key);
+        if (total < MIN_TUPLES)
+            return channel;
+
+        // Number of channels' shares of the stream
+        // the key's tuples are.
+        final long shares = counter.bucket.count * n / total;
+        if (shares == 0)
+            return channel;
+
+        final int spread = (int) Math.min(n, shares + 1);
+        final int offset = counter.next % spread;
+        counter.next = (offset + 1) % spread;
+        return (channel + offset) % n;
+    }
+
+    private int channels() {
+        if (channels == 0)
+            channels = width.get();
+        return channels;
+    }
+
+    /**
+     * Count a key's tuple, replacing the least frequent
+     * tracked key if the key is not tracked.
+     */
+    private Counter count(Object key) {
+        if (counters == null) {
+            capacity = Math.max(MIN_CAPACITY, 4 * channels);
+            counters = new HashMap<>(capacity * 2);
+        }
+
+        Counter counter = counters.get(key);
+        if (counter == null) {
+            if (counters.size() < capacity) {
+                counter = new Counter();
+                if (first == null || first.count != 0)
+                    first = insertBucket(null, first, 0);
+                add(first, counter);
+            } else {
+                counter = first.head;
+                counters.remove(counter.key);
+                counter.next = 0;
+            }
+            counter.key = key;
+            counters.put(key, counter);
+        }
+
+        increment(counter);
+        total++;
+        if (++sinceDecay == DECAY_INTERVAL)
+            decay();
+        return counter;
+    }
+
+    /**
+     * Move a counter to the bucket for its count plus one.
+     */
+    private void increment(Counter counter) {
+        final Bucket bucket = counter.bucket;
+        final long count = bucket.count + 1;
+        final Bucket next = bucket.next;
+
+        // Sole key in its bucket, the bucket becomes the next count.
+        if (counter.before == null && counter.after == null
+                && (next == null || next.count != count)) {
+            bucket.count = count;
+            return;
+        }
+
+        remove(counter);
+        final Bucket target = next != null && next.count == count
+                ? next : insertBucket(bucket, next, count);
+        if (bucket.head == null)
+            removeBucket(bucket);
+        add(target, counter);
+    }
+
+    private Bucket insertBucket(Bucket prev, Bucket next, long count) {
+        final Bucket bucket = new Bucket();
+        bucket.count = count;
+        bucket.prev = prev;
+        bucket.next = next;
+        if (prev != null)
+            prev.next = bucket;
+        if (next != null)
+            next.prev = bucket;
+        return bucket;
+    }
+
+    private void removeBucket(Bucket bucket) {
+        if (bucket.prev == null)
+            first = bucket.next;
+        else
+            bucket.prev.next = bucket.next;
+        if (bucket.next != null)
+            bucket.next.prev = bucket.prev;
+    }
+
+    private static void add(Bucket bucket, Counter counter) {
+        counter.bucket = bucket;
+        counter.before = null;
+        counter.after = bucket.head;
+        if (bucket.head != null)
+            bucket.head.before = counter;
+        bucket.head = counter;
+    }
+
+    private static void remove(Counter counter) {
+        if (counter.before == null)
+            counter.bucket.head = counter.after;
+        else
+            counter.before.after = counter.after;
+        if (counter.after != null)
+            counter.after.before = counter.before;
+    }
+
+    /**
+     * Halve the counts, merging buckets whose counts become equal.
+     */
+    private void decay() {
+        sinceDecay = 0;
+        total >>= 1;
+        for (Bucket bucket = first; bucket != null; bucket = bucket.next) {
+            bucket.count >>= 1;
+            final Bucket prev = bucket.prev;
+            if (prev != null && prev.count == bucket.count) {
+                while (bucket.head != null) {
+                    final Counter counter = bucket.head;
+                    remove(counter);
+                    add(prev, counter);
+                }
+                removeBucket(bucket);
+                bucket = prev;
+            }
+        }
+    }
+
+    @Override
+    public Object getWrappedFunction() {
+        return keyFunction;
+    }
+}
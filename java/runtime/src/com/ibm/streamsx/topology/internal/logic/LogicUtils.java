@@ -6,11 +6,16 @@ package com.ibm.streamsx.topology.internal.logic;
 
 import java.util.function.BiFunction;
 
+import com.ibm.streamsx.topology.function.BatchSupplier;
 import com.ibm.streamsx.topology.function.Consumer;
+import com.ibm.streamsx.topology.function.DoublePredicate;
 import com.ibm.streamsx.topology.function.Function;
+import com.ibm.streamsx.topology.function.LongPredicate;
 import com.ibm.streamsx.topology.function.Predicate;
 import com.ibm.streamsx.topology.function.Supplier;
+import com.ibm.streamsx.topology.function.ToDoubleFunction;
 import com.ibm.streamsx.topology.function.ToIntFunction;
+import com.ibm.streamsx.topology.function.ToLongFunction;
 import com.ibm.streamsx.topology.function.UnaryOperator;
 
 public class LogicUtils {
@@ -22,7 +27,12 @@ public class LogicUtils {
         Predicate.class,
         Consumer.class,
         Supplier.class,
+        BatchSupplier.class,
         ToIntFunction.class,
+        ToLongFunction.class,
+        ToDoubleFunction.class,
+        LongPredicate.class,
+        DoublePredicate.class,
         BiFunction.class,
         };
     
@@ -0,0 +1,30 @@
+/*
+# Licensed Materials - Property of IBM
+# Copyright IBM Corp. 2026
+ */
+package com.ibm.streamsx.topology.internal.logic;
+
+import com.ibm.streamsx.topology.function.LongPredicate;
+import com.ibm.streamsx.topology.function.Predicate;
+
+/**
+ * Filter {@code Long} tuples using a {@code LongPredicate}.
+ */
+public final class LongFilter implements Predicate<Long>, WrapperFunction {
+    private static final long serialVersionUID = 1L;
+    
+    private final LongPredicate filter;
+    public LongFilter(LongPredicate filter) {
+        this.filter = filter;
+    }
+    
+    @Override
+    public boolean test(Long tuple) {
+        return filter.test(tuple);
+    }
+
+    @Override
+    public Object getWrappedFunction() {
+        return filter;
+    }
+}
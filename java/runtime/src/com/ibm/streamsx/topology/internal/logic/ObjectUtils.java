@@ -22,6 +22,8 @@ import java.util.UUID;
 
 import javax.xml.bind.DatatypeConverter;
 
+import com.ibm.streamsx.topology.function.ThreadSafe;
+
 public class ObjectUtils {
 
     public static String serializeLogic(Serializable logic) {
@@ -91,6 +93,33 @@ public class ObjectUtils {
     }
     
     public static boolean isImmutable(Class<?> clazz) {
+        return isImmutable(clazz, false, null, null);
+    }
+    
+    /**
+     * See if functional logic can be called concurrently
+     * without synchronization.
+     * 
+     * Logic is thread safe if it (and any function it wraps)
+     * implements {@link ThreadSafe} or is immutable,
+     * including its transient fields which may be set
+     * when the function is initialized.
+     * A wrapper function is immutable if it is immutable
+     * ignoring the field that references the wrapped function.
+     */
+    public static boolean isThreadSafe(Object logic) {
+        while (logic instanceof WrapperFunction) {
+            final Object wrapped = ((WrapperFunction) logic).getWrappedFunction();
+            if (!(logic instanceof ThreadSafe)
+                    && !isImmutable(logic.getClass(), true, logic, wrapped))
+                return false;
+            logic = wrapped;
+        }
+        return logic instanceof ThreadSafe || isImmutable(logic.getClass(), true, null, null);
+    }
+    
+    private static boolean isImmutable(Class<?> clazz, boolean includeTransient,
+            Object instance, Object wrapped) {
                
         do {
                Field[] fields = clazz.getDeclaredFields();
@@ -98,7 +127,7 @@ public class ObjectUtils {
                    if (Modifier.isStatic(field.getModifiers()))
                        continue;
                    
-                   if (Modifier.isTransient(field.getModifiers()))
+                   if (!includeTransient && Modifier.isTransient(field.getModifiers()))
                        continue;
                    
                    if (!Modifier.isFinal(field.getModifiers()))
@@ -107,6 +136,9 @@ public class ObjectUtils {
                    if (field.getType().isPrimitive())
                        continue; 
                    
+                   if (instance != null && isField(field, instance, wrapped))
+                       continue;
+                   
                    if (immutableClasses.contains(field.getType()))
                        continue;
                    
@@ -124,4 +156,13 @@ public class ObjectUtils {
         
         return true;
     }
+    
+    private static boolean isField(Field field, Object instance, Object value) {
+        try {
+            field.setAccessible(true);
+            return field.get(instance) == value;
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return false;
+        }
+    }
 }
@@ -1,17 +1,28 @@
 /*
 # Licensed Materials - Property of IBM
-# Copyright IBM Corp. 2015  
+# Copyright IBM Corp. 2015
  */
 package com.ibm.streamsx.topology.internal.logic;
 
-import java.util.Random;
+import java.util.SplittableRandom;
 
 import com.ibm.streamsx.topology.function.Predicate;
 
+/**
+ * Bernoulli sample of a stream.
+ * <BR>
+ * Rather than a random number per tuple the number of tuples
+ * to skip before the next selected tuple is drawn from the
+ * geometric distribution, so a tuple that is not selected
+ * only costs a decrement. Each instance has its own generator
+ * so samplers never contend on a shared generator.
+ */
 public final class RandomSample<T> implements Predicate<T> {
     private static final long serialVersionUID = 1L;
     private final double fraction;
-    private final Random r = new Random();
+
+    private transient SplittableRandom random;
+    private transient long skip;
 
     public RandomSample(double fraction) {
         this.fraction = fraction;
@@ -19,6 +30,28 @@ public final class RandomSample<T> implements Predicate<T> {
 
     @Override
     public boolean test(T v1) {
-        return r.nextDouble() <= fraction;
+        if (fraction >= 1.0)
+            return true;
+        if (fraction <= 0.0)
+            return false;
+
+        if (random == null) {
+            random = new SplittableRandom();
+            skip = nextSkip();
+        }
+        if (skip != 0) {
+            skip--;
+            return false;
+        }
+        skip = nextSkip();
+        return true;
+    }
+
+    /**
+     * Number of tuples before the next selected tuple.
+     */
+    private long nextSkip() {
+        final double u = random.nextDouble();
+        return (long) Math.floor(Math.log1p(-u) / Math.log1p(-fraction));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,31 @@
+/*
+# Licensed Materials - Property of IBM
+# Copyright IBM Corp. 2026
+ */
+package com.ibm.streamsx.topology.internal.logic;
+
+import com.ibm.streamsx.topology.function.Function;
+import com.ibm.streamsx.topology.function.ToDoubleFunction;
+
+/**
+ * Map a tuple to a {@code Double} using a {@code ToDoubleFunction}.
+ * The resulting stream uses a native SPL {@code float64} schema.
+ */
+public final class ToDoubleMapper<T> implements Function<T,Double>, WrapperFunction {
+    private static final long serialVersionUID = 1L;
+    
+    private final ToDoubleFunction<T> mapper;
+    public ToDoubleMapper(ToDoubleFunction<T> mapper) {
+        this.mapper = mapper;
+    }
+    
+    @Override
+    public Double apply(T tuple) {
+        return mapper.applyAsDouble(tuple);
+    }
+
+    @Override
+    public Object getWrappedFunction() {
+        return mapper;
+    }
+}
@@ -0,0 +1,31 @@
+/*
+# Licensed Materials - Property of IBM
+# Copyright IBM Corp. 2026
+ */
+package com.ibm.streamsx.topology.internal.logic;
+
+import com.ibm.streamsx.topology.function.Function;
+import com.ibm.streamsx.topology.function.ToLongFunction;
+
+/**
+ * Map a tuple to a {@code Long} using a {@code ToLongFunction}.
+ * The resulting stream uses a native SPL {@code int64} schema.
+ */
+public final class ToLongMapper<T> implements Function<T,Long>, WrapperFunction {
+    private static final long serialVersionUID = 1L;
+    
+    private final ToLongFunction<T> mapper;
+    public ToLongMapper(ToLongFunction<T> mapper) {
+        this.mapper = mapper;
+    }
+    
+    @Override
+    public Long apply(T tuple) {
+        return mapper.applyAsLong(tuple);
+    }
+
+    @Override
+    public Object getWrappedFunction() {
+        return mapper;
+    }
+}
@@ -0,0 +1,64 @@
+/*
+# Licensed Materials - Property of IBM
+# Copyright IBM Corp. 2026
+ */
+package com.ibm.streamsx.topology.internal.logic;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import com.ibm.streamsx.topology.function.Function;
+
+/**
+ * Uniform random sample of up to {@code k} tuples of a window.
+ * <BR>
+ * The positions of the sampled tuples are chosen using Floyd's
+ * algorithm, so the cost of a sample and the memory it uses depend
+ * only on {@code k} and not on the number of tuples in the window.
+ * Only the sampled tuples are accessed, which avoids deserializing
+ * the other tuples of a window held off-heap.
+ * <BR>
+ * The sampled tuples are returned in window order, oldest first.
+ */
+public final class WindowSample<T> implements Function<List<T>, List<T>> {
+    private static final long serialVersionUID = 1L;
+
+    private final int k;
+    private transient SplittableRandom random;
+
+    public WindowSample(int k) {
+        this.k = k;
+    }
+
+    @Override
+    public List<T> apply(List<T> tuples) {
+        final int n = tuples.size();
+        if (n <= k)
+            return new ArrayList<>(tuples);
+
+        if (random == null)
+            random = new SplittableRandom();
+
+        final Set<Integer> selected = new HashSet<>(k * 2);
+        for (int j = n - k; j < n; j++) {
+            final int t = random.nextInt(j + 1);
+            if (!selected.add(t))
+                selected.add(j);
+        }
+
+        final int[] positions = new int[k];
+        int i = 0;
+        for (Integer position : selected)
+            positions[i++] = position;
+        Arrays.sort(positions);
+
+        final List<T> sample = new ArrayList<>(k);
+        for (int position : positions)
+            sample.add(tuples.get(position));
+        return sample;
+    }
+}
@@ -0,0 +1,215 @@
+/*
+# Licensed Materials - Property of IBM
+# Copyright IBM Corp. 2026
+ */
+package com.ibm.streamsx.topology.spi.runtime;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tuple serializer that identifies the class of a tuple
+ * by a small integer identifier rather than a class descriptor.
+ * <BR>
+ * Classes are registered with a {@link TupleCodec} that encodes
+ * their state, the identifier of a class is defined by the order
+ * of registration. Since the serializer is itself serialized
+ * as part of the topology, the identifiers are consistent
+ * between the operators writing and reading a stream.
+ * <BR>
+ * {@code String}, {@code Integer}, {@code Long}, {@code Double}
+ * and {@code byte[]} are registered by default. Instances of any other
+ * class (including subclasses of registered classes) are written using
+ * Java serialization.
+ * <BR>
+ * Each thread reuses a buffer for encoding, so that a tuple
+ * is written to the output stream with a single write.
+ * <P>
+ * Example use:
+ * <pre>
+ * <code>
+ * TupleSerializer serializer = new CompactSerializer()
+ *     .register(Trade.class, TupleCodecs.fields(Trade.class))
+ *     .register(Quote.class, new QuoteCodec());
+ * </code>
+ * </pre>
+ * </P>
+ * All classes must be registered before the
+ * serializer is used by a topology.
+ *
+ * @see TupleCodecs
+ */
+public class CompactSerializer implements TupleSerializer {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final int NULL_ID = 0;
+    private static final int JAVA_ID = 1;
+    private static final int FIRST_REGISTERED_ID = 2;
+
+    /**
+     * Buffers retained by a thread are limited to this size
+     * to avoid holding onto the memory for an occasional large tuple.
+     */
+    private static final int MAX_RETAINED_BUFFER = 1024 * 1024;
+
+    private static final ThreadLocal<Buffer> BUFFER = ThreadLocal.withInitial(Buffer::new);
+
+    private final List<Registration<?>> registrations = new ArrayList<>();
+    private transient Map<Class<?>, Integer> ids;
+
+    /**
+     * Create a serializer with the default registered classes.
+     */
+    public CompactSerializer() {
+        register(String.class, TupleCodecs.STRING);
+        register(Integer.class, TupleCodecs.INTEGER);
+        register(Long.class, TupleCodecs.LONG);
+        register(Double.class, TupleCodecs.DOUBLE);
+        register(byte[].class, TupleCodecs.BYTES);
+    }
+
+    /**
+     * Register a class with the codec that encodes its instances.
+     * @param type Class to register.
+     * @param codec Codec for instances of {@code type}.
+     * @return This serializer.
+     * @throws IllegalArgumentException {@code type} is already registered.
+     */
+    public <T> CompactSerializer register(Class<T> type, TupleCodec<? super T> codec) {
+        if (ids().containsKey(type))
+            throw new IllegalArgumentException("Class already registered: " + type.getName());
+        ids.put(type, FIRST_REGISTERED_ID + registrations.size());
+        registrations.add(new Registration<>(type, codec));
+        return this;
+    }
+
+    private Map<Class<?>, Integer> ids() {
+        if (ids == null)
+            ids = new HashMap<>();
+        return ids;
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        ids = new HashMap<>();
+        for (int i = 0; i < registrations.size(); i++)
+            ids.put(registrations.get(i).type, FIRST_REGISTERED_ID + i);
+    }
+
+    @Override
+    public void serialize(Object tuple, OutputStream output) throws IOException {
+        Buffer buffer = BUFFER.get();
+        // A codec may serialize a nested value using this serializer.
+        final boolean shared = !buffer.inUse;
+        if (!shared)
+            buffer = new Buffer();
+
+        buffer.inUse = true;
+        try {
+            buffer.reset();
+            write(tuple, buffer.data);
+            buffer.writeTo(output);
+        } finally {
+            buffer.inUse = false;
+            if (shared && buffer.capacity() > MAX_RETAINED_BUFFER)
+                BUFFER.remove();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void write(Object tuple, DataOutputStream output) throws IOException {
+        if (tuple == null) {
+            writeId(NULL_ID, output);
+            return;
+        }
+        final Integer id = ids.get(tuple.getClass());
+        if (id == null) {
+            writeId(JAVA_ID, output);
+            JAVA_SERIALIZER.serialize(tuple, output);
+            return;
+        }
+        writeId(id, output);
+        ((TupleCodec<Object>) registrations.get(id - FIRST_REGISTERED_ID).codec)
+                .encode(tuple, output);
+    }
+
+    @Override
+    public Object deserialize(InputStream input) throws IOException, ClassNotFoundException {
+        final DataInputStream data = input instanceof DataInputStream
+                ? (DataInputStream) input : new DataInputStream(input);
+        final int id = readId(data);
+        switch (id) {
+        case NULL_ID:
+            return null;
+        case JAVA_ID:
+            return JAVA_SERIALIZER.deserialize(data);
+        default:
+            final int index = id - FIRST_REGISTERED_ID;
+            if (index >= registrations.size())
+                throw new IOException("Unknown class identifier: " + id);
+            return registrations.get(index).codec.decode(data);
+        }
+    }
+
+    /**
+     * Identifiers are written as a variable length
+     * unsigned integer, seven bits per byte, so that
+     * the first 126 registered classes use a single byte.
+     */
+    private static void writeId(int id, DataOutput output) throws IOException {
+        while ((id & ~0x7F) != 0) {
+            output.writeByte((id & 0x7F) | 0x80);
+            id >>>= 7;
+        }
+        output.writeByte(id);
+    }
+
+    private static int readId(DataInput input) throws IOException {
+        int id = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            final int b = input.readUnsignedByte();
+            id |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0)
+                return id;
+        }
+        throw new IOException("Malformed class identifier");
+    }
+
+    private static final class Registration<T> implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        final Class<T> type;
+        final TupleCodec<? super T> codec;
+
+        Registration(Class<T> type, TupleCodec<? super T> codec) {
+            this.type = type;
+            this.codec = codec;
+        }
+    }
+
+    private static final class Buffer extends ByteArrayOutputStream {
+        final DataOutputStream data = new DataOutputStream(this);
+        boolean inUse;
+
+        Buffer() {
+            super(256);
+        }
+
+        int capacity() {
+            return buf.length;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+/*
+# Licensed Materials - Property of IBM
+# Copyright IBM Corp. 2026
+ */
+package com.ibm.streamsx.topology.spi.runtime;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.Serializable;
+
+/**
+ * Encoder and decoder for values of a single class,
+ * used by {@link CompactSerializer} for registered classes.
+ * <BR>
+ * A codec only writes the value's state, the class
+ * of the value is identified by {@link CompactSerializer}.
+ *
+ * @param <T> Type of the values encoded.
+ *
+ * @see TupleCodecs
+ */
+public interface TupleCodec<T> extends Serializable {
+
+    /**
+     * Write {@code value} to {@code output}.
+     * @param value Value to be encoded, never {@code null}.
+     * @param output Output to write the encoded value to.
+     */
+    void encode(T value, DataOutput output) throws IOException;
+
+    /**
+     * Read a value written by {@link #encode(Object, DataOutput)}.
+     * @param input Input to read the encoded value from.
+     * @return Decoded value.
+     */
+    T decode(DataInput input) throws IOException, ClassNotFoundException;
+}
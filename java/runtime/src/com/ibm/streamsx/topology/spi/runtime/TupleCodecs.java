@@ -0,0 +1,334 @@
+/*
+# Licensed Materials - Property of IBM
+# Copyright IBM Corp. 2026
+ */
+package com.ibm.streamsx.topology.spi.runtime;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Codecs for common classes and a field based
+ * codec for simple classes.
+ *
+ * @see CompactSerializer
+ */
+public final class TupleCodecs {
+
+    private TupleCodecs() {
+    }
+
+    /**
+     * Codec for {@code String} values, encoded as UTF-8.
+     */
+    public static final TupleCodec<String> STRING = new StringCodec();
+
+    /**
+     * Codec for {@code Integer} values.
+     */
+    public static final TupleCodec<Integer> INTEGER = new IntegerCodec();
+
+    /**
+     * Codec for {@code Long} values.
+     */
+    public static final TupleCodec<Long> LONG = new LongCodec();
+
+    /**
+     * Codec for {@code Double} values.
+     */
+    public static final TupleCodec<Double> DOUBLE = new DoubleCodec();
+
+    /**
+     * Codec for {@code byte[]} values.
+     */
+    public static final TupleCodec<byte[]> BYTES = new BytesCodec();
+
+    /**
+     * Create a codec that encodes each instance field of {@code type}
+     * (including inherited fields) in turn.
+     * <BR>
+     * Static and {@code transient} fields are not encoded.
+     * Primitive and {@code String} fields are written directly,
+     * fields of any other type are written using Java serialization
+     * and so must be {@code Serializable}.
+     * <BR>
+     * {@code type} must have a no-argument constructor, which is used to
+     * create the instance when decoding, it may be private.
+     *
+     * @param type Class of the values to encode.
+     * @return Codec for {@code type}.
+     * @throws IllegalArgumentException {@code type} does not have a no-argument constructor.
+     */
+    public static <T> TupleCodec<T> fields(Class<T> type) {
+        return new FieldCodec<>(type);
+    }
+
+    private static final class StringCodec implements TupleCodec<String> {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void encode(String value, DataOutput output) throws IOException {
+            writeString(value, output);
+        }
+
+        @Override
+        public String decode(DataInput input) throws IOException {
+            return readString(input);
+        }
+
+        private Object readResolve() {
+            return STRING;
+        }
+    }
+
+    private static final class IntegerCodec implements TupleCodec<Integer> {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void encode(Integer value, DataOutput output) throws IOException {
+            output.writeInt(value);
+        }
+
+        @Override
+        public Integer decode(DataInput input) throws IOException {
+            return input.readInt();
+        }
+
+        private Object readResolve() {
+            return INTEGER;
+        }
+    }
+
+    private static final class LongCodec implements TupleCodec<Long> {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void encode(Long value, DataOutput output) throws IOException {
+            output.writeLong(value);
+        }
+
+        @Override
+        public Long decode(DataInput input) throws IOException {
+            return input.readLong();
+        }
+
+        private Object readResolve() {
+            return LONG;
+        }
+    }
+
+    private static final class DoubleCodec implements TupleCodec<Double> {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void encode(Double value, DataOutput output) throws IOException {
+            output.writeDouble(value);
+        }
+
+        @Override
+        public Double decode(DataInput input) throws IOException {
+            return input.readDouble();
+        }
+
+        private Object readResolve() {
+            return DOUBLE;
+        }
+    }
+
+    private static final class BytesCodec implements TupleCodec<byte[]> {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void encode(byte[] value, DataOutput output) throws IOException {
+            output.writeInt(value.length);
+            output.write(value);
+        }
+
+        @Override
+        public byte[] decode(DataInput input) throws IOException {
+            final byte[] value = new byte[input.readInt()];
+            input.readFully(value);
+            return value;
+        }
+
+        private Object readResolve() {
+            return BYTES;
+        }
+    }
+
+    /**
+     * Write a string as its UTF-8 length followed by the bytes,
+     * a {@code null} value has a length of -1.
+     * Unlike {@code DataOutput.writeUTF} the length is not limited
+     * to 64KB.
+     */
+    static void writeString(String value, DataOutput output) throws IOException {
+        if (value == null) {
+            output.writeInt(-1);
+            return;
+        }
+        final byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(utf8.length);
+        output.write(utf8);
+    }
+
+    static String readString(DataInput input) throws IOException {
+        final int length = input.readInt();
+        if (length == -1)
+            return null;
+        final byte[] utf8 = new byte[length];
+        input.readFully(utf8);
+        return new String(utf8, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Write a value using Java serialization,
+     * as its serialized length followed by the bytes.
+     */
+    static void writeSerialized(Object value, DataOutput output) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        try (ObjectOutputStream oos = new ObjectOutputStream(bytes)) {
+            oos.writeObject(value);
+        }
+        output.writeInt(bytes.size());
+        output.write(bytes.toByteArray());
+    }
+
+    static Object readSerialized(DataInput input) throws IOException, ClassNotFoundException {
+        final byte[] serialized = new byte[input.readInt()];
+        input.readFully(serialized);
+        try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(serialized))) {
+            return ois.readObject();
+        }
+    }
+
+    /**
+     * Codec that encodes the instance fields of a class.
+     * The fields are discovered by reflection once per JVM,
+     * ordered by their declaring class (super class first) and name
+     * so that the encoding is independent of the order returned by
+     * {@code Class.getDeclaredFields()}.
+     */
+    private static final class FieldCodec<T> implements TupleCodec<T> {
+        private static final long serialVersionUID = 1L;
+
+        private final Class<T> type;
+        private transient Constructor<T> constructor;
+        private transient Field[] fields;
+
+        FieldCodec(Class<T> type) {
+            this.type = type;
+            introspect();
+        }
+
+        private void introspect() {
+            try {
+                constructor = type.getDeclaredConstructor();
+            } catch (NoSuchMethodException e) {
+                throw new IllegalArgumentException(
+                        "Class requires a no-argument constructor: " + type.getName(), e);
+            }
+            constructor.setAccessible(true);
+
+            final List<Class<?>> hierarchy = new ArrayList<>();
+            for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass())
+                hierarchy.add(0, c);
+
+            final List<Field> all = new ArrayList<>();
+            for (Class<?> c : hierarchy) {
+                final List<Field> declared = new ArrayList<>();
+                for (Field field : c.getDeclaredFields()) {
+                    final int modifiers = field.getModifiers();
+                    if (Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers))
+                        continue;
+                    field.setAccessible(true);
+                    declared.add(field);
+                }
+                declared.sort(Comparator.comparing(Field::getName));
+                all.addAll(declared);
+            }
+            fields = all.toArray(new Field[all.size()]);
+        }
+
+        private Object readResolve() {
+            introspect();
+            return this;
+        }
+
+        @Override
+        public void encode(T value, DataOutput output) throws IOException {
+            try {
+                for (Field field : fields) {
+                    final Class<?> ft = field.getType();
+                    if (ft == int.class)
+                        output.writeInt(field.getInt(value));
+                    else if (ft == long.class)
+                        output.writeLong(field.getLong(value));
+                    else if (ft == double.class)
+                        output.writeDouble(field.getDouble(value));
+                    else if (ft == boolean.class)
+                        output.writeBoolean(field.getBoolean(value));
+                    else if (ft == float.class)
+                        output.writeFloat(field.getFloat(value));
+                    else if (ft == short.class)
+                        output.writeShort(field.getShort(value));
+                    else if (ft == byte.class)
+                        output.writeByte(field.getByte(value));
+                    else if (ft == char.class)
+                        output.writeChar(field.getChar(value));
+                    else if (ft == String.class)
+                        writeString((String) field.get(value), output);
+                    else
+                        writeSerialized(field.get(value), output);
+                }
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        @Override
+        public T decode(DataInput input) throws IOException, ClassNotFoundException {
+            try {
+                final T value = constructor.newInstance();
+                for (Field field : fields) {
+                    final Class<?> ft = field.getType();
+                    if (ft == int.class)
+                        field.setInt(value, input.readInt());
+                    else if (ft == long.class)
+                        field.setLong(value, input.readLong());
+                    else if (ft == double.class)
+                        field.setDouble(value, input.readDouble());
+                    else if (ft == boolean.class)
+                        field.setBoolean(value, input.readBoolean());
+                    else if (ft == float.class)
+                        field.setFloat(value, input.readFloat());
+                    else if (ft == short.class)
+                        field.setShort(value, input.readShort());
+                    else if (ft == byte.class)
+                        field.setByte(value, input.readByte());
+                    else if (ft == char.class)
+                        field.setChar(value, input.readChar());
+                    else if (ft == String.class)
+                        field.set(value, readString(input));
+                    else
+                        field.set(value, readSerialized(input));
+                }
+                return value;
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
@@ -22,6 +22,20 @@ import com.ibm.streamsx.topology.context.Placeable;
  * @see TStream#forEach(com.ibm.streamsx.topology.function.Consumer)
  */
 public interface TSink extends TopologyElement, Placeable<TSink> {
+
+    /**
+     * Record the latency of the calls to the sink's {@code Consumer}.
+     * <BR>
+     * The sink's operator exports the 50th, 99th and 99.9th
+     * percentiles and maximum of the latency in nanoseconds as the custom
+     * metrics {@code latencyP50}, {@code latencyP99}, {@code latencyP999}
+     * and {@code latencyMax}.
+     * 
+     * @return This sink.
+     * 
+     * @see TStream#latencyMetrics()
+     */
+    TSink latencyMetrics();
     
     /**
      * Internal method.
@@ -97,7 +97,38 @@ public interface TStream<T> extends TopologyElement, Placeable<TStream<T>>  {
 	     * 
 	     * @since 1.9
 	     */
-	    BROADCAST
+	    BROADCAST,
+
+	    /**
+	     * Tuples will be consistently routed to the same channel based upon
+	     * their key, as with {@link #KEY_PARTITIONED}, using a consistent
+	     * hash of the key's {@code hashCode()}.
+	     * <BR>
+	     * When the width of the parallel region is changed
+	     * from {@code N} to {@code N+1} only around {@code 1/(N+1)} of the
+	     * keys are routed to a different channel, rather than most of
+	     * the keys with {@link #KEY_PARTITIONED}, thus most of the state
+	     * held per key in the channels remains valid.
+	     */
+	    CONSISTENT_HASH_PARTITIONED,
+
+	    /**
+	     * Tuples are routed to channels based upon their key, as with
+	     * {@link #CONSISTENT_HASH_PARTITIONED}, except that the tuples
+	     * of a hot key are spread across multiple channels.
+	     * <BR>
+	     * The frequency of the most common keys is tracked as tuples are
+	     * routed. A key is hot when its tuples are more than a single
+	     * channel's share of the stream, its tuples are then sent
+	     * round-robin to as many channels as its share requires,
+	     * so that a skewed stream does not overload a single channel.
+	     * <BR>
+	     * Thus tuples with the same key may appear on different
+	     * channels, the processing in the parallel region must produce partial
+	     * results per key (for example a partial count or sum) that are merged
+	     * per key after {@link TStream#endParallel()}.
+	     */
+	    HOT_KEY_PARTITIONED
 	};
 	
     /**
@@ -529,6 +560,39 @@ public interface TStream<T> extends TopologyElement, Placeable<TStream<T>>  {
             TWindow<U,K> window,
             BiFunction<T, List<U>, J> joiner);
     
+    /**
+     * Join this stream with a window of type {@code U} using
+     * a key of type {@code K}.
+     * For each tuple {@code t} on this stream, it is joined with
+     * the tuples {@code u} in {@code window} where
+     * {@code keyer.apply(t).equals(windowKeyer.apply(u))}
+     * is true. Each tuple is passed into {@code joiner} with the
+     * list of matching window tuples (in the order they were inserted,
+     * empty if no tuples match) and the return value is submitted
+     * to the returned stream. If call returns null then no tuple is submitted.
+     * <BR>
+     * The window's tuples are indexed by {@code windowKeyer} as they
+     * are inserted and evicted, so the cost of a join depends on the number of
+     * matching tuples rather than the size of the window.
+     * <BR>
+     * The assumption is made that
+     * the key classes correctly implement the contract for {@code equals} and
+     * {@code hashCode()}.
+     * 
+     * @param keyer Key function for this stream.
+     * @param window Window to join this stream with, must not be keyed.
+     * @param windowKeyer Key function for tuples in {@code window}.
+     * @param joiner Join function.
+     * @return A stream that is the results of joining this stream with
+     *         {@code window}.
+     * @throws IllegalArgumentException {@code window} is keyed.
+     */
+    <J, U, K> TStream<J> join(
+            Function<? super T, ? extends K> keyer,
+            TWindow<U,?> window,
+            Function<? super U, ? extends K> windowKeyer,
+            BiFunction<T, List<U>, J> joiner);
+    
     /**
      * Join this stream with the last tuple seen on a stream of type {@code U}
      * with partitioning.
@@ -560,7 +624,37 @@ public interface TStream<T> extends TopologyElement, Placeable<TStream<T>>  {
             TStream<U> lastStream,
             Function<? super U, ? extends K> lastStreamKeyer,
             BiFunction<T, U, J> joiner);
- 
+
+    /**
+     * Join this stream with the last tuple seen on a stream of type {@code U}
+     * with partitioning, bounding the number of keys held.
+     * Tuples are joined as for
+     * {@link #joinLast(Function, TStream, Function, BiFunction)},
+     * except that once {@code maxKeys} keys are held the least recently
+     * updated key is removed, and the last tuple for a key is removed
+     * once {@code expiry} has passed without a tuple for the key
+     * being seen on {@code lastStream}.
+     * If the last tuple for a key has been removed
+     * then {@code null} will be passed as the second argument to {@code joiner}.
+     *
+     * @param keyer Key function for this stream
+     * @param lastStream Stream to join with.
+     * @param lastStreamKeyer Key function for {@code lastStream}
+     * @param joiner Join function.
+     * @param maxKeys Maximum number of keys held, zero for no maximum.
+     * @param expiry Time the last tuple for a key is held, zero for no expiry.
+     * @param unit Unit for {@code expiry}.
+     * @return A stream that is the results of joining this stream with
+     *         {@code lastStream}.
+     * @throws IllegalArgumentException {@code maxKeys} or {@code expiry} is negative.
+     */
+    <J,U,K> TStream<J> joinLast(
+            Function<? super T, ? extends K> keyer,
+            TStream<U> lastStream,
+            Function<? super U, ? extends K> lastStreamKeyer,
+            BiFunction<T, U, J> joiner,
+            int maxKeys, long expiry, TimeUnit unit);
+
     /**
      * Join this stream with the last tuple seen on a stream of type {@code U}.
      * For each tuple on this
@@ -665,6 +759,83 @@ public interface TStream<T> extends TopologyElement, Placeable<TStream<T>>  {
      */
     TWindow<T,Object> last();
 
+    /**
+     * Declare a {@link TWindow} of batches of {@code count} tuples on this stream.
+     * Unlike {@link #last(int)} the window is tumbling, once it contains
+     * {@code count} tuples the window's contents are processed
+     * and then all its tuples are discarded, so each tuple
+     * belongs to exactly one batch.
+     * <BR>
+     * {@link TWindow#aggregate(Function)} on the window calls the aggregator
+     * once for each batch, rather than each time a tuple is inserted.
+     * An {@link com.ibm.streamsx.topology.function.IncrementalAggregator IncrementalAggregator}'s state is discarded with
+     * each batch. The window cannot be aggregated periodically
+     * or joined.
+     * <BR>
+     * A key based partitioned window can be created from the returned window
+     * using {@link TWindow#key(Function)} or {@link TWindow#key()}.
+     * When the window is partitioned each partition independently
+     * batches {@code count} tuples for each key seen on this stream.
+     * 
+     * @param count Number of tuples in each batch.
+     * @return Window on this stream representing batches of {@code count} tuples.
+     * 
+     * @throws IllegalArgumentException {@code count} is less than one.
+     */
+    TWindow<T,Object> batch(int count);
+
+    /**
+     * Declare a {@link TWindow} of batches of the tuples seen on this stream
+     * in each period of {@code time}.
+     * Unlike {@link #last(long, TimeUnit)} the window is tumbling, at the
+     * end of each period the window's contents are processed and then all
+     * its tuples are discarded, so each tuple belongs to exactly one batch.
+     * Nothing is processed for a period with no tuples.
+     * <BR>
+     * {@link TWindow#aggregate(Function)} on the window calls the aggregator
+     * once for each batch, e.g. a per-minute rollup of a stream is
+     * {@code s.batch(1, TimeUnit.MINUTES).aggregate(rollup)}.
+     * An {@link com.ibm.streamsx.topology.function.IncrementalAggregator IncrementalAggregator}'s state is discarded with
+     * each batch. The window cannot be aggregated periodically
+     * or joined.
+     * <BR>
+     * A key based partitioned window can be created from the returned window
+     * using {@link TWindow#key(Function)} or {@link TWindow#key()}.
+     * 
+     * @param time Time period of each batch.
+     * @param unit Unit for {@code time}.
+     * @return Window on this stream representing batches of each {@code time} period.
+     * 
+     * @throws IllegalArgumentException {@code time} is not greater than zero.
+     */
+    TWindow<T,Object> batch(long time, TimeUnit unit);
+
+    /**
+     * Declare a {@link TWindow} of sessions of tuples on this stream,
+     * where a session is closed when no tuple has been seen
+     * for {@code gap}.
+     * When a session is closed its contents are processed and
+     * then all its tuples are discarded, the next tuple starts a new session.
+     * Any open sessions are closed when the stream is finalized.
+     * <BR>
+     * {@link TWindow#aggregate(Function)} on the window calls the aggregator
+     * once for each session. An {@link com.ibm.streamsx.topology.function.IncrementalAggregator IncrementalAggregator}'s state is
+     * discarded with each session. The window cannot be aggregated periodically
+     * or joined.
+     * <BR>
+     * A key based partitioned window can be created from the returned window
+     * using {@link TWindow#key(Function)} or {@link TWindow#key()}.
+     * When the window is partitioned each key has its own sessions,
+     * closed when no tuple has been seen for that key for {@code gap}.
+     * 
+     * @param gap Time without any tuples that closes a session.
+     * @param unit Unit for {@code gap}.
+     * @return Window on this stream representing sessions separated by {@code gap}.
+     * 
+     * @throws IllegalArgumentException {@code gap} is not greater than zero.
+     */
+    TWindow<T,Object> session(long gap, TimeUnit unit);
+
     /**
      * Declare a {@link TWindow} on this stream that has the same configuration
      * as another window.
@@ -959,6 +1130,11 @@ public interface TStream<T> extends TopologyElement, Placeable<TStream<T>>  {
      * routed so that all tuples with the same key are sent to the same channel.
      * This is equivalent to calling {@link #parallel(Supplier, Function)} with
      * an identity function.
+     * <BR>
+     * If {@link Routing#CONSISTENT_HASH_PARTITIONED} or {@link Routing#HOT_KEY_PARTITIONED}
+     * is specified each tuple is taken to be its own key, as with {@link Routing#KEY_PARTITIONED}.
+     * This is equivalent to calling {@link #parallel(Supplier, Function, Routing)} with
+     * an identity function.
      * <br><br>
      * Source operations may be parallelized as well, refer to {@link TStream#setParallel(Supplier)} for more information.
      * <br><br>
@@ -1226,7 +1402,34 @@ public interface TStream<T> extends TopologyElement, Placeable<TStream<T>>  {
      * @see #parallel(Supplier, Routing)
      */
     TStream<T> parallel(Supplier<Integer> width, Function<T,?> keyer);
-    
+
+    /**
+     * Parallelizes the stream into a number of parallel channels
+     * using key based distribution.
+     * <BR>
+     * For each tuple {@code t} {@code keyer.apply(t)} is called
+     * and then the tuple is routed according to {@code routing}:
+     * <UL>
+     * <LI>{@link Routing#KEY_PARTITIONED} - Same as {@link #parallel(Supplier, Function)}.</LI>
+     * <LI>{@link Routing#CONSISTENT_HASH_PARTITIONED} - All tuples with the same key are sent
+     * to the same channel, and few keys move channel when the width is changed.</LI>
+     * <LI>{@link Routing#HOT_KEY_PARTITIONED} - Tuples with the same key are sent to the same
+     * channel, unless the key is hot, when its tuples are spread across multiple channels.</LI>
+     * </UL>
+     *
+     * @param width The degree of parallelism.
+     * @param keyer Function to obtain the key from each tuple.
+     * @param routing Defines how tuples will be routed to channels using their key.
+     * @return A reference to a stream with {@code width} channels
+     * at the beginning of the parallel region.
+     *
+     * @throws IllegalArgumentException if {@code routing} is not a key based routing.
+     *
+     * @see Routing#CONSISTENT_HASH_PARTITIONED
+     * @see Routing#HOT_KEY_PARTITIONED
+     */
+    TStream<T> parallel(Supplier<Integer> width, Function<T,?> keyer, Routing routing);
+
     /**
      * Sets the current stream as the start of a parallel region.
      * 
@@ -1318,6 +1521,55 @@ public interface TStream<T> extends TopologyElement, Placeable<TStream<T>>  {
      */
     TStream<T> endLowLatency();
 
+    /**
+     * Record the latency of the function call that produced each tuple
+     * of this stream, for example the {@code Function} passed to
+     * {@link #transform(Function)} or {@code Predicate} passed to {@link #filter(Predicate)}.
+     * <BR>
+     * The operator producing this stream exports the 50th, 99th and 99.9th
+     * percentiles and maximum of the latency in nanoseconds as the custom
+     * metrics {@code latencyP50}, {@code latencyP99}, {@code latencyP999}
+     * and {@code latencyMax}. The metrics are updated every second
+     * from the function calls made during the last second.
+     * 
+     * @return This stream.
+     * @throws IllegalStateException This stream was not produced by a function
+     * passed to a method of {@code TStream} or {@link TWindow}.
+     * 
+     * @see TSink#latencyMetrics()
+     */
+    TStream<T> latencyMetrics();
+
+    /**
+     * Trace the latency of a sample of this stream's tuples
+     * as they pass through the topology.
+     * <BR>
+     * The source function producing this stream stamps a random sample
+     * of its tuples. Each downstream operator that calls a function,
+     * including a {@link TSink}, records the latency of the sampled tuples
+     * from the previous operator and from the source, a tuple
+     * submitted by an operator while it processes a sampled tuple is also sampled.
+     * The latencies in nanoseconds are exported by each operator as the
+     * custom metrics {@code traceHopLatencyP50}, {@code traceHopLatencyP99},
+     * {@code traceHopLatencyP999} and {@code traceHopLatencyMax} (from the
+     * previous operator) and {@code traceLatencyP50}, {@code traceLatencyP99},
+     * {@code traceLatencyP999} and {@code traceLatencyMax} (from the source).
+     * The metrics are updated every second from the tuples
+     * that arrived during the last second.
+     * <BR>
+     * Tuples are only traced through operators in the same process as
+     * the source (see {@link #lowLatency()}), and are no longer traced once
+     * queued by an operator's queue.
+     * 
+     * @param fraction Fraction of the tuples to trace, greater than zero
+     * and not greater than one.
+     * @return This stream.
+     * @throws IllegalArgumentException {@code fraction} is out of range.
+     * @throws IllegalStateException This stream was not produced by a source
+     * function, for example one passed to {@link Topology#source(Supplier)}.
+     */
+    TStream<T> traceLatency(double fraction);
+
 
     /**
      * Throttle a stream by ensuring any tuple is submitted with least
@@ -1331,6 +1583,36 @@ public interface TStream<T> extends TopologyElement, Placeable<TStream<T>>  {
      */
     TStream<T> throttle(long delay, TimeUnit unit);
     
+    /**
+     * Throttle a stream to a maximum rate using a token bucket.
+     * <BR>
+     * The bucket holds up to {@code burst} tokens and is refilled
+     * at {@code rate} tokens per second, each tuple takes a token.
+     * Thus after the stream has been idle up to {@code burst} tuples
+     * are submitted without delay while over any longer period
+     * the rate does not exceed {@code rate} tuples per second.
+     * <BR>
+     * A tuple that arrives when the bucket is empty is
+     * dropped if {@code drop} is true, so the returned stream is a
+     * sample of this stream at the rate, otherwise it is delayed until
+     * a token is available, blocking the processing of subsequent tuples.
+     * <BR>
+     * The number of tuples dropped and delayed are
+     * reported by the metrics {@code nDroppedTuples} and {@code nDelayedTuples}.
+     * 
+     * @param rate Maximum rate in tuples per second.
+     * @param burst Maximum number of tuples submitted without delay
+     * after the stream has been idle.
+     * @param drop True to drop tuples that exceed the rate, false to delay them.
+     * @return Stream containing tuples on this stream, throttled to {@code rate}.
+     * 
+     * @throws IllegalArgumentException {@code rate} is not greater than zero
+     * or {@code burst} is less than one.
+     * 
+     * @see #throttle(long, TimeUnit)
+     */
+    TStream<T> throttle(double rate, int burst, boolean drop);
+    
     /**
      * Return a strongly typed reference to this stream.
      * If this stream is already strongly typed as containing tuples
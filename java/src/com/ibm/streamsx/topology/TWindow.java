@@ -9,6 +9,7 @@ import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 import com.ibm.streamsx.topology.function.Function;
+import com.ibm.streamsx.topology.function.IncrementalAggregator;
 
 /**
  * Declares a window of tuples for a {@link TStream}. Logically a {@code Window}
@@ -84,6 +85,75 @@ public interface TWindow<T,K> extends TopologyElement {
     <A> TStream<A> aggregate(Function<List<T>, A> aggregator, long period,
             TimeUnit unit);
 
+    /**
+     * Declares a stream that containing tuples that represent an incremental
+     * aggregation of this window. Each time a tuple is inserted into the window
+     * {@code aggregator.add(state, tuple)} is called and each time a tuple
+     * is evicted from the window {@code aggregator.remove(state, tuple)}
+     * is called, where {@code state} is the aggregation state for the
+     * tuple's window partition. Then
+     * {@code aggregator.result(state)} is called to produce
+     * the latest aggregation, with the same semantics as
+     * {@link #aggregate(Function)}.
+     * <BR>
+     * The cost of maintaining the aggregation is independent of the
+     * number of tuples in the window, for example a rolling sum
+     * over {@code last(1000)} costs a single {@code add} and {@code remove}
+     * per tuple, rather than iterating over all tuples in the window.
+     * 
+     * @param aggregator
+     *            Logic to incrementally aggregate the window contents.
+     * @return A stream that contains the latest aggregations of this window.
+     * 
+     * @see #aggregate(Function)
+     */
+    <S, A> TStream<A> aggregate(IncrementalAggregator<T, S, A> aggregator);
+
+    /**
+     * Declares a stream that containing tuples that represent an incremental
+     * aggregation of this window. The aggregation state for each window
+     * partition is maintained as tuples are inserted and evicted, as described
+     * for {@link #aggregate(IncrementalAggregator)}, and approximately every
+     * {@code period} (with unit {@code unit})
+     * {@code aggregator.result(state)} is called to produce the
+     * latest aggregation.
+     * 
+     * @param aggregator
+     *            Logic to incrementally aggregate the window contents.
+     * @param period
+     *            Approximately how often to perform the aggregation.
+     * @param unit
+     *            Time unit for {@code period}.
+     * @return A stream that contains the latest aggregations of this window.
+     * 
+     * @see #aggregate(Function, long, TimeUnit)
+     */
+    <S, A> TStream<A> aggregate(IncrementalAggregator<T, S, A> aggregator, long period,
+            TimeUnit unit);
+
+    /**
+     * Declares a stream containing random samples of this window.
+     * Each time a tuple is inserted into the window a uniform random
+     * sample (without replacement) of {@code k} tuples of the window
+     * or window partition is submitted as a {@code List}, with the same
+     * semantics as {@link #aggregate(Function)}.
+     * If the window contains {@code k} or fewer tuples then
+     * all its tuples are submitted.
+     * <BR>
+     * The sampled tuples are in order of insertion into the window,
+     * from oldest to newest. Selecting the sample costs time and memory
+     * proportional to {@code k}, independent of the number of tuples
+     * in the window.
+     * 
+     * @param k Number of tuples in each sample.
+     * @return A stream that contains the latest samples of this window.
+     * 
+     * @throws IllegalArgumentException {@code k} is less than one.
+     * 
+     * @see TStream#sample(double)
+     */
+    TStream<List<T>> sample(int k);
+
     /**
      * Class of the tuples in this window. WIll be the same as {@link #getTupleType()}
      * is a {@code Class} object.
@@ -144,4 +214,27 @@ public interface TWindow<T,K> extends TopologyElement {
      * @see #key()
      */
     boolean isKeyed();
+    
+    /**
+     * Return a window that has the same configuration as this window
+     * with its tuples held off the Java heap.
+     * <P>
+     * Tuples in the window are held in serialized form in direct memory
+     * and are only deserialized when the window's contents are passed
+     * to an aggregation or join function. This reduces the heap usage
+     * (and thus garbage collection pauses) of large windows,
+     * for example a window of the last ten minutes of a high rate stream,
+     * at the cost of deserializing the tuples each time they are accessed.
+     * </P>
+     * <P>
+     * Tuples are serialized using Java serialization, so the
+     * tuple type must be {@code Serializable}.
+     * An {@link IncrementalAggregator} is best suited to an off-heap window,
+     * as only each evicted tuple is deserialized to maintain its aggregation,
+     * rather than the complete window contents.
+     * </P>
+     * @return Window with the same configuration as this window
+     * that holds its tuples off-heap.
+     */
+    TWindow<T,K> offHeap();
 }
@@ -31,6 +31,7 @@ import com.ibm.streamsx.topology.builder.BOperatorInvocation;
 import com.ibm.streamsx.topology.builder.GraphBuilder;
 import com.ibm.streamsx.topology.context.ContextProperties;
 import com.ibm.streamsx.topology.context.StreamsContext;
+import com.ibm.streamsx.topology.function.BatchSupplier;
 import com.ibm.streamsx.topology.function.Function;
 import com.ibm.streamsx.topology.function.Supplier;
 import com.ibm.streamsx.topology.internal.core.DependencyResolver;
@@ -44,6 +45,7 @@ import com.ibm.streamsx.topology.internal.core.TypeDiscoverer;
 import com.ibm.streamsx.topology.internal.functional.SubmissionParameter;
 import com.ibm.streamsx.topology.internal.gson.GsonUtilities;
 import com.ibm.streamsx.topology.internal.logic.Constants;
+import com.ibm.streamsx.topology.internal.logic.BatchedSupplier;
 import com.ibm.streamsx.topology.internal.logic.EndlessSupplier;
 import com.ibm.streamsx.topology.internal.logic.LimitedSupplier;
 import com.ibm.streamsx.topology.internal.logic.LogicUtils;
@@ -276,6 +278,29 @@ public class Topology implements TopologyElement {
         return _source(data, tupleType, "Source");
     }
     
+    /**
+     * Declare a new source stream containing the values supplied
+     * in batches by {@code data}.
+     * {@code data.fill(batch, size)} is called repeatably until
+     * it returns {@code false}, each non-null value it adds to
+     * {@code batch} will be present on the stream.
+     * <BR>
+     * Obtaining tuples a batch at a time reduces the per-tuple overhead
+     * of the source compared to {@link #source(Supplier)}, for
+     * sources that produce a high rate of tuples.
+     * A batch's tuples are only submitted once {@code fill} returns,
+     * so a function that waits for its data should return the values
+     * it has rather than wait to fill the requested size.
+     * 
+     * @param data
+     *            Function that produces the data for the stream.
+     * @return New stream containing the values supplied by {@code data}.
+     */
+    public <T> TStream<T> batchSource(BatchSupplier<T> data) {
+        Type tupleType = TypeDiscoverer.determineStreamTypeFromFunctionArg(BatchSupplier.class, 0, data);
+        return _source(new BatchedSupplier<T>(data), tupleType, "Source");
+    }
+    
     private <T> TStream<T> _source(Supplier<Iterable<T>> data,
             Type tupleType, String layoutKind) {
                 
@@ -576,6 +601,8 @@ public class Topology implements TopologyElement {
 
         dependencyResolver.resolveDependencies();
         
+        JavaFunctional.finalizeLatencyTrace(builder());
+        
         finalizeConfig();
     }
     
@@ -21,6 +21,7 @@ public class BInputPort extends BInput {
     
     public interface Window {
         String SLIDING = "SLIDING";
+        String TUMBLING = "TUMBLING";
         
         String NONE_POLICY = "NONE";
         String TIME_POLICY = "TIME";
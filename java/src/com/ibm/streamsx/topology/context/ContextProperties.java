@@ -199,5 +199,48 @@ public interface ContextProperties {
      */
     String SC_OPTIONS = "topology.sc.options";
 
+    /**
+     * Execute an {@link StreamsContext.Type#EMBEDDED embedded} topology
+     * using multiple threads.
+     * <BR>
+     * By default an embedded topology is executed with tuples
+     * processed on the threads of its sources. When this
+     * is set to {@code true} the topology's threading follows
+     * its placement and parallel regions:
+     * <UL>
+     * <LI>The stream returned by {@link com.ibm.streamsx.topology.TStream#isolate()}
+     * is processed by its own thread.</LI>
+     * <LI>The region started by {@link com.ibm.streamsx.topology.TStream#parallel(int)}
+     * is replicated into {@code width} channels, each channel is processed
+     * by its own thread. The stream returned by
+     * {@link com.ibm.streamsx.topology.TStream#endParallel()} is processed by its own thread.</LI>
+     * <LI>A {@link com.ibm.streamsx.topology.TStream#lowLatency() low latency region}
+     * is processed by a single thread, parallel regions within it are replicated
+     * but their channels are not processed by their own threads.</LI>
+     * </UL>
+     * Threads are connected by bounded queues, a thread blocks
+     * when the queue to the next thread is full.
+     * Nested parallel regions are processed with a single
+     * channel within each channel of the outermost region.
+     * <BR>
+     * Argument is a {@code Boolean}, defaulting to {@code false}.
+     */
+    String EMBEDDED_THREADED = "topology.embeddedThreaded";
+
+    /**
+     * How a thread waits on a queue between the threads of
+     * an {@link #EMBEDDED_THREADED threaded} embedded topology,
+     * either for tuples to process or for space to submit a tuple.
+     * <UL>
+     * <LI>{@code park} - spin briefly, then yield and then park the thread.
+     * Lowest CPU usage when the queue is idle.</LI>
+     * <LI>{@code yield} - spin briefly and then yield the processor.</LI>
+     * <LI>{@code spin} - busy spin. Lowest hand-off latency, but
+     * a waiting thread consumes a core.</LI>
+     * </UL>
+     * Argument is a {@code String}, defaulting to {@code park}.
+     */
+    String EMBEDDED_QUEUE_WAIT = "topology.embeddedQueueWait";
+
     String _SPLMM_OPTIONS = "topology.internal.splmm_options";
 }
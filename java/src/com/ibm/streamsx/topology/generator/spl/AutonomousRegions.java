@@ -1,9 +1,6 @@
 package com.ibm.streamsx.topology.generator.spl;
 
-import static com.ibm.streamsx.topology.generator.spl.GraphUtilities.getDownstream;
-
 import java.util.List;
-import java.util.Set;
 
 import com.google.gson.JsonObject;
 import com.ibm.streamsx.topology.builder.BVirtualMarker;
@@ -29,15 +26,18 @@ class AutonomousRegions {
 
         List<JsonObject> autonomousOperators = GraphUtilities.findOperatorByKind(
                 BVirtualMarker.AUTONOMOUS, graph);
+        if (autonomousOperators.isEmpty())
+            return;
 
+        final GraphIndex index = new GraphIndex(graph);
         for (JsonObject autonomous : autonomousOperators) {
-        	for (JsonObject sa : getDownstream(autonomous, graph)) {
+        	for (JsonObject sa : index.downstream(autonomous)) {
         		if (!sa.has(AUTONOMOUS))
         		    sa.addProperty(AUTONOMOUS, Boolean.TRUE);
         	}
         }
  
-        GraphUtilities.removeOperators(autonomousOperators, graph);
+        index.removeOperators(autonomousOperators);
     }
     
     /**
@@ -0,0 +1,241 @@
+/*
+# Licensed Materials - Property of IBM
+# Copyright IBM Corp. 2026
+ */
+package com.ibm.streamsx.topology.generator.spl;
+
+import static com.ibm.streamsx.topology.generator.spl.GraphUtilities.inputConnections;
+import static com.ibm.streamsx.topology.generator.spl.GraphUtilities.inputs;
+import static com.ibm.streamsx.topology.generator.spl.GraphUtilities.operators;
+import static com.ibm.streamsx.topology.generator.spl.GraphUtilities.outputs;
+import static com.ibm.streamsx.topology.internal.gson.GsonUtilities.array;
+import static com.ibm.streamsx.topology.internal.gson.GsonUtilities.jstring;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+
+/**
+ * Index of the connections between the operators of a graph.
+ * <BR>
+ * Each output port name is mapped to its operator and to the operators
+ * with an input port connected to it, so that finding the operators
+ * immediately upstream or downstream of an operator is proportional to
+ * its number of connections, rather than the size of the graph as with
+ * {@link GraphUtilities#getUpstream(JsonObject, JsonObject)} and
+ * {@link GraphUtilities#getDownstream(JsonObject, JsonObject)}.
+ * <BR>
+ * An index reflects the structure of the graph when it was created,
+ * it must not be used after operators or connections are added or removed
+ * other than through {@link #removeOperators(Collection)}.
+ * Changes to an operator's properties, such as its
+ * placement or port types, do not affect the index.
+ */
+final class GraphIndex {
+
+    private final JsonObject graph;
+
+    /**
+     * Output port name to its operator.
+     */
+    private final Map<String,JsonObject> producers = new HashMap<>();
+
+    /**
+     * Output port name to the operators with an input connected to it.
+     */
+    private final Map<String,List<JsonObject>> consumers = new HashMap<>();
+
+    GraphIndex(JsonObject graph) {
+        this.graph = graph;
+        operators(graph, op -> {
+            outputs(op, output -> producers.put(jstring(output, "name"), op));
+            addConsumer(op);
+        });
+    }
+
+    JsonObject graph() {
+        return graph;
+    }
+
+    /**
+     * Get all operators immediately upstream of {@code op}.
+     * @see GraphUtilities#getUpstream(JsonObject, JsonObject)
+     */
+    Set<JsonObject> upstream(JsonObject op) {
+        Set<JsonObject> parents = new HashSet<>();
+        inputConnections(op, oport -> {
+            JsonObject parent = producers.get(oport);
+            if (parent != null)
+                parents.add(parent);
+        });
+        return parents;
+    }
+
+    /**
+     * Get all operators immediately downstream of {@code op}.
+     * @see GraphUtilities#getDownstream(JsonObject, JsonObject)
+     */
+    Set<JsonObject> downstream(JsonObject op) {
+        Set<JsonObject> children = new HashSet<>();
+        outputs(op, output -> {
+            List<JsonObject> connected = consumers.get(jstring(output, "name"));
+            if (connected != null)
+                children.addAll(connected);
+        });
+        return children;
+    }
+
+    private void addConsumer(JsonObject op) {
+        inputConnections(op, oport -> {
+            List<JsonObject> connected = consumers.get(oport);
+            if (connected == null)
+                consumers.put(oport, connected = new ArrayList<>(1));
+            connected.add(op);
+        });
+    }
+
+    private void removeConsumer(JsonObject op) {
+        inputConnections(op, oport -> {
+            List<JsonObject> connected = consumers.get(oport);
+            if (connected != null)
+                connected.removeIf(c -> c == op);
+        });
+    }
+
+    /**
+     * Remove operators from the graph, connecting each
+     * operator's upstream operators to its downstream operators.
+     * The index is updated to reflect the modified graph.
+     */
+    void removeOperators(Collection<JsonObject> operators) {
+        if (operators.isEmpty())
+            return;
+
+        for (JsonObject iso : operators) {
+
+            // Get parents and children of operator
+            Set<JsonObject> operatorParents = upstream(iso);
+            Set<JsonObject> operatorChildren = downstream(iso);
+
+            JsonArray operatorOutputs = array(iso, "outputs");
+
+            // Get the output name of the operator
+            String operatorOutName="";
+            if(operatorOutputs != null){
+                JsonObject operatorFirstOutput = operatorOutputs.get(0).getAsJsonObject();
+                if(operatorFirstOutput != null){
+                    operatorOutName = jstring(operatorFirstOutput, "name");
+                }
+            }
+
+            // Also get input names
+            List<String> operatorInNames = new ArrayList<>();
+            inputs(iso, input -> operatorInNames.add(jstring(input, "name")));
+
+            // Respectively, the names of the child and parent input and
+            // output ports connected to the operator.
+            List<String> childInputPortNames = new ArrayList<>();
+            List<String> parentOutputPortNames = new ArrayList<>();
+
+            // References to the list of connections for the parent and child
+            // output and input ports that are connected to the
+            // operator.
+            List<JsonArray> childConnections = new ArrayList<>();
+            List<JsonArray> parentConnections = new ArrayList<>();
+
+            // The children's input connections are modified.
+            for (JsonObject child : operatorChildren)
+                removeConsumer(child);
+            removeConsumer(iso);
+
+            // Get names of children's input ports that are connected to the
+            // operator;
+            for (JsonObject child : operatorChildren) {
+                JsonArray inputs = child.get("inputs").getAsJsonArray();
+                for (JsonElement inputObj : inputs) {
+                    JsonObject input = inputObj.getAsJsonObject();
+                    JsonArray connections = input.get("connections").getAsJsonArray();
+                    for (JsonElement connectionObj : connections) {
+                        String connection = connectionObj.getAsString();
+                        if (connection.equals(operatorOutName)) {
+                            childInputPortNames.add(jstring(input, "name"));
+                            childConnections.add(connections);
+                            connections.remove(connectionObj);
+                            break;
+                        }
+                    }
+                }
+            }
+
+            // Get names of parent's output ports that are connected to the
+            // operator;
+            for (JsonObject parent : operatorParents) {
+                JsonArray outputs = parent.get("outputs").getAsJsonArray();
+                for (JsonElement outputObj : outputs) {
+                    JsonObject output = outputObj.getAsJsonObject();
+                    JsonArray connections = output.get("connections").getAsJsonArray();
+                    for (JsonElement connectionObj : connections) {
+                        String connection = connectionObj.getAsString();
+                        if(operatorInNames.contains(connection)) {
+                            parentOutputPortNames.add(jstring(output, "name"));
+                            parentConnections.add(connections);
+                            connections.remove(connectionObj);
+                            break;
+                        }
+                    }
+                }
+            }
+
+            // Connect child to parents
+            for (JsonArray childConnection : childConnections) {
+                for (String name : parentOutputPortNames)
+                    childConnection.add(new JsonPrimitive(name));
+            }
+
+            // Connect parent to children
+            for (JsonArray parentConnection : parentConnections) {
+                for (String name : childInputPortNames)
+                    parentConnection.add(new JsonPrimitive(name));
+            }
+
+            for (JsonObject child : operatorChildren)
+                addConsumer(child);
+            outputs(iso, output -> {
+                producers.remove(jstring(output, "name"));
+                consumers.remove(jstring(output, "name"));
+            });
+        }
+
+        removeFromGraph(graph, operators);
+    }
+
+    /**
+     * Remove operators from a graph's operators, without
+     * modifying any connections.
+     * Operators are removed by identity in a single pass,
+     * rather than by equality, which compares the complete
+     * contents of the operators.
+     */
+    static void removeFromGraph(JsonObject graph, Collection<JsonObject> operators) {
+        Set<JsonObject> removed = Collections.newSetFromMap(new IdentityHashMap<>());
+        removed.addAll(operators);
+
+        Iterator<JsonElement> ops = array(graph, "operators").iterator();
+        while (ops.hasNext()) {
+            if (removed.contains(ops.next()))
+                ops.remove();
+        }
+    }
+}
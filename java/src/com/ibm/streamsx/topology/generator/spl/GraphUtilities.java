@@ -13,10 +13,13 @@ import static com.ibm.streamsx.topology.internal.gson.GsonUtilities.jstring;
 import static com.ibm.streamsx.topology.internal.gson.GsonUtilities.objectArray;
 import static com.ibm.streamsx.topology.internal.gson.GsonUtilities.stringArray;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
@@ -259,91 +262,9 @@ public class GraphUtilities {
 
     static void removeOperators(Collection<JsonObject> operators,
             JsonObject graph) {
-        for (JsonObject iso : operators) {
-
-            // Get parents and children of operator
-            Set<JsonObject> operatorParents = getUpstream(iso, graph);
-            Set<JsonObject> operatorChildren = getDownstream(iso, graph);
-
-            
-            JsonArray operatorOutputs = array(iso, "outputs");
-            
-            // Get the output name of the operator
-            String operatorOutName="";
-            if(operatorOutputs != null){
-                JsonObject operatorFirstOutput = operatorOutputs.get(0).getAsJsonObject();
-                if(operatorFirstOutput != null){
-                    operatorOutName = jstring(operatorFirstOutput, "name");
-                }
-            }
-            
-            // Also get input names
-            List<String> operatorInNames = new ArrayList<>();
-            inputs(iso, input -> operatorInNames.add(jstring(input, "name")));
-
-            // Respectively, the names of the child and parent input and
-            // output ports connected to the operator.
-            List<String> childInputPortNames = new ArrayList<>();
-            List<String> parentOutputPortNames = new ArrayList<>();
-
-            // References to the list of connections for the parent and child
-            // output and input ports that are connected to the $isolate$
-            // operator.
-            List<JsonArray> childConnections = new ArrayList<>();
-            List<JsonArray> parentConnections = new ArrayList<>();
-
-            // Get names of children's input ports that are connected to the
-            // operator;
-            for (JsonObject child : operatorChildren) {
-                JsonArray inputs = child.get("inputs").getAsJsonArray();
-                for (JsonElement inputObj : inputs) {
-                    JsonObject input = inputObj.getAsJsonObject();
-                    JsonArray connections = input.get("connections").getAsJsonArray();
-                    for (JsonElement connectionObj : connections) {
-                        String connection = connectionObj.getAsString();
-                        if (connection.equals(operatorOutName)) {
-                            childInputPortNames.add(jstring(input, "name"));
-                            childConnections.add(connections);
-                            connections.remove(connectionObj);
-                            break;
-                        }
-                    }
-                }
-            }
-
-            // Get names of parent's output ports that are connected to the
-            // $Isolate$ operator;
-            for (JsonObject parent : operatorParents) {
-                JsonArray outputs = parent.get("outputs").getAsJsonArray();
-                for (JsonElement outputObj : outputs) {
-                    JsonObject output = outputObj.getAsJsonObject();
-                    JsonArray connections = output.get("connections").getAsJsonArray();
-                    for (JsonElement connectionObj : connections) {
-                        String connection = connectionObj.getAsString();
-                        if(operatorInNames.contains(connection)) {	
-                            parentOutputPortNames.add(jstring(output, "name"));
-                            parentConnections.add(connections);
-                            connections.remove(connectionObj);
-                            break;
-                        }
-                    }
-                }
-            }
-
-            // Connect child to parents
-            for (JsonArray childConnection : childConnections) {
-                for (String name : parentOutputPortNames)
-                    childConnection.add(new JsonPrimitive(name));
-            }
-
-            // Connect parent to children
-            for (JsonArray parentConnection : parentConnections) {
-                for (String name : childInputPortNames)
-                    parentConnection.add(new JsonPrimitive(name));
-            }
-            JsonArray ops = graph.get("operators").getAsJsonArray();
-            ops.remove(iso);
-        }
+        if (operators.isEmpty())
+            return;
+        new GraphIndex(graph).removeOperators(operators);
     }
     
     public enum Direction {UPSTREAM, DOWNSTREAM, BOTH};
@@ -397,45 +318,56 @@ public class GraphUtilities {
     public static void visitOnce(VisitController visitController,
             Set<JsonObject> starts, JsonObject graph,
             Consumer<JsonObject> consumer) {
-        Set<JsonObject> visited = new HashSet<>();
-        List<JsonObject> unvisited = new ArrayList<>();
+        visitOnce(visitController, starts, new GraphIndex(graph), consumer);
+    }
+
+    /**
+     * Visit using an existing index of the graph.
+     * @see #visitOnce(VisitController, Set, JsonObject, Consumer)
+     */
+    static void visitOnce(VisitController visitController,
+            Set<JsonObject> starts, GraphIndex index,
+            Consumer<JsonObject> consumer) {
+        // Operators are tracked by identity, the consumer may modify
+        // an operator which would change its hash code.
+        Set<JsonObject> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        Deque<JsonObject> unvisited = new ArrayDeque<>();
         if (visitController == null)
             visitController = new VisitController();
 
-
         unvisited.addAll(starts);
 
-        while (unvisited.size() > 0) {
-            JsonObject op = unvisited.get(0);
-            // Modify and THEN add to hashSet as to not break the hashCode of
-            // the object in the hashSet.
+        while (!unvisited.isEmpty()) {
+            JsonObject op = unvisited.removeFirst();
+            // An operator may have been reached through
+            // multiple paths before it was visited.
+            if (!visited.add(op))
+                continue;
             if (visitController.stopped())
                 return;
             consumer.accept(op);
-            visited.add(op);  
             GraphUtilities.getUnvisitedAdjacentNodes(visitController, visited,
-                    unvisited, op, graph);
-            unvisited.remove(0);
+                    unvisited, op, index);
         }
     }
 
     static void getUnvisitedAdjacentNodes(
             Collection<JsonObject> visited, Collection<JsonObject> unvisited,
-            JsonObject op, JsonObject graph, Set<BVirtualMarker> boundaries) {
+            JsonObject op, GraphIndex index, Set<BVirtualMarker> boundaries) {
         getUnvisitedAdjacentNodes(new VisitController(Direction.BOTH, boundaries),
-                visited, unvisited, op, graph);
+                visited, unvisited, op, index);
     }
 
     static void getUnvisitedAdjacentNodes(
             VisitController visitController,
             Collection<JsonObject> visited, Collection<JsonObject> unvisited,
-            JsonObject op, JsonObject graph) {
+            JsonObject op, GraphIndex index) {
         
         Direction direction = visitController.direction();
         Set<BVirtualMarker> boundaries = visitController.markerBoundaries();
         
-        Set<JsonObject> parents = getUpstream(op, graph);
-        Set<JsonObject> children = getDownstream(op, graph);
+        Set<JsonObject> parents = index.upstream(op);
+        Set<JsonObject> children = index.downstream(op);
         removeVisited(parents, visited);
         removeVisited(children, visited);
 
@@ -446,7 +378,7 @@ public class GraphUtilities {
             for (JsonObject parent : parents) {
                 if (equalsAny(boundaries, jstring(parent, OpProperties.KIND))) {
                     operatorParents.add(parent);
-                    allOperatorChildren.addAll(getDownstream(parent, graph));
+                    allOperatorChildren.addAll(index.downstream(parent));
                 }
             }
             visited.addAll(operatorParents);
@@ -465,7 +397,7 @@ public class GraphUtilities {
             for (JsonObject child : children) {
                 if (equalsAny(boundaries, jstring(child, "kind"))) {
                     childrenToRemove.add(child);
-                    allOperatorParents.addAll(getUpstream(child, graph));
+                    allOperatorParents.addAll(index.upstream(child));
                 }
             }
             visited.addAll(childrenToRemove);
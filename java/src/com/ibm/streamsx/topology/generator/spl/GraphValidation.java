@@ -5,8 +5,6 @@
 package com.ibm.streamsx.topology.generator.spl;
 
 import static com.ibm.streamsx.topology.generator.spl.GraphUtilities.findOperatorByKind;
-import static com.ibm.streamsx.topology.generator.spl.GraphUtilities.getDownstream;
-import static com.ibm.streamsx.topology.generator.spl.GraphUtilities.getUpstream;
 import static com.ibm.streamsx.topology.internal.gson.GsonUtilities.first;
 import static com.ibm.streamsx.topology.internal.gson.GsonUtilities.jstring;
 
@@ -25,12 +23,15 @@ public class GraphValidation {
     
     private void checkValidEndParallel(JsonObject graph){
         List<JsonObject> endParallels = findOperatorByKind(BVirtualMarker.END_PARALLEL, graph);	
+        if (endParallels.isEmpty())
+            return;
 
+        final GraphIndex index = new GraphIndex(graph);
         for (JsonObject endParallel : endParallels) {
             // Setting up loop
             JsonObject endParallelParent = endParallel;
             do {
-                Set<JsonObject> endParallelParents = getUpstream(endParallelParent, graph);
+                Set<JsonObject> endParallelParents = index.upstream(endParallelParent);
                 if (endParallelParents.size() != 1) {
                     throw new IllegalStateException(Messages.getString("GENERATOR_CANNOT_UNION"));
                 }
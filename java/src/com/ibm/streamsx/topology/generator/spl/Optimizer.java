@@ -5,12 +5,20 @@
 package com.ibm.streamsx.topology.generator.spl;
 
 import static com.ibm.streamsx.topology.generator.spl.GraphUtilities.findOperatorsByKinds;
-import static com.ibm.streamsx.topology.generator.spl.GraphUtilities.getDownstream;
+import static com.ibm.streamsx.topology.generator.operator.OpProperties.LANGUAGE;
+import static com.ibm.streamsx.topology.generator.operator.OpProperties.LANGUAGE_JAVA;
+import static com.ibm.streamsx.topology.generator.operator.OpProperties.MODEL;
+import static com.ibm.streamsx.topology.generator.operator.OpProperties.MODEL_FUNCTIONAL;
 import static com.ibm.streamsx.topology.generator.spl.GraphUtilities.kind;
+import static com.ibm.streamsx.topology.generator.spl.GraphUtilities.operators;
 import static com.ibm.streamsx.topology.internal.gson.GsonUtilities.array;
+import static com.ibm.streamsx.topology.internal.functional.ObjectSchemas.JAVA_OBJECT_SCHEMA;
 import static com.ibm.streamsx.topology.internal.gson.GsonUtilities.jstring;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import com.google.gson.JsonArray;
@@ -29,7 +37,10 @@ class Optimizer {
     }
 
     void optimize() {
-        pyPassByRef();
+        final GraphIndex index = new GraphIndex(graph);
+        pyPassByRef(index);
+        javaHashRemovers(index);
+        javaPassByRef(index);
     }
 
     private static final String PY_OP_NS = "com.ibm.streamsx.topology.functional.python";
@@ -53,7 +64,7 @@ class Optimizer {
      * Does not modify the structure of the graph.
      * Assumes the graph's structure will not be subsequently modified.
      */
-    private final void pyPassByRef() {
+    private final void pyPassByRef(GraphIndex index) {
         Set<JsonObject> pyops = findOperatorsByKinds(graph, PY_FUNC_OPS);
 
         if (pyops.isEmpty())
@@ -88,7 +99,7 @@ class Optimizer {
                 
                 boolean canPassByRef = true;
                 // TOOD - downstream for a specific port
-                Set<JsonObject> connected = getDownstream(pyop, graph);
+                Set<JsonObject> connected = index.downstream(pyop);
                 for (JsonObject connectedOp : connected) {
                     if (!PY_FUNC_OPS.contains(kind(connectedOp))) {
                         canPassByRef = false;
@@ -137,4 +148,121 @@ class Optimizer {
             }
         }
     }
+
+    /**
+     * Setup Java Map operators to allow pass by reference.
+     * 
+     * Java functional operators already pass the tuple's object
+     * by reference when they are fused, wrapped in a blob that is only
+     * serialized if required. When a Map operator's function
+     * returns the object it was passed (e.g. {@code TStream.modify()})
+     * its input tuple can be forwarded as-is, rather than wrapping
+     * the object in a new blob and tuple.
+     * 
+     * Finds Java functional Map operators whose input is only
+     * connected to Java functional operators and whose output
+     * is only connected to Java functional operators, with
+     * the same Java object schema, and sets the passByRef parameter.
+     * 
+     * The operator checks at runtime that a tuple still holds the
+     * object by reference before forwarding it, so the optimization
+     * is only applied to tuples that have not crossed a PE boundary.
+     * 
+     * Does not modify the structure of the graph.
+     */
+    private final void javaPassByRef(GraphIndex index) {
+        
+        operators(graph, op -> {
+            if (!isJavaFunctional(op) || !kind(op).endsWith("::Map"))
+                return;
+            
+            JsonArray inputs = array(op, "inputs");
+            JsonArray outputs = array(op, "outputs");
+            if (inputs == null || inputs.size() != 1 || outputs == null || outputs.size() != 1)
+                return;
+            
+            if (!JAVA_OBJECT_SCHEMA.equals(jstring(inputs.get(0).getAsJsonObject(), "type")))
+                return;
+            if (!JAVA_OBJECT_SCHEMA.equals(jstring(outputs.get(0).getAsJsonObject(), "type")))
+                return;
+            
+            for (JsonObject upstream : index.upstream(op)) {
+                if (!isJavaFunctional(upstream))
+                    return;
+            }
+            for (JsonObject downstream : index.downstream(op)) {
+                if (!isJavaFunctional(downstream))
+                    return;
+            }
+            
+            JsonObject value = new JsonObject();
+            value.addProperty("value", true);
+            GraphUtilities.addOpParameter(op, "passByRef", value);
+        });
+    }
+    
+    /**
+     * Java functional operators that accept an input
+     * tuple with the {@code __spl_hash} attribute, they
+     * never submit their input tuple.
+     */
+    private static final Set<String> HASH_INPUT_KINDS = new HashSet<>(
+            Arrays.asList("::Map", "::FlatMap", "::ForEach", "::Aggregate"));
+
+    /**
+     * Remove HashRemover operators at the start of key partitioned
+     * parallel regions when they are only connected to Java functional
+     * operators that accept the hash attribute.
+     * 
+     * A HashRemover copies each tuple's object into a new tuple without the
+     * {@code __spl_hash} attribute. Java functional operators that create
+     * new output tuples (rather than forwarding their input tuple) ignore
+     * the attribute, so the copy can be avoided by connecting them
+     * directly to the parallel region's input with the hash schema.
+     * 
+     * Modifies the structure of the graph.
+     */
+    private final void javaHashRemovers(GraphIndex index) {
+        List<JsonObject> removers = new ArrayList<>();
+        operators(graph, op -> {
+            if (!LANGUAGE_JAVA.equals(jstring(op, LANGUAGE))
+                    || !kind(op).endsWith("::HashRemover"))
+                return;
+            
+            JsonArray inputs = array(op, "inputs");
+            if (inputs == null || inputs.size() != 1)
+                return;
+            String hashSchema = jstring(inputs.get(0).getAsJsonObject(), "type");
+            
+            Set<JsonObject> downstream = index.downstream(op);
+            if (downstream.isEmpty())
+                return;
+            for (JsonObject consumer : downstream) {
+                if (!isJavaFunctional(consumer) || !acceptsHash(consumer))
+                    return;
+                JsonArray cinputs = array(consumer, "inputs");
+                if (cinputs.size() != 1
+                        || array(cinputs.get(0).getAsJsonObject(), "connections").size() != 1)
+                    return;
+            }
+            for (JsonObject consumer : downstream)
+                GraphUtilities.setInputPortType(consumer, 0, hashSchema);
+            removers.add(op);
+        });
+        index.removeOperators(removers);
+    }
+    
+    private static boolean acceptsHash(JsonObject op) {
+        final String kind = kind(op);
+        for (String hashKind : HASH_INPUT_KINDS) {
+            if (kind.endsWith(hashKind))
+                return true;
+        }
+        return false;
+    }
+    
+    private static boolean isJavaFunctional(JsonObject op) {
+        return LANGUAGE_JAVA.equals(jstring(op, LANGUAGE))
+                && MODEL_FUNCTIONAL.equals(jstring(op, MODEL));
+    }
 }
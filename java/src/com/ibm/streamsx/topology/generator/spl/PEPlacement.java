@@ -14,8 +14,6 @@ import static com.ibm.streamsx.topology.generator.operator.OpProperties.PLACEMEN
 import static com.ibm.streamsx.topology.generator.operator.OpProperties.PLACEMENT_ISOLATE_REGION_ID;
 import static com.ibm.streamsx.topology.generator.operator.OpProperties.addColocationTag;
 import static com.ibm.streamsx.topology.generator.spl.GraphUtilities.findOperatorByKind;
-import static com.ibm.streamsx.topology.generator.spl.GraphUtilities.getDownstream;
-import static com.ibm.streamsx.topology.generator.spl.GraphUtilities.getUpstream;
 import static com.ibm.streamsx.topology.generator.spl.GraphUtilities.kind;
 import static com.ibm.streamsx.topology.generator.spl.GraphUtilities.operators;
 import static com.ibm.streamsx.topology.internal.graph.GraphKeys.CFG_COLOCATE_IDS;
@@ -79,13 +77,14 @@ class PEPlacement {
      * 
      * @param starts Set of operators upstream or downstream of an isolate marker.
      */
-    private void assignIsolateRegionIds(Set<JsonObject> starts) {
+    private void assignIsolateRegionIds(GraphIndex index, Set<JsonObject> starts) {
 
         final String isolationRegionId = newIsolateRegionId();
 
         Set<BVirtualMarker> boundaries = EnumSet.of(BVirtualMarker.ISOLATE);
 
-        GraphUtilities.visitOnce(starts, boundaries, graph,
+        GraphUtilities.visitOnce(new VisitController(Direction.BOTH, boundaries),
+                starts, index,
                 op -> setIsolateRegionId(op, isolationRegionId));
     }
 
@@ -107,15 +106,16 @@ class PEPlacement {
      *         merged with its parent.
      */
     @SuppressWarnings("serial")
-    private void checkValidColocationRegion(JsonObject isolate) {
-        final Set<JsonObject> isolateChildren = getDownstream(isolate, graph);
-        Set<JsonObject> isoParents = getUpstream(isolate, graph);
+    private void checkValidColocationRegion(GraphIndex index, JsonObject isolate) {
+        final Set<JsonObject> isolateChildren = index.downstream(isolate);
+        Set<JsonObject> isoParents = index.upstream(isolate);
 
         assertNotIsolated(isoParents);
 
         Set<BVirtualMarker> boundaries = EnumSet.of(BVirtualMarker.ISOLATE);
 
-        GraphUtilities.visitOnce(isoParents, boundaries, graph,
+        GraphUtilities.visitOnce(new VisitController(Direction.BOTH, boundaries),
+                isoParents, index,
                 new Consumer<JsonObject>() {
                     @Override
                     public void accept(JsonObject op) {
@@ -136,8 +136,9 @@ class PEPlacement {
         if (!isolateOperators.isEmpty())
             graph.getAsJsonObject("config").addProperty(CFG_HAS_ISOLATE, true);
         
+        final GraphIndex index = new GraphIndex(graph);
         for (JsonObject jso : isolateOperators) {
-            checkValidColocationRegion(jso);
+            checkValidColocationRegion(index, jso);
         }
 
         // Assign isolation regions their partition colocations
@@ -145,11 +146,11 @@ class PEPlacement {
         // and then downstream to separate the regions with
         // different isolate region identifiers.
         for (JsonObject isolate : isolateOperators) {
-            assignIsolateRegionIds(getUpstream(isolate, graph));
-            assignIsolateRegionIds(getDownstream(isolate, graph));
+            assignIsolateRegionIds(index, index.upstream(isolate));
+            assignIsolateRegionIds(index, index.downstream(isolate));
         }
  
-        GraphUtilities.removeOperators(isolateOperators, graph);
+        index.removeOperators(isolateOperators);
     }
     
     private String newIsolateRegionId() {
@@ -181,9 +182,11 @@ class PEPlacement {
         if (lowLatencyStartOperators.isEmpty())
             return;
         
+        final GraphIndex index = new GraphIndex(graph);
+        
         // Assign isolation regions a colocation tag
         for (JsonObject llStart : lowLatencyStartOperators) {
-            assignLowLatency(llStart, Direction.DOWNSTREAM);
+            assignLowLatency(index, llStart, Direction.DOWNSTREAM);
         }
         
         List<JsonObject> lowLatencyEndOperators = GraphUtilities
@@ -193,10 +196,10 @@ class PEPlacement {
             return;
         
         for (JsonObject llStart : lowLatencyEndOperators)
-            assignLowLatency(llStart, Direction.UPSTREAM);
+            assignLowLatency(index, llStart, Direction.UPSTREAM);
     }
 
-    private void assignLowLatency(JsonObject llStart, Direction direction) {
+    private void assignLowLatency(GraphIndex index, JsonObject llStart, Direction direction) {
         
         final JsonPrimitive lowLatencyTag =
             new JsonPrimitive("__spl_lowLatency$" + lowLatencyRegionCount++);
@@ -205,21 +208,21 @@ class PEPlacement {
         Set<BVirtualMarker> boundaries;
         
         if (direction == Direction.DOWNSTREAM) {
-            llStartChildren = getDownstream(llStart, graph);
+            llStartChildren = index.downstream(llStart);
             boundaries = EnumSet.of(END_LOW_LATENCY);
         } else {
-            llStartChildren = getUpstream(llStart, graph);
+            llStartChildren = index.upstream(llStart);
             boundaries = EnumSet.of(LOW_LATENCY);
         }
 
         GraphUtilities.visitOnce(
                 new VisitController(direction, boundaries),
-                llStartChildren, graph,
+                llStartChildren, index,
                 op -> addColocationTag(op, lowLatencyTag));
         
         if (direction == Direction.DOWNSTREAM) {     
             // Low latency merges with upstream.
-            for (JsonObject op : getUpstream(llStart, graph)) {
+            for (JsonObject op : index.upstream(llStart)) {
                 String kind = kind(op);
                 if (BVirtualMarker.PARALLEL.isThis(kind))
                     continue;
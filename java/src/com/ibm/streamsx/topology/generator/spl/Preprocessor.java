@@ -60,9 +60,10 @@ class Preprocessor {
     }
     
     private void removeRemainingVirtualMarkers(){
+        final GraphIndex index = new GraphIndex(graph);
         for (BVirtualMarker marker : Arrays.asList(BVirtualMarker.UNION, BVirtualMarker.PENDING)) {
             List<JsonObject> unionOps = GraphUtilities.findOperatorByKind(marker, graph);
-            GraphUtilities.removeOperators(unionOps, graph);
+            index.removeOperators(unionOps);
         }
     }
 
@@ -184,9 +185,10 @@ class Preprocessor {
         // 1. find all HashAdders in the graph. The reason for not
         // moving HashAdders in this loop is to avoid modifying the graph
         // structure while traversing the graph.
+        final GraphIndex index = new GraphIndex(graph);
         operators(graph, op -> {
             if (isHashAdder(op)) {
-                Set<JsonObject> parents = GraphUtilities.getUpstream(op, graph);
+                Set<JsonObject> parents = index.upstream(op);
                 // Only consider HashAdders with exactly one parent and that
                 // parent is an $Unparallel$, i.e., ignore scenarios #2 and #4.
                 JsonObject parent = parents.iterator().next();
@@ -282,11 +282,10 @@ public class SPLGenerator {
                 array(graph, "operators").add(compInvocation);
 
                 // Remove starts, ends, and composite operators from the graph
-                for(int j = 0; j < startsEndsAndOperators.size(); j++){
-                    for(JsonElement op : startsEndsAndOperators.get(j)){
-                        array(graph, "operators").remove(op);
-                    }
-                }
+                List<JsonObject> regionOps = new ArrayList<>();
+                for(List<JsonObject> ops : startsEndsAndOperators)
+                    regionOps.addAll(ops);
+                GraphIndex.removeFromGraph(graph, regionOps);
                 
                 // Add the composite to the list of composites
                 stvHelper.addJsonParamDefs(compDefinition);
@@ -620,13 +619,15 @@ public class SPLGenerator {
 
     private List<List<JsonObject> > findCompositeOpsOfAType(JsonObject graph, String startKind, String endKind, String opStartParam){
         
+        // The graph is not modified during the search.
+        final GraphIndex index = new GraphIndex(graph);
         for(JsonElement jePotentialStart : graph.getAsJsonArray("operators")){
             JsonObject potentialStart = jePotentialStart.getAsJsonObject();
             
             // We've found a potential start to a composite. See if the composite doesn't contain another composite.   
             if(kind(potentialStart).equals(startKind) || 
                     isPhysicalStartOperatorOfAType(potentialStart, opStartParam)){
-                List<List<JsonObject> > startsEndsAndOperators = findCompositeOpsOfATypeGivenPotentialStart(graph, startKind, endKind, opStartParam, potentialStart);
+                List<List<JsonObject> > startsEndsAndOperators = findCompositeOpsOfATypeGivenPotentialStart(index, startKind, endKind, opStartParam, potentialStart);
                 if (startsEndsAndOperators != null) {
                     return startsEndsAndOperators;
                 }
@@ -636,42 +637,41 @@ public class SPLGenerator {
         return null;
     }
     
-    private List<List<JsonObject>> findCompositeOpsOfATypeGivenPotentialStart(JsonObject graph, String startKind, String endKind, String opStartParam, JsonObject potentialStart){
+    private List<List<JsonObject>> findCompositeOpsOfATypeGivenPotentialStart(GraphIndex index, String startKind, String endKind, String opStartParam, JsonObject potentialStart){
         Stack<JsonObject> unvisited = new Stack<>();
         
-        // Operators we've visited before
-        List<JsonObject> visited = new ArrayList<>();
+        // Operators we've visited before or are scheduled to be visited,
+        // tracked by identity to avoid comparing operator contents.
+        Set<JsonObject> seen = Collections.newSetFromMap(new IdentityHashMap<>());
         
         // The potential start operators, end operators, and operators of the composite
         List<JsonObject> potStarts = new ArrayList<>(), potEnds = new ArrayList<>(), potOperators = new ArrayList<>();      
         
         unvisited.push(potentialStart);
+        seen.add(potentialStart);
         while(unvisited.size() > 0){
             JsonObject op = unvisited.pop();
-            visited.add(op);
             Set<JsonObject> parents = new HashSet<>(), children = new HashSet<>();
             // Add the op to one of the lists containing the composite's operators
 
             if(kind(op).equals(startKind) || (op.has("config") && jboolean(object(op, "config"), opStartParam))){
                 potStarts.add(op);
-                children.addAll(getDownstream(op, graph));
+                children.addAll(index.downstream(op));
             }
             else if(kind(op).equals(endKind)){
                 potEnds.add(op);
-                parents.addAll(getUpstream(op,graph));
+                parents.addAll(index.upstream(op));
             }
             else{
                 potOperators.add(op);
-                children.addAll(getDownstream(op, graph));
-                parents.addAll(getUpstream(op,graph));
+                children.addAll(index.downstream(op));
+                parents.addAll(index.upstream(op));
             }
             
             // Remove ops we've seen before
             // and ops that are already scheduled to be visited
-            children.removeIf(pOp -> visited.contains(pOp));
-            parents.removeIf(pOp -> visited.contains(pOp)); 
-            children.removeIf(pOp -> unvisited.contains(pOp));
-            parents.removeIf(pOp -> unvisited.contains(pOp));
+            children.removeIf(pOp -> seen.contains(pOp));
+            parents.removeIf(pOp -> seen.contains(pOp));
             
             // Validate neighbors.
             
@@ -722,6 +722,8 @@ public class SPLGenerator {
             }         
             unvisited.addAll(parents);
             unvisited.addAll(children);
+            seen.addAll(parents);
+            seen.addAll(children);
 
         }
         
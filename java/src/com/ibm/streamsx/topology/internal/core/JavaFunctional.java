@@ -12,6 +12,7 @@ import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
@@ -21,12 +22,15 @@ import java.util.Set;
 import com.ibm.streamsx.topology.TStream;
 import com.ibm.streamsx.topology.TopologyElement;
 import com.ibm.streamsx.topology.builder.BInputPort;
+import com.ibm.streamsx.topology.builder.BOperator;
 import com.ibm.streamsx.topology.builder.BOperatorInvocation;
 import com.ibm.streamsx.topology.builder.BOutput;
 import com.ibm.streamsx.topology.builder.BOutputPort;
+import com.ibm.streamsx.topology.builder.GraphBuilder;
 import com.ibm.streamsx.topology.internal.functional.FunctionalOpProperties;
 import com.ibm.streamsx.topology.internal.functional.ObjectSchemas;
 import com.ibm.streamsx.topology.internal.logic.ObjectUtils;
+import com.ibm.streamsx.topology.internal.messages.Messages;
 import com.ibm.streamsx.topology.spi.runtime.TupleSerializer;
 
 /**
@@ -75,9 +79,79 @@ public class JavaFunctional {
         return bop;
     }
     
+    /**
+     * Kinds of the functional operators that can
+     * record the latency of calls to their function
+     * and of traced tuples.
+     */
+    private static final Set<String> LATENCY_KINDS = new HashSet<>(Arrays.asList(
+            JavaFunctionalOps.FILTER_KIND, JavaFunctionalOps.MAP_KIND,
+            JavaFunctionalOps.FLAT_MAP_KIND, JavaFunctionalOps.SPLIT_KIND,
+            JavaFunctionalOps.FOR_EACH_KIND, JavaFunctionalOps.CONVERT_SPL_KIND,
+            JavaFunctionalOps.AGGREGATE_KIND, JavaFunctionalOps.JOIN_KIND,
+            JavaFunctionalOps.JOIN_LAST_KIND));
+
+    /**
+     * Enable the latency metrics of a functional operator.
+     */
+    public static void latencyMetrics(BOperatorInvocation op) {
+        if (!MODEL_FUNCTIONAL.equals(op.model()) || !LANGUAGE_JAVA.equals(op.language())
+                || !LATENCY_KINDS.contains(op.kind()))
+            throw new IllegalStateException(Messages.getString("CORE_LATENCY_METRICS_NOT_FUNCTIONAL"));
+        op.setParameter(FunctionalOpProperties.LATENCY_METRICS_PARAM, true);
+    }
+
+    /**
+     * Kinds of the functional sources that can sample
+     * their tuples for latency tracing.
+     */
+    private static final Set<String> TRACE_SOURCE_KINDS = new HashSet<>(Arrays.asList(
+            JavaFunctionalOps.SOURCE_KIND, JavaFunctionalOps.PERIODIC_MULTI_SOURCE_KIND));
+
+    /**
+     * Sample a fraction of the tuples of a functional source for latency tracing.
+     */
+    public static void traceLatency(BOperatorInvocation op, double fraction) {
+        if (!(fraction > 0.0 && fraction <= 1.0))
+            throw new IllegalArgumentException(Messages.getString("CORE_LATENCY_TRACE_FRACTION", fraction));
+        if (!MODEL_FUNCTIONAL.equals(op.model()) || !LANGUAGE_JAVA.equals(op.language())
+                || !TRACE_SOURCE_KINDS.contains(op.kind()))
+            throw new IllegalStateException(Messages.getString("CORE_LATENCY_TRACE_NOT_SOURCE"));
+        op.setParameter(FunctionalOpProperties.LATENCY_TRACE_FRACTION_PARAM, fraction);
+    }
+
+    /**
+     * If any source samples tuples for latency tracing then
+     * enable tracing for all functional operators that
+     * record latencies.
+     */
+    public static void finalizeLatencyTrace(GraphBuilder builder) {
+        boolean traced = false;
+        for (BOperator op : builder.getOps()) {
+            if (op instanceof BOperatorInvocation && ((BOperatorInvocation) op)
+                    .getRawParameter(FunctionalOpProperties.LATENCY_TRACE_FRACTION_PARAM) != null) {
+                traced = true;
+                break;
+            }
+        }
+        if (!traced)
+            return;
+
+        for (BOperator op : builder.getOps()) {
+            if (!(op instanceof BOperatorInvocation))
+                continue;
+            BOperatorInvocation bop = (BOperatorInvocation) op;
+            if (MODEL_FUNCTIONAL.equals(bop.model()) && LANGUAGE_JAVA.equals(bop.language())
+                    && LATENCY_KINDS.contains(bop.kind()))
+                bop.setParameter(FunctionalOpProperties.LATENCY_TRACE_PARAM, true);
+        }
+    }
+    
     private static final Set<Class<?>> VIEWABLE_TYPES = new HashSet<>();
     static {
         VIEWABLE_TYPES.add(String.class);
+        VIEWABLE_TYPES.add(Long.class);
+        VIEWABLE_TYPES.add(Double.class);
     }
     
 
@@ -93,7 +167,9 @@ public class JavaFunctional {
             BOperatorInvocation bop, Type tupleType, 
             Optional<TupleSerializer> serializer, boolean singlePort)  {
         
-        String mappingSchema = ObjectSchemas.getMappingSchema(tupleType);
+        // Tuples with a serializer are always held as a serialized object.
+        String mappingSchema = serializer.isPresent() ? ObjectSchemas.JAVA_OBJECT_SCHEMA
+                : ObjectSchemas.getMappingSchema(tupleType);
         BOutputPort bstream = bop.addOutput(mappingSchema,
                 singlePort ? Optional.of(bop.name()) : Optional.empty());
         
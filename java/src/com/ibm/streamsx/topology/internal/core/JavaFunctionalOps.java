@@ -44,6 +44,8 @@ public interface JavaFunctionalOps {
 
     String JOIN_KIND = NS_COLON + "Join";
     
+    String JOIN_LAST_KIND = NS_COLON + "JoinLast";
+    
     String MAP_KIND = NS_COLON + "Map";
     
     String PASS_KIND = NS_COLON + "PassThrough"; // Technically not a functional op.
@@ -61,6 +63,13 @@ public interface JavaFunctionalOps {
     
     String PASS_CLASS = PKG + "PassThrough";
     
+    /**
+     * Operators only used by the embedded context
+     * to execute a topology using multiple threads.
+     */
+    String QUEUED_PASS_CLASS = PKG_O + "QueuedPassThrough";
+    String PARALLEL_SPLIT_CLASS = PKG_O + "ParallelSplit";
+    
     static JsonObject kind2Class() {
         final JsonObject kinds = new JsonObject();
         
@@ -73,6 +82,7 @@ public interface JavaFunctionalOps {
         
 
         kinds.addProperty(JOIN_KIND, PKG_O + "FunctionJoin");
+        kinds.addProperty(JOIN_LAST_KIND, PKG_O + "FunctionJoinLast");
         
         kinds.addProperty(MAP_KIND, PKG_O + "FunctionTransform");
         
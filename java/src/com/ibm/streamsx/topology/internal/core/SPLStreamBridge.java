@@ -31,7 +31,7 @@ public class SPLStreamBridge {
         if (JSON4JBridge.isJson4JClass(tupleTypeClass))
             return subscribeJson4j(topology, topic, tupleTypeClass);
         
-        if (ObjectSchemas.usesDirectSchema(tupleTypeClass))
+        if (ObjectSchemas.publishesDirectSchema(tupleTypeClass))
             return subscribeDirect(topology, topic, tupleTypeClass);
         
         return subscribeJava(topology, topic, tupleTypeClass);
@@ -75,7 +75,7 @@ public class SPLStreamBridge {
     }
     
     private static <T> TStream<T> subscribeJava(Topology topology, Object topic, Class<T> tupleTypeClass) {
-        final String schema = ObjectSchemas.getMappingSchema(tupleTypeClass);
+        final String schema = ObjectSchemas.getPublishSchema(tupleTypeClass);
         Map<String, Object> params = new HashMap<>();
         params.put("topic", topic);
         params.put("class", tupleTypeClass.getName());
@@ -56,14 +56,17 @@ import com.ibm.streamsx.topology.function.ToIntFunction;
 import com.ibm.streamsx.topology.function.UnaryOperator;
 import com.ibm.streamsx.topology.generator.operator.OpProperties;
 import com.ibm.streamsx.topology.generator.port.PortProperties;
+import com.ibm.streamsx.topology.internal.functional.FunctionalOpProperties;
 import com.ibm.streamsx.topology.internal.functional.ObjectSchemas;
 import com.ibm.streamsx.topology.internal.functional.SubmissionParameter;
 import com.ibm.streamsx.topology.internal.gson.JSON4JBridge;
-import com.ibm.streamsx.topology.internal.logic.FirstOfSecondParameterIterator;
+import com.ibm.streamsx.topology.internal.logic.ConsistentKeyHasher;
+import com.ibm.streamsx.topology.internal.logic.HotKeyHasher;
 import com.ibm.streamsx.topology.internal.logic.KeyFunctionHasher;
 import com.ibm.streamsx.topology.internal.logic.LogicUtils;
 import com.ibm.streamsx.topology.internal.logic.Print;
 import com.ibm.streamsx.topology.internal.logic.RandomSample;
+import com.ibm.streamsx.topology.internal.logic.RateLimiter;
 import com.ibm.streamsx.topology.internal.logic.Throttle;
 import com.ibm.streamsx.topology.internal.messages.Messages;
 import com.ibm.streamsx.topology.logic.Logic;
@@ -352,6 +355,21 @@ public class StreamImpl<T> extends TupleContainer<T> implements TStream<T> {
         return last(1);
     }
     
+    @Override
+    public TWindow<T,Object> batch(int count) {
+        return WindowDefinition.batch(this, count);
+    }
+    
+    @Override
+    public TWindow<T,Object> batch(long time, TimeUnit unit) {
+        return WindowDefinition.batch(this, time, unit);
+    }
+    
+    @Override
+    public TWindow<T,Object> session(long gap, TimeUnit unit) {
+        return WindowDefinition.session(this, gap, unit);
+    }
+    
     @Override
     public <J, U> TStream<J> join(TWindow<U,?> window,
             BiFunction<T, List<U>, J> joiner) {
@@ -376,14 +394,42 @@ public class StreamImpl<T> extends TupleContainer<T> implements TStream<T> {
             TStream<U> lastStream,
             Function<? super U, ? extends K> lastStreamKeyer,
             BiFunction<T, U, J> joiner) {
+        return joinLast(keyer, lastStream, lastStreamKeyer, joiner, 0, 0, TimeUnit.MILLISECONDS);
+    }
+    
+    @Override
+    public <J, U, K> TStream<J> joinLast(
+            Function<? super T,? extends K> keyer,
+            TStream<U> lastStream,
+            Function<? super U, ? extends K> lastStreamKeyer,
+            BiFunction<T, U, J> joiner,
+            int maxKeys, long expiry, TimeUnit unit) {
         
-        TWindow<U,K> window = lastStream.last().key(lastStreamKeyer);
+        if (maxKeys < 0 || expiry < 0)
+            throw new IllegalArgumentException(Messages.getString("CORE_JOIN_LAST_BOUNDS", maxKeys, expiry));
         
         Type tupleType = TypeDiscoverer.determineStreamTypeFromFunctionArg(BiFunction.class, 2, joiner);
         
-        BiFunction<T,List<U>, J> wrapperJoiner = new FirstOfSecondParameterIterator<>(joiner);
+        Map<String, Object> params = new HashMap<>();
+        params.put(FunctionalOpProperties.WINDOW_KEY_GETTER_PARAM, serializeLogic(lastStreamKeyer));
+        params.put(FunctionalOpProperties.JOIN_KEY_GETTER_PARAM, serializeLogic(keyer));
+        if (maxKeys != 0)
+            params.put(FunctionalOpProperties.JOIN_LAST_MAX_KEYS_PARAM, maxKeys);
+        if (expiry != 0)
+            params.put(FunctionalOpProperties.JOIN_LAST_EXPIRY_PARAM,
+                    Math.max(1L, unit.toMillis(expiry)));
+        
+        String opName = LogicUtils.functionName(joiner);
         
-        return ((WindowDefinition<U,K>) window).joinInternal(this, keyer, wrapperJoiner, tupleType);
+        BOperatorInvocation joinOp = JavaFunctional.addFunctionalOperator(this,
+                opName, JavaFunctionalOps.JOIN_LAST_KIND, joiner, params);
+        SourceInfo.setSourceInfo(joinOp, StreamImpl.class);
+        
+        // Port 0 holds the last tuple for each key, port 1 is joined with it.
+        lastStream.connectTo(joinOp, true, null);
+        connectTo(joinOp, true, null);
+        
+        return JavaFunctional.addJavaOutput(this, joinOp, tupleType, true);
     }
     
     @Override
@@ -398,6 +444,21 @@ public class StreamImpl<T> extends TupleContainer<T> implements TStream<T> {
         
     }
     
+    @Override
+    public <J, U, K> TStream<J> join(
+            Function<? super T, ? extends K> keyer,
+            TWindow<U,?> window,
+            Function<? super U, ? extends K> windowKeyer,
+            BiFunction<T, List<U>, J> joiner) {
+        
+        if (window.isKeyed())
+            throw new IllegalArgumentException(Messages.getString("CORE_INDEXED_JOIN_KEYED_WINDOW"));
+        
+        Type tupleType = TypeDiscoverer.determineStreamTypeFromFunctionArg(BiFunction.class, 2, joiner);
+        
+        return ((WindowDefinition<U,?>) window).indexedJoinInternal(this, keyer, windowKeyer, joiner, tupleType);
+    }
+    
 
     @Override
     public final void publish(String topic) {
@@ -439,8 +500,9 @@ public class StreamImpl<T> extends TupleContainer<T> implements TStream<T> {
         }
         
         
+        TStream<T> published = this;
         BOperatorInvocation op;
-        if (ObjectSchemas.usesDirectSchema(tupleType)) {
+        if (ObjectSchemas.publishesDirectSchema(tupleType)) {
         	// Don't allow filtering against schemas that Streams
         	// would not allow a filter against.
         	if (String.class != tupleType)
@@ -458,6 +520,12 @@ public class StreamImpl<T> extends TupleContainer<T> implements TStream<T> {
         } else if (getTupleClass() != null){
         	filtersNotAllowed(allowFilter);
         	
+        	// Streams held in a native schema (Long, Double)
+        	// are published as Java objects.
+        	final String publishSchema = ObjectSchemas.getPublishSchema(tupleType);
+        	if (!publishSchema.equals(output()._type()))
+        	    published = publishSchemaFix(publishSchema);
+        	
             // Publish as a stream consumable only by Java/Scala
             Map<String,Object> params = new HashMap<>();
             params.put("topic", topic);
@@ -470,7 +538,21 @@ public class StreamImpl<T> extends TupleContainer<T> implements TStream<T> {
         }
 
         SourceInfo.setSourceInfo(op, StreamImpl.class);
-        this.connectTo(op, false, null);
+        published.connectTo(op, false, null);
+    }
+    
+    /**
+     * Convert this stream to the schema it is published with.
+     */
+    private TStream<T> publishSchemaFix(String publishSchema) {
+        BOperatorInvocation bop = JavaFunctional.addFunctionalOperator(this,
+                "SchemaFix",
+                JavaFunctionalOps.MAP_KIND, identity());
+        SourceInfo.setSourceInfo(bop, StreamImpl.class);
+        connectTo(bop, true, null);
+        BOutputPort port = bop.addOutput(publishSchema, Optional.of(bop.name()));
+        return JavaFunctional.getJavaTStream(this, bop, port,
+                getTupleType(), Optional.empty());
     }
     
     /**
@@ -501,6 +583,8 @@ public class StreamImpl<T> extends TupleContainer<T> implements TStream<T> {
             return _parallel(width, routing, null);
             
         case HASH_PARTITIONED:
+        case CONSISTENT_HASH_PARTITIONED:
+        case HOT_KEY_PARTITIONED:
             UnaryOperator<T> identity = Logic.identity();
             return _parallel(width, routing, identity);
             
@@ -519,6 +603,21 @@ public class StreamImpl<T> extends TupleContainer<T> implements TStream<T> {
         return _parallel(width, Routing.KEY_PARTITIONED, keyer);
     }
     
+    @Override
+    public TStream<T> parallel(Supplier<Integer> width,
+            Function<T, ?> keyer, Routing routing) {
+        if (keyer == null)
+            throw new IllegalArgumentException(Messages.getString("CORE_KEYER_IS_NULL"));
+        switch (requireNonNull(routing)) {
+        case KEY_PARTITIONED:
+        case CONSISTENT_HASH_PARTITIONED:
+        case HOT_KEY_PARTITIONED:
+            return _parallel(width, routing, keyer);
+        default:
+            throw new IllegalArgumentException(Messages.getString("CORE_ROUTING_NOT_KEYED", routing));
+        }
+    }
+    
     private TStream<T> _parallel(Supplier<Integer> width, Routing routing, Function<T,?> keyer) {
 
         if (width == null)
@@ -537,7 +636,18 @@ public class StreamImpl<T> extends TupleContainer<T> implements TStream<T> {
         boolean isPartitioned = false;        
         if (keyer != null) {
 
-            final ToIntFunction<T> hasher = new KeyFunctionHasher<>(keyer);
+            final ToIntFunction<T> hasher;
+            switch (routing) {
+            case CONSISTENT_HASH_PARTITIONED:
+                hasher = new ConsistentKeyHasher<>(keyer, width);
+                break;
+            case HOT_KEY_PARTITIONED:
+                hasher = new HotKeyHasher<>(keyer, width);
+                break;
+            default:
+                hasher = new KeyFunctionHasher<>(keyer);
+                break;
+            }
             
             BOperatorInvocation hashAdder = JavaFunctional.addFunctionalOperator(this,
                     "HashAdder",
@@ -628,6 +738,16 @@ public class StreamImpl<T> extends TupleContainer<T> implements TStream<T> {
         throttle.operator().layoutKind("Throttle");
         return throttle;
     }
+    
+    @Override
+    public TStream<T> throttle(double rate, int burst, boolean drop) {
+        if (!(rate > 0.0) || Double.isInfinite(rate) || burst < 1)
+            throw new IllegalArgumentException(Messages.getString("CORE_THROTTLE_RATE", rate, burst));
+        
+        TStream<T> throttle = modify(new RateLimiter<T>(rate, burst, drop));
+        throttle.operator().layoutKind("Throttle");
+        return throttle;
+    }
 
     /**
      * Connect this stream to a downstream operator. If input is null then a new
@@ -746,7 +866,8 @@ public class StreamImpl<T> extends TupleContainer<T> implements TStream<T> {
             return this;
         
         // Is a schema change needed?
-        if (ObjectSchemas.usesDirectSchema(tupleClass) &&
+        // Tuples with a serializer are always held as a serialized object.
+        if (!serializer.isPresent() && ObjectSchemas.usesDirectSchema(tupleClass) &&
                 !ObjectSchemas.getMappingSchema(tupleClass).equals(output()._type())) {
             TStream<T> newStream = fixDirectSchema(tupleClass);
             if (newStream != null)
@@ -818,6 +939,22 @@ public class StreamImpl<T> extends TupleContainer<T> implements TStream<T> {
         return PlacementInfo.getResourceTags(this);
     }
     
+    @Override
+    public TStream<T> latencyMetrics() {
+        if (!isPlaceable())
+            throw new IllegalStateException(Messages.getString("CORE_LATENCY_METRICS_NOT_FUNCTIONAL"));
+        JavaFunctional.latencyMetrics(operator());
+        return this;
+    }
+
+    @Override
+    public TStream<T> traceLatency(double fraction) {
+        if (!isPlaceable())
+            throw new IllegalStateException(Messages.getString("CORE_LATENCY_TRACE_NOT_SOURCE"));
+        JavaFunctional.traceLatency(operator(), fraction);
+        return this;
+    }
+
     @Override
     public TStream<T> invocationName(String name) {
         if (!isPlaceable())
@@ -28,6 +28,12 @@ public class TSinkImpl extends TopologyItem implements TSink {
         return op;
     }
         
+    @Override
+    public TSink latencyMetrics() {
+        JavaFunctional.latencyMetrics(operator());
+        return this;
+    }
+
     @Override
     public boolean isPlaceable() {
         return true;
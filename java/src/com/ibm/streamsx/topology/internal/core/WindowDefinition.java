@@ -6,6 +6,7 @@ package com.ibm.streamsx.topology.internal.core;
 
 import static com.ibm.streamsx.topology.internal.core.JavaFunctionalOps.JOIN_KIND;
 
+import java.io.Serializable;
 import java.lang.reflect.ParameterizedType;
 import java.util.HashMap;
 import java.util.List;
@@ -18,12 +19,14 @@ import com.ibm.streamsx.topology.builder.BInputPort;
 import com.ibm.streamsx.topology.builder.BOperatorInvocation;
 import com.ibm.streamsx.topology.function.BiFunction;
 import com.ibm.streamsx.topology.function.Function;
+import com.ibm.streamsx.topology.function.IncrementalAggregator;
 import com.ibm.streamsx.topology.function.Supplier;
 import com.ibm.streamsx.topology.generator.port.PortProperties;
 import com.ibm.streamsx.topology.internal.functional.FunctionalOpProperties;
 import com.ibm.streamsx.topology.internal.functional.SubmissionParameter;
 import com.ibm.streamsx.topology.internal.logic.LogicUtils;
 import com.ibm.streamsx.topology.internal.logic.ObjectUtils;
+import com.ibm.streamsx.topology.internal.logic.WindowSample;
 import com.ibm.streamsx.topology.internal.messages.Messages;
 import com.ibm.streamsx.topology.logic.Identity;
 
@@ -38,14 +41,29 @@ public class WindowDefinition<T,K> extends TopologyItem implements TWindow<T,K>
         
     private final Function<? super T,? extends K> keyGetter;
     
+    private final boolean offHeap;
+    
+    // SLIDING or TUMBLING
+    private final String type;
+    // Session gap in milliseconds, zero if not a session window
+    private final long sessionGap;
+    
     private WindowDefinition(TStream<T> stream, String policy, long config, TimeUnit timeUnit, Function<? super T,? extends K> keyGetter, Supplier<Integer> supplierConfig) {
+        this(stream, policy, config, timeUnit, keyGetter, supplierConfig, false, BInputPort.Window.SLIDING, 0);
+    }
+    
+    private WindowDefinition(TStream<T> stream, String policy, long config, TimeUnit timeUnit, Function<? super T,? extends K> keyGetter, Supplier<Integer> supplierConfig,
+            boolean offHeap, String type, long sessionGap) {
         super(stream);
         this.stream = stream;
+        this.type = type;
+        this.sessionGap = sessionGap;
         this.policy = policy;
         this.config = config;
         this.keyGetter = keyGetter;
         this.timeUnit = timeUnit;
         this.supplierConfig = supplierConfig;
+        this.offHeap = offHeap;
         
         assert (timeUnit == null && !policy.equals(BInputPort.Window.TIME_POLICY)) ||
                (timeUnit != null && policy.equals(BInputPort.Window.TIME_POLICY));
@@ -83,7 +101,45 @@ public class WindowDefinition<T,K> extends TopologyItem implements TWindow<T,K>
         this(stream, ((WindowDefinition<?,?>) configWindow).policy,
                 ((WindowDefinition<?,?>) configWindow).config,
                 ((WindowDefinition<?,?>) configWindow).timeUnit,
-                null, null);
+                null, null, false,
+                ((WindowDefinition<?,?>) configWindow).type,
+                ((WindowDefinition<?,?>) configWindow).sessionGap);
+    }
+    
+    /**
+     * Tumbling window of {@code count} tuples.
+     */
+    public static <T> WindowDefinition<T,Object> batch(TStream<T> stream, int count) {
+        if (count < 1)
+            throw new IllegalArgumentException(Messages.getString("CORE_WINDOW_BATCH_SIZE", count));
+        return new WindowDefinition<T,Object>(stream, BInputPort.Window.COUNT_POLICY, count, null, null, null,
+                false, BInputPort.Window.TUMBLING, 0);
+    }
+    
+    /**
+     * Tumbling window of the tuples seen in each period of {@code time}.
+     */
+    public static <T> WindowDefinition<T,Object> batch(TStream<T> stream, long time, TimeUnit unit) {
+        if (time <= 0)
+            throw new IllegalArgumentException(Messages.getString("CORE_WINDOW_DURATION_OF_ZERO"));
+        return new WindowDefinition<T,Object>(stream, BInputPort.Window.TIME_POLICY, time, unit, null, null,
+                false, BInputPort.Window.TUMBLING, 0);
+    }
+    
+    /**
+     * Session window closed by a {@code gap} between tuples.
+     * The runtime window is a tumbling window of a single tuple,
+     * the operator holds the session's tuples until it is closed.
+     */
+    public static <T> WindowDefinition<T,Object> session(TStream<T> stream, long gap, TimeUnit unit) {
+        if (gap <= 0)
+            throw new IllegalArgumentException(Messages.getString("CORE_WINDOW_DURATION_OF_ZERO"));
+        return new WindowDefinition<T,Object>(stream, BInputPort.Window.COUNT_POLICY, 1, null, null, null,
+                false, BInputPort.Window.TUMBLING, Math.max(1, unit.toMillis(gap)));
+    }
+    
+    private boolean isTumbling() {
+        return BInputPort.Window.TUMBLING.equals(type);
     }
     
     private final void setPartitioned(final java.lang.reflect.Type type) {
@@ -135,17 +191,55 @@ public class WindowDefinition<T,K> extends TopologyItem implements TWindow<T,K>
             long period, TimeUnit unit) {
         if (period == 0)
             throw new IllegalArgumentException(Messages.getString("CORE_AGGREGATE_PERIOD_CANNOT_BE_ZERO"));
+        checkNotTumbling();
         
         java.lang.reflect.Type aggregateType = TypeDiscoverer.determineStreamType(aggregator, null);
         
         return aggregate(aggregator, aggregateType, BInputPort.Window.TIME_POLICY, period, unit);
     }
     
-    private <A> TStream<A> aggregate(Function<List<T>, A> aggregator,
+    @Override
+    public <S, A> TStream<A> aggregate(IncrementalAggregator<T, S, A> aggregator) {
+        
+        java.lang.reflect.Type aggregateType = TypeDiscoverer.determineStreamTypeFromFunctionArg(IncrementalAggregator.class, 2, aggregator);
+        
+        return aggregate(aggregator, aggregateType, BInputPort.Window.COUNT_POLICY, 1, null);
+    }
+    
+    @Override
+    public <S, A> TStream<A> aggregate(IncrementalAggregator<T, S, A> aggregator,
+            long period, TimeUnit unit) {
+        if (period == 0)
+            throw new IllegalArgumentException(Messages.getString("CORE_AGGREGATE_PERIOD_CANNOT_BE_ZERO"));
+        checkNotTumbling();
+        
+        java.lang.reflect.Type aggregateType = TypeDiscoverer.determineStreamTypeFromFunctionArg(IncrementalAggregator.class, 2, aggregator);
+        
+        return aggregate(aggregator, aggregateType, BInputPort.Window.TIME_POLICY, period, unit);
+    }
+    
+    @Override
+    public TStream<List<T>> sample(int k) {
+        if (k < 1)
+            throw new IllegalArgumentException(Messages.getString("CORE_WINDOW_SAMPLE_SIZE", k));
+        
+        return aggregate(new WindowSample<T>(k), List.class, BInputPort.Window.COUNT_POLICY, 1, null);
+    }
+    
+    /**
+     * Aggregate using a function that is passed the complete window contents
+     * or an {@link IncrementalAggregator}, the runtime operator
+     * determines the mode from the class of the logic.
+     */
+    private <A> TStream<A> aggregate(Serializable aggregator,
             java.lang.reflect.Type aggregateType, String triggerPolicy, Object triggerConfig, TimeUnit triggerTimeUnit) {
         
         if (getTupleClass() == null && !isKeyed()) {
-            java.lang.reflect.Type tupleType = TypeDiscoverer.determineStreamTypeNested(Function.class, 0, List.class, aggregator);
+            java.lang.reflect.Type tupleType;
+            if (aggregator instanceof IncrementalAggregator)
+                tupleType = TypeDiscoverer.determineStreamTypeFromFunctionArg(IncrementalAggregator.class, 0, aggregator);
+            else
+                tupleType = TypeDiscoverer.determineStreamTypeNested(Function.class, 0, List.class, aggregator);
             setPartitioned(tupleType);
         }
         
@@ -164,14 +258,32 @@ public class WindowDefinition<T,K> extends TopologyItem implements TWindow<T,K>
         Map<String,Object> params = new HashMap<>();
         if (isKeyed())
             params.put(FunctionalOpProperties.WINDOW_KEY_GETTER_PARAM, ObjectUtils.serializeLogic(keyGetter));
+        if (offHeap)
+            params.put(FunctionalOpProperties.WINDOW_OFF_HEAP_PARAM, true);
+        if (sessionGap != 0)
+            params.put(FunctionalOpProperties.WINDOW_SESSION_GAP_PARAM, sessionGap);
         return params;
     }
+    
+    /**
+     * A tumbling window is only aggregated when it is flushed.
+     */
+    private void checkNotTumbling() {
+        if (isTumbling())
+            throw new IllegalStateException(Messages.getString("CORE_WINDOW_BATCH_NOT_SUPPORTED"));
+    }
 
     public BInputPort addInput(BOperatorInvocation aggOp,
             String triggerPolicy, Object triggerConfig, TimeUnit triggerTimeUnit) {
         BInputPort bi = stream.connectTo(aggOp, true, null);
         
-        return bi.window(BInputPort.Window.SLIDING, policy, config, timeUnit,
+        // A tumbling window has no trigger policy, it
+        // is processed when its tuples are evicted.
+        if (isTumbling())
+            return bi.window(type, policy, config, timeUnit,
+                BInputPort.Window.NONE_POLICY, null, null, isKeyed(), supplierConfig);
+        
+        return bi.window(type, policy, config, timeUnit,
                 triggerPolicy, triggerConfig, triggerTimeUnit, isKeyed(), supplierConfig);
     }
     
@@ -179,13 +291,39 @@ public class WindowDefinition<T,K> extends TopologyItem implements TWindow<T,K>
             Function<? super U, ? extends K> xstreamKey,
             BiFunction<U, List<T>, J> joiner, java.lang.reflect.Type tupleType) {
         
-        String opName = LogicUtils.functionName(joiner);
-
         Map<String, Object> params = getOperatorParams();
         if (isKeyed() && xstreamKey != null) {
             
             params.put(FunctionalOpProperties.JOIN_KEY_GETTER_PARAM, ObjectUtils.serializeLogic(xstreamKey));
         }
+        return joinInternal(xstream, joiner, tupleType, params);
+    }
+    
+    /**
+     * Join against this window (which is not keyed) using
+     * a hash index over the key of each window tuple.
+     */
+    public <J, U, M> TStream<J> indexedJoinInternal(TStream<U> xstream,
+            Function<? super U, ? extends M> xstreamKey,
+            Function<? super T, ? extends M> windowKey,
+            BiFunction<U, List<T>, J> joiner, java.lang.reflect.Type tupleType) {
+        
+        assert !isKeyed();
+
+        Map<String, Object> params = getOperatorParams();
+        params.put(FunctionalOpProperties.JOIN_KEY_GETTER_PARAM, ObjectUtils.serializeLogic(xstreamKey));
+        params.put(FunctionalOpProperties.JOIN_WINDOW_KEY_GETTER_PARAM, ObjectUtils.serializeLogic(windowKey));
+        
+        return joinInternal(xstream, joiner, tupleType, params);
+    }
+    
+    private <J, U> TStream<J> joinInternal(TStream<U> xstream,
+            BiFunction<U, List<T>, J> joiner, java.lang.reflect.Type tupleType,
+            Map<String, Object> params) {
+        
+        checkNotTumbling();
+        
+        String opName = LogicUtils.functionName(joiner);
 
         BOperatorInvocation joinOp = JavaFunctional.addFunctionalOperator(this,
                 opName, JOIN_KIND, joiner, params);
@@ -206,10 +344,15 @@ public class WindowDefinition<T,K> extends TopologyItem implements TWindow<T,K>
     public <U> TWindow<T,U> key(Function<? super T, ? extends U> keyGetter) {
         if (keyGetter == null)
             throw new NullPointerException();
-        return new WindowDefinition<T,U>(stream, policy, config, timeUnit, keyGetter, supplierConfig);
+        return new WindowDefinition<T,U>(stream, policy, config, timeUnit, keyGetter, supplierConfig, offHeap, type, sessionGap);
     }
     @Override
     public TWindow<T, T> key() {
          return key(new Identity<T>());
     }
+    
+    @Override
+    public TWindow<T, K> offHeap() {
+        return new WindowDefinition<T,K>(stream, policy, config, timeUnit, keyGetter, supplierConfig, true, type, sessionGap);
+    }
 }
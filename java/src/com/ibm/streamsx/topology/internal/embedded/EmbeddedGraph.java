@@ -14,6 +14,9 @@ import static com.ibm.streams.operator.Type.MetaType.UINT32;
 import static com.ibm.streams.operator.Type.MetaType.UINT64;
 import static com.ibm.streams.operator.Type.MetaType.UINT8;
 import static com.ibm.streams.operator.Type.MetaType.USTRING;
+import static com.ibm.streamsx.topology.builder.BVirtualMarker.END_PARALLEL;
+import static com.ibm.streamsx.topology.builder.BVirtualMarker.ISOLATE;
+import static com.ibm.streamsx.topology.builder.BVirtualMarker.PARALLEL;
 import static com.ibm.streamsx.topology.builder.JParamTypes.TYPE_ATTRIBUTE;
 import static com.ibm.streamsx.topology.builder.JParamTypes.TYPE_SUBMISSION_PARAMETER;
 import static com.ibm.streamsx.topology.generator.operator.OpProperties.KIND;
@@ -35,7 +38,13 @@ import static com.ibm.streamsx.topology.spi.builder.Properties.Graph.CONFIG;
 import static com.ibm.streamsx.topology.spi.builder.Properties.Graph.Config.JAVA_OPS;
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
@@ -63,6 +72,7 @@ import com.ibm.streamsx.topology.builder.JParamTypes;
 import com.ibm.streamsx.topology.context.ContextProperties;
 import com.ibm.streamsx.topology.context.StreamsContext;
 import com.ibm.streamsx.topology.generator.operator.OpProperties;
+import com.ibm.streamsx.topology.generator.port.PortProperties;
 import com.ibm.streamsx.topology.internal.core.JavaFunctionalOps;
 import com.ibm.streamsx.topology.internal.functional.SubmissionParameterManager;
 import com.ibm.streamsx.topology.internal.gson.GsonUtilities;
@@ -73,17 +83,48 @@ import com.ibm.streamsx.topology.internal.messages.Messages;
  * and creates an OperatorGraph for embedded use.
  * 
  * TODO - work in progress - currently just collects the operator decls.
- *
+ * <P>
+ * When {@link ContextProperties#EMBEDDED_THREADED} is set
+ * thread boundaries are added to the graph:
+ * <UL>
+ * <LI>An isolate marker is a {@code QueuedPassThrough}.</LI>
+ * <LI>A parallel marker is a {@code ParallelSplit} with an output port
+ * for each channel, each followed by a {@code QueuedPassThrough}.
+ * The operators in the region are declared once for each channel.</LI>
+ * <LI>An end parallel marker is a {@code QueuedPassThrough}
+ * that merges the channels.</LI>
+ * </UL>
+ * Queues are not added within a low latency region.
+ * </P>
  */
 public class EmbeddedGraph {
     
     private final GraphBuilder builder;
     private final JsonObject kind2Class;
+    private final boolean threaded;
+    private final String queueWait;
     private OperatorGraph graphDecl;
     
-    // map for stream/port name to declared port.
-    private final Map<String,OutputPortDeclaration> outputPorts = new HashMap<>();
-    private final Map<String,InputPortDeclaration> inputPorts = new HashMap<>();
+    /**
+     * Size of the queues at thread boundaries.
+     */
+    static final int QUEUE_SIZE = 1024;
+    
+    /**
+     * Values of {@link ContextProperties#EMBEDDED_QUEUE_WAIT}.
+     */
+    private static final List<String> QUEUE_WAITS = Arrays.asList("park", "yield", "spin");
+    
+    // map for stream/port name to declared port, one per channel.
+    private final Map<String,List<OutputPortDeclaration>> outputPorts = new HashMap<>();
+    private final Map<String,List<InputPortDeclaration>> inputPorts = new HashMap<>();
+    
+    /**
+     * Width of the outermost parallel region each operator is in,
+     * keyed by operator name. Operators not in a parallel
+     * region are not present.
+     */
+    private final Map<String,Integer> channels = new HashMap<>();
     
     private final JavaOperatorTester jot = new JavaOperatorTester();
     
@@ -92,7 +133,15 @@ public class EmbeddedGraph {
     }
    
     public EmbeddedGraph(GraphBuilder builder)  {
+        this(builder, Collections.emptyMap());
+    }
+    
+    public EmbeddedGraph(GraphBuilder builder, Map<String,Object> config)  {
         this.builder = builder;
+        threaded = Boolean.TRUE.equals(config.get(ContextProperties.EMBEDDED_THREADED));
+        queueWait = (String) config.get(ContextProperties.EMBEDDED_QUEUE_WAIT);
+        if (queueWait != null && !QUEUE_WAITS.contains(queueWait))
+            throw new IllegalArgumentException(Messages.getString("EMBEDDED_QUEUE_WAIT_UNKNOWN", queueWait));
         kind2Class = objectCreate(builder._json(), CONFIG, JAVA_OPS);
         addAll(kind2Class, JavaFunctionalOps.kind2Class());
     }
@@ -124,6 +173,9 @@ public class EmbeddedGraph {
         
         graphDecl = OperatorGraphFactory.newGraph();
         
+        if (threaded)
+            findParallelRegions();
+        
         declareOps();
         
         declareConnections();
@@ -164,25 +216,199 @@ public class EmbeddedGraph {
         if (!verifyOp(json))
             return;
         
+        if (threaded && declareThreadBoundary(op, json))
+            return;
+        
         String opClassName = jstring(json, KIND_CLASS);
         if (opClassName == null) {
             opClassName = requireNonNull(
                     jstring(kind2Class, op.kind()), op.kind());
         }
         Class<? extends Operator> opClass = (Class<? extends Operator>) Class.forName(opClassName);
-        OperatorInvocation<? extends Operator> opDecl = graphDecl.addOperator(opClass);
         
-        if (json.has("parameters")) {
-            JsonObject params = json.getAsJsonObject("parameters");
-            for (Entry<String, JsonElement> param : params.entrySet())
-                setOpParameter(opDecl, param.getKey(), param.getValue().getAsJsonObject());
+        final int width = channels.getOrDefault(jstring(json, "name"), 1);
+        for (int channel = 0; channel < width; channel++) {
+            OperatorInvocation<? extends Operator> opDecl = graphDecl.addOperator(opClass);
+
+            if (json.has("parameters")) {
+                JsonObject params = json.getAsJsonObject("parameters");
+                for (Entry<String, JsonElement> param : params.entrySet())
+                    setOpParameter(opDecl, param.getKey(), param.getValue().getAsJsonObject());
+            }
+
+            declareOutputs(opDecl, json.getAsJsonArray("outputs"), channel);
+            declareInputs(opDecl, json.getAsJsonArray("inputs"), channel);
+        }
+    }
+    
+    /**
+     * Name of a port in a channel, ports in the first
+     * (or only) channel keep their name.
+     */
+    private static String channelName(String name, int channel) {
+        return channel == 0 ? name : name + "_" + channel;
+    }
+    
+    /**
+     * Declare a marker that is a thread boundary.
+     * Markers within a parallel region are pass throughs
+     * in each channel.
+     * @return True if the marker was declared.
+     */
+    private boolean declareThreadBoundary(BOperator op, JsonObject json) throws Exception {
+        final String kind = jstring(json, KIND);
+        if (channels.containsKey(jstring(json, "name")))
+            return false;
+        
+        if (PARALLEL.isThis(kind)) {
+            declareParallel(op, json);
+            return true;
         }
+        if (ISOLATE.isThis(kind) || END_PARALLEL.isThis(kind)) {
+            if (builder.isInLowLatencyRegion(op))
+                return false;
+            
+            OperatorInvocation<? extends Operator> queue = addQueue();
+            declareOutputs(queue, json.getAsJsonArray("outputs"), 0);
+            declareInputs(queue, json.getAsJsonArray("inputs"), 0);
+            return true;
+        }
+        return false;
+    }
+    
+    /**
+     * Declare a parallel marker as a split to the channels,
+     * with a queue for each channel unless the
+     * region is within a low latency region.
+     */
+    private void declareParallel(BOperator op, JsonObject json) throws Exception {
+        final JsonObject output = json.getAsJsonArray("outputs").get(0).getAsJsonObject();
+        final String name = jstring(output, "name");
+        final StreamSchema schema = Type.Factory.getTupleType(jstring(output, "type")).getTupleSchema();
+        final int width = parallelWidth(output);
+        final boolean queued = !builder.isInLowLatencyRegion(op);
         
-        declareOutputs(opDecl, json.getAsJsonArray("outputs"));
-        declareInputs(opDecl, json.getAsJsonArray("inputs"));
+        OperatorInvocation<? extends Operator> split = graphDecl.addOperator(
+                operatorClass(JavaFunctionalOps.PARALLEL_SPLIT_CLASS));
+        if (output.has(PortProperties.ROUTING))
+            split.setStringParameter("routing", jstring(output, PortProperties.ROUTING));
+        declareInputs(split, json.getAsJsonArray("inputs"), 0);
+        
+        final List<OutputPortDeclaration> ports = new ArrayList<>(width);
+        for (int channel = 0; channel < width; channel++) {
+            if (!queued) {
+                ports.add(split.addOutput(channelName(name, channel), schema));
+                continue;
+            }
+            OutputPortDeclaration port = split.addOutput(name + "_split_" + channel, schema);
+            OperatorInvocation<? extends Operator> queue = addQueue();
+            port.connect(queue.addInput(name + "_queue_" + channel, schema));
+            ports.add(queue.addOutput(channelName(name, channel), schema));
+        }
+        outputPorts.put(name, ports);
+    }
+    
+    private OperatorInvocation<? extends Operator> addQueue() throws Exception {
+        OperatorInvocation<? extends Operator> queue = graphDecl.addOperator(
+                operatorClass(JavaFunctionalOps.QUEUED_PASS_CLASS));
+        queue.setIntParameter("queueSize", QUEUE_SIZE);
+        if (queueWait != null)
+            queue.setStringParameter("queueWaitStrategy", queueWait);
+        return queue;
     }
     
-    private void declareOutputs(OperatorInvocation<? extends Operator> opDecl, JsonArray outputs) {
+    @SuppressWarnings("unchecked")
+    private static Class<? extends Operator> operatorClass(String className) throws ClassNotFoundException {
+        return (Class<? extends Operator>) Class.forName(className);
+    }
+    
+    /**
+     * Width of a parallel region from the parallel marker's output,
+     * the width may be a submission parameter.
+     */
+    private static int parallelWidth(JsonObject output) {
+        JsonElement width = output.get(PortProperties.WIDTH);
+        if (width.isJsonPrimitive())
+            return width.getAsInt();
+        
+        JsonObject spv = object(width.getAsJsonObject(), "value");
+        Object value = SubmissionParameterManager.getValue(
+                jstring(spv, "name"), jstring(spv, "metaType"));
+        return ((Number) value).intValue();
+    }
+    
+    /**
+     * Find the operators within each outermost parallel region.
+     */
+    private void findParallelRegions() {
+        final Map<String,JsonObject> inputOps = new HashMap<>();
+        final List<JsonObject> ops = new ArrayList<>();
+        for (BOperator op : builder.getOps()) {
+            JsonObject json = op._complete();
+            ops.add(json);
+            JsonArray inputs = json.getAsJsonArray("inputs");
+            if (jisEmpty(inputs))
+                continue;
+            for (JsonElement e : inputs)
+                inputOps.put(jstring(e.getAsJsonObject(), "name"), json);
+        }
+        
+        // Operators are in the order they were added, so an
+        // outer region's marker is seen before any nested marker.
+        for (JsonObject json : ops) {
+            if (PARALLEL.isThis(jstring(json, KIND)) && !channels.containsKey(jstring(json, "name")))
+                addParallelRegion(json, inputOps);
+        }
+    }
+    
+    /**
+     * Add the operators in the region started by a parallel marker,
+     * that is all operators downstream of the marker up to its
+     * end parallel marker, including any nested regions.
+     */
+    private void addParallelRegion(JsonObject marker, Map<String,JsonObject> inputOps) {
+        final int width = parallelWidth(marker.getAsJsonArray("outputs").get(0).getAsJsonObject());
+        
+        // Depth of nested regions for each visited operator.
+        final Map<String,Integer> depths = new HashMap<>();
+        final Deque<JsonObject> pending = new ArrayDeque<>();
+        addDownstream(marker, 0, inputOps, depths, pending);
+        
+        while (!pending.isEmpty()) {
+            final JsonObject op = pending.removeFirst();
+            final String name = jstring(op, "name");
+            final String kind = jstring(op, KIND);
+            int depth = depths.get(name);
+            if (END_PARALLEL.isThis(kind)) {
+                if (depth == 0)
+                    continue;
+                depth--;
+            } else if (PARALLEL.isThis(kind)) {
+                depth++;
+            }
+            channels.put(name, width);
+            addDownstream(op, depth, inputOps, depths, pending);
+        }
+    }
+    
+    private static void addDownstream(JsonObject op, int depth, Map<String,JsonObject> inputOps,
+            Map<String,Integer> depths, Deque<JsonObject> pending) {
+        JsonArray outputs = op.getAsJsonArray("outputs");
+        if (jisEmpty(outputs))
+            return;
+        for (JsonElement e : outputs) {
+            JsonArray conns = e.getAsJsonObject().getAsJsonArray("connections");
+            if (jisEmpty(conns))
+                continue;
+            for (JsonElement c : conns) {
+                JsonObject downstream = inputOps.get(c.getAsString());
+                if (downstream != null && depths.putIfAbsent(jstring(downstream, "name"), depth) == null)
+                    pending.addLast(downstream);
+            }
+        }
+    }
+    
+    private void declareOutputs(OperatorInvocation<? extends Operator> opDecl, JsonArray outputs, int channel) {
         if (GsonUtilities.jisEmpty(outputs))
             return;
         
@@ -197,13 +423,13 @@ public class EmbeddedGraph {
         for (JsonObject output : ports) {
             String name = jstring(output, "name");            
             StreamSchema schema = Type.Factory.getTupleType(jstring(output, "type")).getTupleSchema();            
-            OutputPortDeclaration port = opDecl.addOutput(name, schema);
+            OutputPortDeclaration port = opDecl.addOutput(channelName(name, channel), schema);
           
-            assert !outputPorts.containsKey(name);
-            outputPorts.put(name, port);
+            assert outputPorts.getOrDefault(name, Collections.emptyList()).size() == channel;
+            outputPorts.computeIfAbsent(name, k -> new ArrayList<>()).add(port);
         }  
     }
-    private void declareInputs(OperatorInvocation<? extends Operator> opDecl, JsonArray inputs) {
+    private void declareInputs(OperatorInvocation<? extends Operator> opDecl, JsonArray inputs, int channel) {
         if (jisEmpty(inputs))
             return;
         
@@ -218,10 +444,10 @@ public class EmbeddedGraph {
         for (JsonObject input : ports) {
             String name = jstring(input, "name");            
             StreamSchema schema = Type.Factory.getTupleType(jstring(input, "type")).getTupleSchema();            
-            InputPortDeclaration port = opDecl.addInput(name, schema);
+            InputPortDeclaration port = opDecl.addInput(channelName(name, channel), schema);
             
-            assert !inputPorts.containsKey(name);
-            inputPorts.put(name, port);
+            assert inputPorts.getOrDefault(name, Collections.emptyList()).size() == channel;
+            inputPorts.computeIfAbsent(name, k -> new ArrayList<>()).add(port);
             
             if (input.has("window"))
                 windowInput(input, port);
@@ -304,14 +530,35 @@ public class EmbeddedGraph {
             if (jisEmpty(conns))
                 continue;
             
-            OutputPortDeclaration port = requireNonNull(outputPorts.get(name));
+            List<OutputPortDeclaration> ports = requireNonNull(outputPorts.get(name));
             for (JsonElement c : conns) {
                 String iname = c.getAsString();
-                InputPortDeclaration iport = requireNonNull(inputPorts.get(iname));               
-                port.connect(iport);
+                List<InputPortDeclaration> iports = requireNonNull(inputPorts.get(iname));
+                connect(ports, iports);
             }
         }     
     }
+    
+    /**
+     * Connect the channels of an output port to the channels of an input port.
+     * Ports with the same number of channels are connected channel to channel,
+     * a port with a single channel is connected to (broadcast) or
+     * from (merge) all channels of the other port.
+     */
+    private static void connect(List<OutputPortDeclaration> ports, List<InputPortDeclaration> iports) {
+        if (ports.size() == iports.size()) {
+            for (int channel = 0; channel < ports.size(); channel++)
+                ports.get(channel).connect(iports.get(channel));
+        } else if (ports.size() == 1) {
+            for (InputPortDeclaration iport : iports)
+                ports.get(0).connect(iport);
+        } else if (iports.size() == 1) {
+            for (OutputPortDeclaration port : ports)
+                port.connect(iports.get(0));
+        } else {
+            throw new IllegalStateException(ports.size() + " != " + iports.size());
+        }
+    }
 
     /**
      * From a JSON parameter set the operator declaration parameter.
@@ -394,9 +641,21 @@ public class EmbeddedGraph {
             jstring(op, KIND)));
     }
 
+    /**
+     * Get the declared port for a stream, for a stream
+     * within a parallel region this is the first channel's port.
+     */
     public OutputPortDeclaration getOutputPort(String name) {
-        OutputPortDeclaration portDecl = outputPorts.get(name); 
-        return Objects.requireNonNull(portDecl);
+        return getOutputPorts(name).get(0);
+    }
+    
+    /**
+     * Get the declared ports for a stream, one for each
+     * channel for a stream within a parallel region.
+     */
+    public List<OutputPortDeclaration> getOutputPorts(String name) {
+        List<OutputPortDeclaration> portDecls = outputPorts.get(name); 
+        return Objects.requireNonNull(portDecls);
     }
 
     /**
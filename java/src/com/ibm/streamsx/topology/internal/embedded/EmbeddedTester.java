@@ -23,7 +23,7 @@ public class EmbeddedTester extends StreamsContextImpl<JavaTestableGraph> {
     public Future<JavaTestableGraph> submit(Topology app,
             Map<String, Object> config) throws Exception {
 
-        EmbeddedGraph eg = new EmbeddedGraph(app.builder());
+        EmbeddedGraph eg = new EmbeddedGraph(app.builder(), config);
         eg.verifySupported();
         
         ConditionTesterImpl tester = null;
@@ -34,10 +34,12 @@ import com.ibm.streamsx.topology.internal.context.streams.DistributedTester;
 import com.ibm.streamsx.topology.internal.tester.TesterRuntime.TestState;
 import com.ibm.streamsx.topology.internal.tester.conditions.ContentsUserCondition;
 import com.ibm.streamsx.topology.internal.tester.conditions.CounterUserCondition;
+import com.ibm.streamsx.topology.internal.tester.conditions.DigestUserCondition;
 import com.ibm.streamsx.topology.internal.tester.conditions.ResetterUserCondition;
 import com.ibm.streamsx.topology.internal.tester.conditions.StringPredicateUserCondition;
 import com.ibm.streamsx.topology.internal.tester.conditions.UserCondition;
 import com.ibm.streamsx.topology.internal.tester.embedded.EmbeddedTesterRuntime;
+import com.ibm.streamsx.topology.internal.tester.fns.ContentsDigest;
 import com.ibm.streamsx.topology.internal.tester.rest.RESTTesterRuntime;
 import com.ibm.streamsx.topology.internal.tester.tcp.TCPTesterRuntime;
 import com.ibm.streamsx.topology.jobconfig.JobConfig;
@@ -167,6 +169,17 @@ public class ConditionTesterImpl implements Tester {
         
         return addCondition(stream, new ContentsUserCondition<String>(String.class, Arrays.asList(values), false));
     }
+
+    @Override
+    public Condition<Long> stringContentsDigest(TStream<String> stream,
+            Iterable<String> values) {
+        
+        ContentsDigest digest = ContentsDigest.of(values);
+        
+        stream = stream.asType(String.class);
+        
+        return addCondition(stream, new DigestUserCondition(digest.count(), digest.digest()));
+    }
     
     @Override
     public Condition<Void> resetConsistentRegions(Integer minimumResets) {
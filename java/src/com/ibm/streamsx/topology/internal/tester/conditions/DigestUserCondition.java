@@ -0,0 +1,35 @@
+/*
+# Licensed Materials - Property of IBM
+# Copyright IBM Corp. 2026
+ */
+package com.ibm.streamsx.topology.internal.tester.conditions;
+
+/**
+ * Condition on the number of string tuples
+ * and their order independent digest.
+ * @see com.ibm.streamsx.topology.internal.tester.fns.ContentsDigest
+ */
+public final class DigestUserCondition extends UserCondition<Long> {
+    
+    private final long expectedCount;
+    private final long expectedDigest;
+    
+    public DigestUserCondition(long expectedCount, long expectedDigest) {
+        super(-1L);
+        this.expectedCount = expectedCount;
+        this.expectedDigest = expectedDigest;
+    }
+    
+    public long getExpectedCount() {
+        return expectedCount;
+    }
+    public long getExpectedDigest() {
+        return expectedDigest;
+    }
+    
+    @Override
+    public String toString() {
+        return "Tuple digest: " + getExpectedCount()
+                + " tuples, received: " + getResult();
+    }
+}
@@ -0,0 +1,71 @@
+/*
+# Licensed Materials - Property of IBM
+# Copyright IBM Corp. 2026
+ */
+package com.ibm.streamsx.topology.internal.tester.conditions.handlers;
+
+import com.ibm.streams.flow.handlers.StreamHandler;
+import com.ibm.streams.operator.StreamingData.Punctuation;
+import com.ibm.streams.operator.Tuple;
+import com.ibm.streamsx.topology.internal.tester.conditions.DigestUserCondition;
+import com.ibm.streamsx.topology.internal.tester.fns.ContentsDigest;
+
+public class DigestHandlerCondition extends HandlerCondition<Long, DigestHandlerCondition.Digester, DigestUserCondition> {
+    
+    public DigestHandlerCondition(DigestUserCondition userCondition) {
+        super(userCondition, new Digester());
+    }
+    
+    @Override
+    public Long getResult() {
+        return handler.count();
+    }
+
+    @Override
+    public boolean valid() {
+        if (failed())
+            return false;
+        
+        final long count;
+        final long digest;
+        synchronized (handler) {
+            count = handler.count();
+            digest = handler.digest();
+        }
+        
+        if (count < userCondition.getExpectedCount())
+            return false;
+        
+        // Can never become valid once all the expected
+        // tuples have been received with a different digest.
+        if (count > userCondition.getExpectedCount()
+                || digest != userCondition.getExpectedDigest()) {
+            fail();
+            return false;
+        }
+        
+        return true;
+    }
+    
+    static final class Digester implements StreamHandler<Tuple> {
+        
+        private final ContentsDigest digest = new ContentsDigest();
+
+        @Override
+        public void mark(Punctuation mark) throws Exception {
+        }
+
+        @Override
+        public synchronized void tuple(Tuple tuple) throws Exception {
+            digest.add(tuple.getString(0));
+        }
+        
+        synchronized long count() {
+            return digest.count();
+        }
+        
+        synchronized long digest() {
+            return digest.digest();
+        }
+    }
+}
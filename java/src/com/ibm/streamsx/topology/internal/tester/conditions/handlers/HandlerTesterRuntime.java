@@ -23,6 +23,7 @@ import com.ibm.streamsx.topology.internal.tester.ConditionTesterImpl;
 import com.ibm.streamsx.topology.internal.tester.TesterRuntime;
 import com.ibm.streamsx.topology.internal.tester.conditions.ContentsUserCondition;
 import com.ibm.streamsx.topology.internal.tester.conditions.CounterUserCondition;
+import com.ibm.streamsx.topology.internal.tester.conditions.DigestUserCondition;
 import com.ibm.streamsx.topology.internal.tester.conditions.NoStreamCondition;
 import com.ibm.streamsx.topology.internal.tester.conditions.StringPredicateUserCondition;
 import com.ibm.streamsx.topology.internal.tester.conditions.UserCondition;
@@ -90,6 +91,8 @@ public abstract class HandlerTesterRuntime extends TesterRuntime {
                 handlerCondition = new StringHandlerCondition((ContentsUserCondition<String>) userCondition);
         } else if (userCondition instanceof StringPredicateUserCondition) {
             handlerCondition = new StringPredicateHandlerCondition((StringPredicateUserCondition) userCondition);
+        } else if (userCondition instanceof DigestUserCondition) {
+            handlerCondition = new DigestHandlerCondition((DigestUserCondition) userCondition);
         }
         
         if (handlerCondition == null)
@@ -116,8 +119,10 @@ public abstract class HandlerTesterRuntime extends TesterRuntime {
                     state = FAIL;
                     break;
                 } else if (checkCounters) {
-                    if (condition instanceof CounterUserCondition) {
-                        CounterUserCondition counter = (CounterUserCondition) condition;
+                    if (condition instanceof CounterUserCondition
+                            || condition instanceof DigestUserCondition) {
+                        @SuppressWarnings("unchecked")
+                        UserCondition<Long> counter = (UserCondition<Long>) condition;
                         long result = counter.getResult();
                         Long last = lastConditionState.get(counter);
                         if (last == null || result <= last)
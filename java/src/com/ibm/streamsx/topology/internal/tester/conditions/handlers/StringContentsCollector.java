@@ -0,0 +1,97 @@
+/*
+# Licensed Materials - Property of IBM
+# Copyright IBM Corp. 2026
+ */
+package com.ibm.streamsx.topology.internal.tester.conditions.handlers;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.ibm.streams.flow.handlers.StreamHandler;
+import com.ibm.streams.operator.StreamingData.Punctuation;
+import com.ibm.streams.operator.Tuple;
+
+/**
+ * Collects string tuples, checking each tuple against the
+ * expected contents as it arrives.
+ * <BR>
+ * The expected tuples are held as a multiset (count of each
+ * distinct value) so that checking a tuple is constant time,
+ * for ordered contents the tuple is also compared to the expected
+ * tuple at its position.
+ */
+class StringContentsCollector implements StreamHandler<Tuple> {
+
+    private final List<String> expected;
+    private final boolean ordered;
+
+    /**
+     * Number of times each expected value has not yet been received,
+     * a value remains with a count of zero once all have been received.
+     */
+    private final Map<String, Integer> remaining;
+
+    private final List<String> received = new ArrayList<>();
+
+    /**
+     * Number of received tuples that matched
+     * an expected tuple (ordered: in position).
+     */
+    private int matched;
+    private boolean unexpected;
+
+    StringContentsCollector(List<String> expected, boolean ordered) {
+        this.expected = expected;
+        this.ordered = ordered;
+        remaining = new HashMap<>();
+        for (String value : expected)
+            remaining.merge(value, 1, Integer::sum);
+    }
+
+    @Override
+    public void mark(Punctuation mark) throws Exception {
+    }
+
+    @Override
+    public synchronized void tuple(Tuple t) throws Exception {
+        final String tuple = t.getString(0);
+        final Integer count = remaining.get(tuple);
+        if (count == null) {
+            unexpected = true;
+        } else if (ordered) {
+            final int position = received.size();
+            if (matched == position && position < expected.size()
+                    && tuple.equals(expected.get(position)))
+                matched++;
+        } else if (count > 0) {
+            remaining.put(tuple, count - 1);
+            matched++;
+        }
+        received.add(tuple);
+    }
+
+    synchronized List<String> received() {
+        return new ArrayList<>(received);
+    }
+
+    synchronized int receivedCount() {
+        return received.size();
+    }
+
+    /**
+     * True if exactly the expected tuples have been received.
+     */
+    synchronized boolean matched() {
+        return matched == expected.size() && received.size() == expected.size();
+    }
+
+    /**
+     * True if a tuple that is not in the expected
+     * tuples has been received.
+     */
+    synchronized boolean unexpected() {
+        return unexpected && !expected.isEmpty();
+    }
+}
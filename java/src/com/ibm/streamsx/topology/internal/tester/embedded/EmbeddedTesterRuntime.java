@@ -75,10 +75,10 @@ public final class EmbeddedTesterRuntime extends HandlerTesterRuntime {
             Set<StreamHandler<Tuple>> streamHandlers = handlers.get(stream);
 
             final BOutput output = stream.output();
-            final OutputPortDeclaration portDecl = eg.getOutputPort(output.name());
-
-            for (StreamHandler<Tuple> streamHandler : streamHandlers) {
-                tg.registerStreamHandler(portDecl, streamHandler);
+            for (OutputPortDeclaration portDecl : eg.getOutputPorts(output.name())) {
+                for (StreamHandler<Tuple> streamHandler : streamHandlers) {
+                    tg.registerStreamHandler(portDecl, streamHandler);
+                }
             }
         }
     }
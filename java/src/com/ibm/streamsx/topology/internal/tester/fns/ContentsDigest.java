@@ -0,0 +1,65 @@
+/*
+# Licensed Materials - Property of IBM
+# Copyright IBM Corp. 2026
+ */
+package com.ibm.streamsx.topology.internal.tester.fns;
+
+import java.io.Serializable;
+
+/**
+ * Order independent digest of string tuples.
+ * <BR>
+ * The digest is the sum (modulo 2<sup>64</sup>) of a 64-bit hash of
+ * each tuple, so it does not depend on the order tuples are added,
+ * and each occurrence of a duplicate tuple changes the digest.
+ * Together with the number of tuples it allows the contents of a
+ * stream to be compared with the expected contents without
+ * holding either in memory.
+ */
+public final class ContentsDigest implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private long count;
+    private long digest;
+
+    public void add(String tuple) {
+        count++;
+        digest += hash(tuple);
+    }
+
+    public long count() {
+        return count;
+    }
+
+    public long digest() {
+        return digest;
+    }
+
+    public static ContentsDigest of(Iterable<String> tuples) {
+        ContentsDigest digest = new ContentsDigest();
+        for (String tuple : tuples)
+            digest.add(tuple);
+        return digest;
+    }
+
+    /**
+     * 64-bit FNV-1a hash of the string's characters,
+     * with a final mix so that every bit of the hash
+     * depends on every character.
+     */
+    static long hash(String tuple) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < tuple.length(); i++) {
+            h ^= tuple.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        h ^= tuple.length();
+
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -4,22 +4,27 @@
  */
 package com.ibm.streamsx.topology.internal.tester.fns;
 
-import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 public final class TupleContents<T> extends ConditionChecker<T> {
     private static final long serialVersionUID = 1L;
     
     private final List<T> expected;
     private final boolean ordered;
-    private List<T> got;
+    
+    /**
+     * Number of times each expected tuple has not yet been
+     * received, for unordered contents. Created when the first
+     * tuple is received so it is not serialized with the function.
+     */
+    private Map<T,Integer> remaining;
 
     public TupleContents(String name, boolean ordered, List<T> expected) {
         super(name);
         this.ordered = ordered;
         this.expected = expected;
-        if (!ordered)
-            got = new ArrayList<>(expected.size());
     }
 
     @Override
@@ -52,27 +57,26 @@ public final class TupleContents<T> extends ConditionChecker<T> {
     
     private void checkUnordered(T tuple) {
         
-        if (!expected.contains(tuple)) {
+        if (remaining == null) {
+            remaining = new HashMap<>();
+            for (T t : expected)
+                remaining.merge(t, 1, Integer::sum);
+        }
+        
+        final Integer count = remaining.get(tuple);
+        if (count == null) {
             failUnexpectedTuple(tuple, expected);
             return;
         }
+        if (count == 0) {
+            setFailed(String.format("Tuple %s received more times than expected in: %s", tuple, expected));
+            return;
+        }
+        remaining.put(tuple, count - 1);
         
-        got.add(tuple);
-        
-        if (got.size() == expected.size()) {
-            
-            // Copy expected to avoid modifying it.
-            List<T> ce = new ArrayList<>(expected.size());
-            ce.addAll(expected);
-            
-            for (T t : got) {
-                if (!ce.remove(t)) {
-                    setFailed(String.format("Expected %s Received %s.", got, expected));
-                    return;
-                }   
-            }
+        // Every tuple received matched an expected tuple.
+        if (tupleCount() == expected.size())
             setValid();
-        }
     }
     
     @Override
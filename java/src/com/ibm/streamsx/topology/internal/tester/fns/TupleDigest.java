@@ -0,0 +1,51 @@
+/*
+# Licensed Materials - Property of IBM
+# Copyright IBM Corp. 2026
+ */
+package com.ibm.streamsx.topology.internal.tester.fns;
+
+import com.ibm.streamsx.topology.function.FunctionContext;
+
+public final class TupleDigest<T> extends ConditionChecker<T> {
+    private static final long serialVersionUID = 1L;
+
+    private final long expectedCount;
+    private final long expectedDigest;
+    private final ContentsDigest digest = new ContentsDigest();
+
+    public TupleDigest(String name, long expectedCount, long expectedDigest) {
+        super(name);
+        this.expectedCount = expectedCount;
+        this.expectedDigest = expectedDigest;
+    }
+
+    @Override
+    public void initialize(FunctionContext functionContext) throws Exception {
+        super.initialize(functionContext);
+        if (expectedCount == 0)
+            setValid();
+    }
+
+    @Override
+    void checkValid(T tuple) {
+        if (tupleCount() > expectedCount) {
+            failTooMany(expectedCount);
+            return;
+        }
+
+        digest.add(tuple.toString());
+
+        if (tupleCount() == expectedCount) {
+            if (digest.digest() == expectedDigest)
+                setValid();
+            else
+                setFailed(String.format("Received %d tuples but their digest %x does not match the expected digest %x.",
+                        tupleCount(), digest.digest(), expectedDigest));
+        }
+    }
+
+    @Override
+    String notValidText() {
+        return expectedCountText(expectedCount);
+    }
+}
@@ -5,18 +5,13 @@
 package com.ibm.streamsx.topology.internal.tester.ops;
 
 import java.net.InetSocketAddress;
-import java.nio.ByteBuffer;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Queue;
-
-import org.apache.mina.core.future.WriteFuture;
+import java.util.concurrent.TimeUnit;
 
 import com.ibm.streams.operator.OperatorContext;
 import com.ibm.streams.operator.StreamingData.Punctuation;
 import com.ibm.streams.operator.StreamingInput;
 import com.ibm.streams.operator.Tuple;
-import com.ibm.streams.operator.encoding.BinaryEncoding;
 import com.ibm.streams.operator.model.InputPortSet;
 import com.ibm.streams.operator.model.Libraries;
 import com.ibm.streams.operator.model.Parameter;
@@ -24,7 +19,15 @@ import com.ibm.streams.operator.model.PrimitiveOperator;
 import com.ibm.streams.operator.samples.patterns.TupleConsumer;
 import com.ibm.streamsx.topology.internal.tester.tcp.TCPTestClient;
 import com.ibm.streamsx.topology.internal.tester.tcp.TestTuple;
-
+import com.ibm.streamsx.topology.internal.tester.tcp.TestTupleBatchWriter;
+
+/**
+ * Sends tuples to the tester's {@code TCPTestServer}.
+ * <BR>
+ * Tuples are batched, each batch is encoded into frames of many
+ * tuples per port that are written without waiting for earlier frames
+ * to be written, up to a bounded number of frames in flight.
+ */
 @PrimitiveOperator
 @InputPortSet
 @Libraries("opt/apache-mina-2.0.2/dist/*")
@@ -32,46 +35,43 @@ public class TesterSink extends TupleConsumer {
     
     public static final String KIND = "com.ibm.streamsx.topology.testing::TesterSink";
 
+    private static final int BATCH_SIZE = 1024;
+    private static final long BATCH_TIMEOUT_MS = 50;
+
     private String host;
     private int port;
-    private BinaryEncoding[] encoders;
     private TCPTestClient[] clients;
+    private TestTupleBatchWriter[] writers;
 
     @Override
     public void initialize(OperatorContext context) throws Exception {
         super.initialize(context);
 
-        setBatchSize(1);
+        setBatchSize(BATCH_SIZE);
+        setBatchTimeout(BATCH_TIMEOUT_MS, TimeUnit.MILLISECONDS);
         setPreserveOrder(true);
 
         InetSocketAddress addr = new InetSocketAddress(getHost(), getPort());
         clients = new TCPTestClient[context.getNumberOfStreamingInputs()];
-        encoders = new BinaryEncoding[context.getNumberOfStreamingInputs()];
+        writers = new TestTupleBatchWriter[context.getNumberOfStreamingInputs()];
         for (StreamingInput<Tuple> input : context.getStreamingInputs()) {
             TCPTestClient client = new TCPTestClient(addr);
             client.connect();
             clients[input.getPortNumber()] = client;
 
-            encoders[input.getPortNumber()] = input.getStreamSchema()
-                    .newNativeBinaryEncoding();
+            writers[input.getPortNumber()] = new TestTupleBatchWriter(client,
+                    input.getPortNumber(),
+                    input.getStreamSchema().newNativeBinaryEncoding());
         }
     }
 
     @Override
     protected boolean processBatch(Queue<BatchedTuple> batch) throws Exception {
-        List<WriteFuture> futures = new ArrayList<>(batch.size());
         for (BatchedTuple bt : batch) {
-            int portIndex = bt.getStream().getPortNumber();
-            TCPTestClient client = clients[portIndex];
-
-            BinaryEncoding be = encoders[portIndex];
-            byte[] tupleData = new byte[(int) be.getEncodedSize(bt.getTuple())];
-            be.encodeTuple(bt.getTuple(), ByteBuffer.wrap(tupleData));
-            TestTuple tt = new TestTuple(portIndex, tupleData);
-            futures.add(client.writeTuple(tt));
+            writers[bt.getStream().getPortNumber()].write(bt.getTuple());
         }
-        for (WriteFuture future : futures) {
-            future.await();
+        for (TestTupleBatchWriter writer : writers) {
+            writer.flush();
         }
         return false;
     }
@@ -82,6 +82,7 @@ public class TesterSink extends TupleConsumer {
         super.processPunctuation(port, mark);
         if (mark == Punctuation.FINAL_MARKER) {
             int portIndex = port.getPortNumber();
+            writers[portIndex].drain();
             TestTuple finalTupleMarker = new TestTuple(portIndex, new byte[0]);
             TCPTestClient client = clients[portIndex];
             client.writeTuple(finalTupleMarker).await();
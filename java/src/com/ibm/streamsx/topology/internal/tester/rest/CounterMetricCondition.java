@@ -5,11 +5,11 @@
 package com.ibm.streamsx.topology.internal.tester.rest;
 
 import com.ibm.streamsx.topology.internal.tester.TesterRuntime.TestState;
-import com.ibm.streamsx.topology.internal.tester.conditions.CounterUserCondition;
+import com.ibm.streamsx.topology.internal.tester.conditions.UserCondition;
 
 class CounterMetricCondition extends MetricCondition<Long> {
 
-    CounterMetricCondition(String name, CounterUserCondition userCondition) {
+    CounterMetricCondition(String name, UserCondition<Long> userCondition) {
         super(name, userCondition);
     }
     
@@ -31,12 +31,14 @@ import com.ibm.streamsx.topology.internal.tester.ConditionTesterImpl;
 import com.ibm.streamsx.topology.internal.tester.TesterRuntime;
 import com.ibm.streamsx.topology.internal.tester.conditions.ContentsUserCondition;
 import com.ibm.streamsx.topology.internal.tester.conditions.CounterUserCondition;
+import com.ibm.streamsx.topology.internal.tester.conditions.DigestUserCondition;
 import com.ibm.streamsx.topology.internal.tester.conditions.NoStreamCondition;
 import com.ibm.streamsx.topology.internal.tester.conditions.StringPredicateUserCondition;
 import com.ibm.streamsx.topology.internal.tester.conditions.UserCondition;
 import com.ibm.streamsx.topology.internal.tester.fns.StringPredicateChecker;
 import com.ibm.streamsx.topology.internal.tester.fns.TupleContents;
 import com.ibm.streamsx.topology.internal.tester.fns.TupleCount;
+import com.ibm.streamsx.topology.internal.tester.fns.TupleDigest;
 import com.ibm.streamsx.topology.tester.Condition;
 
 public class RESTTesterRuntime extends TesterRuntime {
@@ -130,6 +132,11 @@ public class RESTTesterRuntime extends TesterRuntime {
             name = "stringChecker_" + id++;
             fn = new StringPredicateChecker(name, uc.getPredicate());
             condition = new MetricCondition<Object>(name, (UserCondition<Object>) userCondition);
+        } else if (userCondition instanceof DigestUserCondition) {
+            DigestUserCondition uc = (DigestUserCondition) userCondition;
+            name = "digest_" + id++;
+            fn = new TupleDigest<Object>(name, uc.getExpectedCount(), uc.getExpectedDigest());
+            condition = new CounterMetricCondition(name, uc);
         }
         
         if (metricsChecker == null)
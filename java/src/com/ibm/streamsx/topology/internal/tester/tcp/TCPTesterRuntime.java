@@ -121,7 +121,7 @@ public class TCPTesterRuntime extends HandlerTesterRuntime {
                     throws Exception {
                 TestTuple tuple = (TestTuple) message;
                 TestTupleInjector injector = injectors.get(tuple.getTesterId());
-                injector.tuple(tuple.getTupleData());
+                injector.tuple(tuple.getTupleBuffer());
             }
         });
 
@@ -4,18 +4,42 @@
  */
 package com.ibm.streamsx.topology.internal.tester.tcp;
 
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
 public class TestTuple {
 
     private final Integer testerId;
     private final byte[] tupleData;
+    private final int offset;
+    private final int length;
 
     public TestTuple(Integer testerId, byte[] tupleData) {
+        this(testerId, tupleData, 0, tupleData.length);
+    }
+
+    /**
+     * Tuple encoded in a range of {@code tupleData},
+     * used for tuples decoded from a batch frame.
+     */
+    public TestTuple(Integer testerId, byte[] tupleData, int offset, int length) {
         this.testerId = testerId;
         this.tupleData = tupleData;
+        this.offset = offset;
+        this.length = length;
     }
 
     public byte[] getTupleData() {
-        return tupleData;
+        if (offset == 0 && length == tupleData.length)
+            return tupleData;
+        return Arrays.copyOfRange(tupleData, offset, offset + length);
+    }
+
+    /**
+     * Get the encoded tuple without copying it.
+     */
+    public ByteBuffer getTupleBuffer() {
+        return ByteBuffer.wrap(tupleData, offset, length);
     }
 
     public Integer getTesterId() {
@@ -0,0 +1,122 @@
+/*
+# Licensed Materials - Property of IBM
+# Copyright IBM Corp. 2026
+ */
+package com.ibm.streamsx.topology.internal.tester.tcp;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import org.apache.mina.core.buffer.IoBuffer;
+import org.apache.mina.core.future.WriteFuture;
+
+import com.ibm.streams.operator.Tuple;
+import com.ibm.streams.operator.encoding.BinaryEncoding;
+
+/**
+ * Writes tuples for a tester to a {@link TCPTestClient} in
+ * batch frames, each frame holding many tuples.
+ * <BR>
+ * A frame is written when it reaches {@link #FRAME_SIZE} bytes or
+ * is flushed, without waiting for the write to complete.
+ * Up to {@link #MAX_IN_FLIGHT} frames may be being written at once,
+ * once the limit is reached writing a frame waits for the oldest
+ * write to complete. A frame's buffer is reused once its write completes.
+ * <BR>
+ * A batch frame is {@link TestTupleDecoder#BATCH} followed by the
+ * length of the frame's body, the body is a sequence
+ * of tuples, each encoded as for {@link TestTupleEncoder}.
+ */
+public class TestTupleBatchWriter {
+
+    static final int FRAME_SIZE = 64 * 1024;
+    static final int MAX_IN_FLIGHT = 4;
+
+    private static final int HEADER_SIZE = 4 + 4;
+
+    private final TCPTestClient client;
+    private final int testerId;
+    private final BinaryEncoding encoding;
+
+    private final Deque<InFlight> inFlight = new ArrayDeque<>(MAX_IN_FLIGHT);
+    private final Deque<IoBuffer> free = new ArrayDeque<>(MAX_IN_FLIGHT);
+
+    private IoBuffer frame;
+
+    private static final class InFlight {
+        final IoBuffer frame;
+        final WriteFuture future;
+
+        InFlight(IoBuffer frame, WriteFuture future) {
+            this.frame = frame;
+            this.future = future;
+        }
+    }
+
+    public TestTupleBatchWriter(TCPTestClient client, int testerId, BinaryEncoding encoding) {
+        this.client = client;
+        this.testerId = testerId;
+        this.encoding = encoding;
+    }
+
+    /**
+     * Add a tuple to the current frame, writing
+     * the frame if it has reached its size.
+     */
+    public synchronized void write(Tuple tuple) throws InterruptedException {
+        if (frame == null)
+            frame = newFrame();
+
+        final int size = (int) encoding.getEncodedSize(tuple);
+        frame.putInt(testerId);
+        frame.putInt(size);
+        frame.expand(size);
+        encoding.encodeTuple(tuple, frame.buf());
+
+        if (frame.position() >= FRAME_SIZE)
+            flush();
+    }
+
+    /**
+     * Write the current frame if it holds any tuples.
+     */
+    public synchronized void flush() throws InterruptedException {
+        if (frame == null || frame.position() == HEADER_SIZE)
+            return;
+
+        frame.putInt(4, frame.position() - HEADER_SIZE);
+        frame.flip();
+
+        if (inFlight.size() == MAX_IN_FLIGHT)
+            complete(inFlight.removeFirst());
+        inFlight.addLast(new InFlight(frame, client.writeTuple(frame)));
+        frame = null;
+    }
+
+    /**
+     * Write the current frame and wait for
+     * all frames to be written.
+     */
+    public synchronized void drain() throws InterruptedException {
+        flush();
+        while (!inFlight.isEmpty())
+            complete(inFlight.removeFirst());
+    }
+
+    private void complete(InFlight write) throws InterruptedException {
+        write.future.await();
+        free.addLast(write.frame);
+    }
+
+    private IoBuffer newFrame() {
+        IoBuffer buffer = free.pollFirst();
+        if (buffer == null) {
+            buffer = IoBuffer.allocate(FRAME_SIZE + FRAME_SIZE / 4);
+            buffer.setAutoExpand(true);
+        }
+        buffer.clear();
+        buffer.putInt(TestTupleDecoder.BATCH);
+        buffer.putInt(0); // length of the body, set when written
+        return buffer;
+    }
+}
@@ -4,6 +4,8 @@
  */
 package com.ibm.streamsx.topology.internal.tester.tcp;
 
+import java.nio.ByteBuffer;
+
 import org.apache.mina.core.buffer.IoBuffer;
 import org.apache.mina.core.session.IoSession;
 import org.apache.mina.filter.codec.CumulativeProtocolDecoder;
@@ -20,6 +22,13 @@ import org.apache.mina.filter.codec.ProtocolDecoderOutput;
  */
 public class TestTupleDecoder extends CumulativeProtocolDecoder {
 
+    /**
+     * Value in place of the tester identifier that
+     * starts a frame holding a batch of tuples.
+     * @see TestTupleBatchWriter
+     */
+    static final int BATCH = -1;
+
     public TestTupleDecoder() {
     }
 
@@ -32,6 +41,8 @@ public class TestTupleDecoder extends CumulativeProtocolDecoder {
      * handler in the chain.
      * <LI>attributeIndex - The next attribute to be decoded
      * </UL>
+     * A batch frame is read into a single array that
+     * is shared by the frame's tuples.
      */
     @Override
     protected boolean doDecode(IoSession session, IoBuffer in,
@@ -61,8 +72,21 @@ public class TestTupleDecoder extends CumulativeProtocolDecoder {
         byte[] tupleData = new byte[tupleLength];
         in.get(tupleData);
 
-        out.write(new TestTuple(testerId, tupleData));
+        if (testerId == BATCH)
+            decodeBatch(tupleData, out);
+        else
+            out.write(new TestTuple(testerId, tupleData));
 
         return in.remaining() >= 4;
     }
+
+    private static void decodeBatch(byte[] frame, ProtocolDecoderOutput out) {
+        final ByteBuffer body = ByteBuffer.wrap(frame);
+        while (body.hasRemaining()) {
+            final int testerId = body.getInt();
+            final int tupleLength = body.getInt();
+            out.write(new TestTuple(testerId, frame, body.position(), tupleLength));
+            body.position(body.position() + tupleLength);
+        }
+    }
 }
@@ -4,6 +4,8 @@
  */
 package com.ibm.streamsx.topology.internal.tester.tcp;
 
+import java.nio.ByteBuffer;
+
 import org.apache.mina.core.buffer.IoBuffer;
 import org.apache.mina.core.session.IoSession;
 import org.apache.mina.filter.codec.ProtocolEncoderAdapter;
@@ -29,11 +31,12 @@ public class TestTupleEncoder extends ProtocolEncoderAdapter {
 
         TestTuple tuple = (TestTuple) message;
 
+        ByteBuffer tupleData = tuple.getTupleBuffer();
         IoBuffer buffer = IoBuffer
-                .allocate(4 + 4 + tuple.getTupleData().length);
+                .allocate(4 + 4 + tupleData.remaining());
         buffer.putInt(tuple.getTesterId());
-        buffer.putInt(tuple.getTupleData().length);
-        buffer.put(tuple.getTupleData());
+        buffer.putInt(tupleData.remaining());
+        buffer.put(tupleData);
         buffer.flip();
 
         out.write(buffer);
@@ -30,11 +30,15 @@ class TestTupleInjector implements StreamHandler<byte[]> {
 
     @Override
     public void tuple(byte[] tupleData) throws Exception {
-        if (tupleData.length == 0) {
+        tuple(ByteBuffer.wrap(tupleData));
+    }
+
+    void tuple(ByteBuffer tupleData) throws Exception {
+        if (!tupleData.hasRemaining()) {
             mark(Punctuation.FINAL_MARKER);
             return;
         }
-        Tuple tuple = encoding.decodeTuple(ByteBuffer.wrap(tupleData));
+        Tuple tuple = encoding.decodeTuple(tupleData);
         injectPort.submit(tuple);
     }
 
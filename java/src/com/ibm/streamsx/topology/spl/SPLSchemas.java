@@ -39,6 +39,20 @@ public interface SPLSchemas {
      */
     StreamSchema BLOB = getStreamSchema(ObjectSchemas.BLOB_SCHEMA);
     
+    /**
+     * SPL schema used by
+     * {@code TStream<Long>} streams.
+     * Consists of a single attribute of type {@code int64 value}.
+     */
+    StreamSchema LONG = getStreamSchema(ObjectSchemas.LONG_SCHEMA);
+    
+    /**
+     * SPL schema used by
+     * {@code TStream<Double>} streams.
+     * Consists of a single attribute of type {@code float64 value}.
+     */
+    StreamSchema DOUBLE = getStreamSchema(ObjectSchemas.DOUBLE_SCHEMA);
+    
     /**
      * SPL schema used to publish and subscribe to 
      * {@code TStream<JSONObject>} streams. Used to interchange
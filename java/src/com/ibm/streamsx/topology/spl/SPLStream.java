@@ -132,6 +132,12 @@ public interface SPLStream extends TStream<Tuple>, SPLInput {
     @Override
     SPLStream throttle(long delay, TimeUnit unit);
     
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    SPLStream throttle(double rate, int burst, boolean drop);
+    
     /**
      * {@inheritDoc}
      */
@@ -152,6 +158,14 @@ public interface SPLStream extends TStream<Tuple>, SPLInput {
     SPLStream parallel(Supplier<Integer> width,
             Function<Tuple, ?> keyFunction);
     
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    SPLStream parallel(Supplier<Integer> width,
+            Function<Tuple, ?> keyFunction,
+            com.ibm.streamsx.topology.TStream.Routing routing);
+    
     /**
      * {@inheritDoc}
      */
@@ -187,4 +201,16 @@ public interface SPLStream extends TStream<Tuple>, SPLInput {
      */
     @Override
     SPLStream invocationName(String name);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    SPLStream latencyMetrics();
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    SPLStream traceLatency(double fraction);
 }
@@ -105,6 +105,11 @@ class SPLStreamImpl extends StreamImpl<Tuple> implements SPLStream {
     public SPLStream throttle(long delay, TimeUnit unit) {
         return asSPL(super.throttle(delay, unit));
     }
+    
+    @Override
+    public SPLStream throttle(double rate, int burst, boolean drop) {
+        return asSPL(super.throttle(rate, burst, drop));
+    }
     @Override
     public SPLStream lowLatency() {
         return asSPL(super.lowLatency());
@@ -164,6 +169,12 @@ class SPLStreamImpl extends StreamImpl<Tuple> implements SPLStream {
             Function<Tuple, ?> keyer) {
         throw new IllegalArgumentException(Messages.getString("SPL_PARTITIONING_NOT_SUPPORTED"));
     }
+    @Override
+    public SPLStream parallel(Supplier<Integer> width,
+            Function<Tuple, ?> keyer,
+            com.ibm.streamsx.topology.TStream.Routing routing) {
+        throw new IllegalArgumentException(Messages.getString("SPL_PARTITIONING_NOT_SUPPORTED"));
+    }
     
     @Override
     public SPLStream endParallel() {
@@ -188,6 +199,14 @@ class SPLStreamImpl extends StreamImpl<Tuple> implements SPLStream {
     public SPLStream invocationName(String name) {
         return asSPL(super.invocationName(name));
     }
+    @Override
+    public SPLStream latencyMetrics() {
+        return asSPL(super.latencyMetrics());
+    }
+    @Override
+    public SPLStream traceLatency(double fraction) {
+        return asSPL(super.traceLatency(fraction));
+    }
 
     public static class TupleToString implements Function<Tuple, String> {
         private static final long serialVersionUID = 1L;
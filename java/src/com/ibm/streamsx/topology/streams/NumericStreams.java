@@ -0,0 +1,97 @@
+/*
+# Licensed Materials - Property of IBM
+# Copyright IBM Corp. 2026
+ */
+package com.ibm.streamsx.topology.streams;
+
+import com.ibm.streamsx.topology.TStream;
+import com.ibm.streamsx.topology.function.DoublePredicate;
+import com.ibm.streamsx.topology.function.LongPredicate;
+import com.ibm.streamsx.topology.function.ToDoubleFunction;
+import com.ibm.streamsx.topology.function.ToLongFunction;
+import com.ibm.streamsx.topology.internal.logic.DoubleFilter;
+import com.ibm.streamsx.topology.internal.logic.LongFilter;
+import com.ibm.streamsx.topology.internal.logic.ToDoubleMapper;
+import com.ibm.streamsx.topology.internal.logic.ToLongMapper;
+
+/**
+ * Utilities for streams containing {@code Long} or {@code Double} tuples.
+ * <BR>
+ * Streams of {@code Long} and {@code Double} tuples use the native
+ * SPL schemas {@link com.ibm.streamsx.topology.spl.SPLSchemas#LONG}
+ * and {@link com.ibm.streamsx.topology.spl.SPLSchemas#DOUBLE},
+ * so values are passed between operators as {@code int64} or {@code float64}
+ * attributes rather than serialized Java objects.
+ */
+public class NumericStreams {
+
+    /**
+     * Create a stream that maps each input tuple to a {@code long} value.
+     *
+     * @param stream
+     *            Input stream
+     * @param mapper
+     *            Function that returns the {@code long} value for each tuple.
+     * @return Stream of the values returned by {@code mapper}.
+     */
+    public static <T> TStream<Long> mapToLong(TStream<T> stream,
+            ToLongFunction<T> mapper) {
+        return forceLong(stream.map(new ToLongMapper<T>(mapper)));
+    }
+
+    /**
+     * Create a stream that maps each input tuple to a {@code double} value.
+     *
+     * @param stream
+     *            Input stream
+     * @param mapper
+     *            Function that returns the {@code double} value for each tuple.
+     * @return Stream of the values returned by {@code mapper}.
+     */
+    public static <T> TStream<Double> mapToDouble(TStream<T> stream,
+            ToDoubleFunction<T> mapper) {
+        return forceDouble(stream.map(new ToDoubleMapper<T>(mapper)));
+    }
+
+    /**
+     * Create a filtered stream that contains {@code Long} tuples
+     * for which {@code filter} returns true.
+     *
+     * @param stream
+     *            Input stream
+     * @param filter
+     *            Predicate tested against each tuple's {@code long} value.
+     * @return Filtered stream.
+     */
+    public static TStream<Long> filterLong(TStream<Long> stream,
+            LongPredicate filter) {
+        return forceLong(stream.filter(new LongFilter(filter)));
+    }
+
+    /**
+     * Create a filtered stream that contains {@code Double} tuples
+     * for which {@code filter} returns true.
+     *
+     * @param stream
+     *            Input stream
+     * @param filter
+     *            Predicate tested against each tuple's {@code double} value.
+     * @return Filtered stream.
+     */
+    public static TStream<Double> filterDouble(TStream<Double> stream,
+            DoublePredicate filter) {
+        return forceDouble(stream.filter(new DoubleFilter(filter)));
+    }
+
+    private static TStream<Long> forceLong(TStream<Long> stream) {
+        stream = stream.asType(Long.class);
+        assert stream.getTupleClass() == Long.class;
+        return stream;
+    }
+
+    private static TStream<Double> forceDouble(TStream<Double> stream) {
+        stream = stream.asType(Double.class);
+        assert stream.getTupleClass() == Double.class;
+        return stream;
+    }
+}
@@ -207,6 +207,36 @@ public interface Tester {
      * @return Unordered tuple contents condition..
      */
     Condition<List<String>> stringContentsUnordered(TStream<String> stream, String... values);
+
+    /**
+     * Return a condition that evaluates if {@code stream} has submitted
+     * tuples matching {@code values} in any order, using the number of
+     * tuples and an order independent digest of their contents.
+     * <P>
+     * {@code values} is iterated once when this method is called and
+     * only its count and digest are retained, so the expected tuples
+     * may be generated or read as they are iterated rather than held
+     * in memory. Checking each tuple on {@code stream} takes constant
+     * time and memory.
+     * <BR>
+     * The condition fails if more tuples than expected are received, or
+     * if the expected number of tuples is received with a different digest,
+     * in which case the tuples that did not match are not identified.
+     * </P>
+     * <P>
+     * The {@link Condition#getResult() result} of the returned {@code Condition} is the
+     * number of tuples seen on {@code stream} so far.
+     * </P>
+     * 
+     * @param stream
+     *            Stream to be tested.
+     * @param values
+     *            Expected tuples on {@code stream}.
+     * @return Tuple digest condition.
+     * 
+     * @see #stringContentsUnordered(TStream, String...)
+     */
+    Condition<Long> stringContentsDigest(TStream<String> stream, Iterable<String> values);
     
     /**
      * Return a condition that evaluates if every tuple on {@code stream}
@@ -0,0 +1,115 @@
+/*
+# Licensed Materials - Property of IBM
+# Copyright IBM Corp. 2026
+ */
+package com.ibm.streamsx.topology.internal.functional.ops;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+import com.ibm.streams.operator.metrics.Metric;
+import com.ibm.streams.operator.metrics.OperatorMetrics;
+
+/**
+ * Bucket layout and percentiles of {@link LatencyHistogram}.
+ */
+public class LatencyHistogramTest {
+
+    private final Map<String, Long> values = new HashMap<>();
+
+    /**
+     * Metrics that just track the value set for each metric.
+     */
+    private final OperatorMetrics metrics = (OperatorMetrics) Proxy.newProxyInstance(
+            OperatorMetrics.class.getClassLoader(), new Class<?>[] { OperatorMetrics.class },
+            (proxy, method, args) -> {
+                if (!method.getName().equals("createCustomMetric"))
+                    throw new UnsupportedOperationException(method.getName());
+                final String name = (String) args[0];
+                return Proxy.newProxyInstance(
+                        Metric.class.getClassLoader(), new Class<?>[] { Metric.class },
+                        (mproxy, mmethod, margs) -> {
+                            if (!mmethod.getName().equals("setValue"))
+                                throw new UnsupportedOperationException(mmethod.getName());
+                            values.put(name, (Long) margs[0]);
+                            return null;
+                        });
+            });
+
+    @Test
+    public void testSmallValues() {
+        // Values less than the number of sub-buckets have their own bucket.
+        for (int v = 0; v < 16; v++) {
+            assertEquals(v, LatencyHistogram.index(v));
+            assertEquals(v, LatencyHistogram.highestValue(v));
+        }
+        assertEquals(16, LatencyHistogram.index(16));
+        assertEquals(16, LatencyHistogram.highestValue(16));
+    }
+
+    @Test
+    public void testBucketEdges() {
+        final int last = LatencyHistogram.index(Long.MAX_VALUE);
+        long lowest = 0;
+        for (int i = 0; i <= last; i++) {
+            final long highest = LatencyHistogram.highestValue(i);
+            assertTrue("bucket " + i, highest >= lowest);
+            assertEquals("lowest of bucket " + i, i, LatencyHistogram.index(lowest));
+            assertEquals("highest of bucket " + i, i, LatencyHistogram.index(highest));
+
+            // Relative error less than 1/16.
+            assertTrue("width of bucket " + i, (highest - lowest) * 16 <= Math.max(lowest, 1));
+
+            if (i != last)
+                assertEquals("after bucket " + i, i + 1, LatencyHistogram.index(highest + 1));
+            lowest = highest + 1;
+        }
+        assertEquals(Long.MAX_VALUE, LatencyHistogram.highestValue(last));
+    }
+
+    @Test
+    public void testMaximumValue() {
+        final int last = LatencyHistogram.index(Long.MAX_VALUE);
+        assertEquals((Long.SIZE - 4) * 16 - 1, last);
+        assertEquals(last, LatencyHistogram.index(Long.MAX_VALUE - 1));
+        assertEquals(last, LatencyHistogram.index(31L << 58));
+        assertEquals(last - 1, LatencyHistogram.index((31L << 58) - 1));
+
+        final LatencyHistogram histogram = new LatencyHistogram(metrics);
+        histogram.record(Long.MAX_VALUE);
+        histogram.update();
+        assertEquals(Long.MAX_VALUE, values.get("latencyP50").longValue());
+        assertEquals(Long.MAX_VALUE, values.get("latencyMax").longValue());
+    }
+
+    @Test
+    public void testPercentiles() {
+        final LatencyHistogram histogram = new LatencyHistogram(metrics);
+        for (long v = 1; v <= 1000; v++)
+            histogram.record(v);
+        histogram.record(-5); // counted as zero
+        histogram.update();
+
+        // Highest value of the bucket containing the percentile.
+        assertEquals(511, values.get("latencyP50").longValue());
+        assertEquals(991, values.get("latencyP99").longValue());
+        // Limited to the maximum.
+        assertEquals(1000, values.get("latencyP999").longValue());
+        assertEquals(1000, values.get("latencyMax").longValue());
+
+        // Unchanged when no latencies are recorded.
+        histogram.update();
+        assertEquals(511, values.get("latencyP50").longValue());
+
+        histogram.record(0);
+        histogram.update();
+        assertEquals(0, values.get("latencyP50").longValue());
+        assertEquals(0, values.get("latencyMax").longValue());
+    }
+}
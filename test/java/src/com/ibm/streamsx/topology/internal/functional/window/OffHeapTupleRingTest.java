@@ -0,0 +1,153 @@
+/*
+# Licensed Materials - Property of IBM
+# Copyright IBM Corp. 2026
+ */
+package com.ibm.streamsx.topology.internal.functional.window;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+
+import com.ibm.streams.operator.metrics.Metric;
+import com.ibm.streamsx.topology.spi.runtime.TupleSerializer;
+
+/**
+ * Off-heap memory use of the partitions of a keyed window.
+ */
+public class OffHeapTupleRingTest {
+
+    private final AtomicLong offHeapBytes = new AtomicLong();
+
+    /**
+     * Metric that just tracks the value of {@code windowOffHeapBytes}.
+     */
+    private final Metric metric = (Metric) Proxy.newProxyInstance(
+            Metric.class.getClassLoader(), new Class<?>[] { Metric.class },
+            (proxy, method, args) -> {
+                switch (method.getName()) {
+                case "incrementValue":
+                    offHeapBytes.addAndGet((Long) args[0]);
+                    return null;
+                case "getValue":
+                    return offHeapBytes.get();
+                case "getName":
+                    return "windowOffHeapBytes";
+                default:
+                    throw new UnsupportedOperationException(method.getName());
+                }
+            });
+
+    private OffHeapTupleRing<String> newPartition() {
+        return new OffHeapTupleRing<>(new OffHeapStore(TupleSerializer.JAVA_SERIALIZER, metric));
+    }
+
+    @Test
+    public void testPartitionEvictionFreesMemory() throws Exception {
+        final List<OffHeapTupleRing<String>> partitions = new ArrayList<>();
+        for (int key = 0; key < 50; key++) {
+            OffHeapTupleRing<String> tuples = newPartition();
+            for (int i = 0; i < 1000; i++)
+                tuples.addLast("K" + key + "_" + i);
+            partitions.add(tuples);
+        }
+        assertTrue(metric.getValue() > 0);
+
+        // Evict half the partitions with tuples still in their windows.
+        for (int key = 0; key < 25; key++)
+            partitions.get(key).evicted();
+        for (int key = 25; key < 50; key++)
+            assertEquals("K" + key + "_999", partitions.get(key).get(999));
+
+        for (int key = 25; key < 50; key++)
+            partitions.get(key).evicted();
+        assertEquals(0, metric.getValue());
+    }
+
+    @Test
+    public void testSlowPartitionDoesNotRetainMemory() throws Exception {
+        // A partition that keeps its single tuple while
+        // another partition inserts and evicts many tuples.
+        OffHeapTupleRing<String> slow = newPartition();
+        slow.addLast("slow");
+
+        OffHeapTupleRing<String> fast = newPartition();
+        long maxBytes = 0;
+        for (int i = 0; i < 200_000; i++) {
+            fast.addLast("fast tuple " + i);
+            if (fast.size() > 100)
+                fast.discardFirst();
+            maxBytes = Math.max(maxBytes, metric.getValue());
+        }
+
+        assertEquals("slow", slow.get(0));
+        assertTrue("Off-heap bytes: " + maxBytes,
+                maxBytes <= 4 * OffHeapStore.MIN_SEGMENT_SIZE * 4);
+
+        slow.evicted();
+        fast.evicted();
+        assertEquals(0, metric.getValue());
+    }
+
+    @Test
+    public void testCheckpointRestoresOffHeap() throws Exception {
+        OffHeapTupleRing<String> tuples = newPartition();
+        for (int i = 0; i < 300; i++)
+            tuples.addLast("T" + i);
+        for (int i = 0; i < 100; i++)
+            tuples.discardFirst();
+
+        ByteArrayOutputStream checkpoint = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(checkpoint)) {
+            out.writeObject(tuples);
+        }
+        Object restored;
+        try (ObjectInputStream in = new ObjectInputStream(
+                new ByteArrayInputStream(checkpoint.toByteArray()))) {
+            restored = in.readObject();
+        }
+
+        assertEquals(OffHeapTupleRing.class, restored.getClass());
+        assertNotSame(tuples, restored);
+        @SuppressWarnings("unchecked")
+        OffHeapTupleRing<String> restoredTuples = (OffHeapTupleRing<String>) restored;
+        assertEquals(tuples, restoredTuples);
+        assertEquals(tuples.retainedBytes(), restoredTuples.retainedBytes());
+
+        // The restored partition is independent of the original.
+        restoredTuples.addLast("T300");
+        restoredTuples.discardFirst();
+        assertEquals("T101", restoredTuples.get(0));
+        assertEquals("T100", tuples.get(0));
+
+        restoredTuples.evicted();
+        tuples.evicted();
+        assertEquals(0, metric.getValue());
+    }
+
+    @Test
+    public void testLargeTuple() throws Exception {
+        // Read through bulk reads of the segment.
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 20_000; i++)
+            sb.append((char) ('a' + i % 26));
+        OffHeapTupleRing<String> tuples = newPartition();
+        tuples.addLast("small");
+        tuples.addLast(sb.toString());
+        assertEquals("small", tuples.get(0));
+        assertEquals(sb.toString(), tuples.get(1));
+        assertEquals(sb.toString(), tuples.get(1));
+        tuples.evicted();
+        assertEquals(0, metric.getValue());
+    }
+}
@@ -0,0 +1,233 @@
+/*
+# Licensed Materials - Property of IBM
+# Copyright IBM Corp. 2026
+ */
+package com.ibm.streamsx.topology.internal.tester.tcp;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.lang.reflect.Proxy;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.apache.mina.core.buffer.IoBuffer;
+import org.apache.mina.core.filterchain.IoFilter.NextFilter;
+import org.apache.mina.core.future.DefaultWriteFuture;
+import org.apache.mina.core.future.WriteFuture;
+import org.apache.mina.core.service.DefaultTransportMetadata;
+import org.apache.mina.core.session.DummySession;
+import org.apache.mina.core.session.IoSession;
+import org.apache.mina.core.session.IoSessionConfig;
+import org.apache.mina.filter.codec.AbstractProtocolDecoderOutput;
+import org.apache.mina.filter.codec.ProtocolEncoderOutput;
+import org.junit.Test;
+
+import com.ibm.streams.operator.Tuple;
+import com.ibm.streams.operator.encoding.BinaryEncoding;
+
+/**
+ * Round trip of tuples written by {@link TestTupleBatchWriter}
+ * and read by {@link TestTupleDecoder}.
+ */
+public class TestTupleBatchWriterTest {
+
+    /**
+     * Encoded form of each tuple, a tuple's encoding
+     * is just its bytes. An encoded tuple is never empty
+     * as no bytes is the final marker.
+     */
+    private final Map<Tuple, byte[]> encoded = new IdentityHashMap<>();
+
+    private final BinaryEncoding encoding = (BinaryEncoding) Proxy.newProxyInstance(
+            BinaryEncoding.class.getClassLoader(), new Class<?>[] { BinaryEncoding.class },
+            (proxy, method, args) -> {
+                switch (method.getName()) {
+                case "getEncodedSize":
+                    return (long) encoded.get(args[0]).length;
+                case "encodeTuple":
+                    ((ByteBuffer) args[1]).put(encoded.get(args[0]));
+                    return null;
+                default:
+                    throw new UnsupportedOperationException(method.getName());
+                }
+            });
+
+    /**
+     * Client that appends everything written to it
+     * to a single byte stream, as it would be seen by the server.
+     */
+    private static class CapturingClient extends TCPTestClient {
+        final ByteArrayOutputStream wire = new ByteArrayOutputStream();
+        private final IoSession session = new DummySession();
+
+        CapturingClient() {
+            super(new InetSocketAddress(0));
+        }
+
+        @Override
+        public synchronized WriteFuture writeTuple(Object msg) throws InterruptedException {
+            try {
+                if (msg instanceof TestTuple)
+                    new TestTupleEncoder().encode(session, msg, new ProtocolEncoderOutput() {
+                        @Override
+                        public void write(Object encodedMessage) {
+                            capture((IoBuffer) encodedMessage);
+                        }
+                        @Override
+                        public void mergeAll() {
+                        }
+                        @Override
+                        public WriteFuture flush() {
+                            return null;
+                        }
+                    });
+                else
+                    capture((IoBuffer) msg);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+            return DefaultWriteFuture.newWrittenFuture(session);
+        }
+
+        private void capture(IoBuffer buffer) {
+            // Not using a derived buffer as
+            // the writer expands its frames.
+            wire.write(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+        }
+
+        @Override
+        public synchronized void close() {
+        }
+    }
+
+    private Tuple tuple(byte[] data) {
+        Tuple tuple = (Tuple) Proxy.newProxyInstance(
+                Tuple.class.getClassLoader(), new Class<?>[] { Tuple.class },
+                (proxy, method, args) -> {
+                    throw new UnsupportedOperationException(method.getName());
+                });
+        encoded.put(tuple, data);
+        return tuple;
+    }
+
+    private static byte[] data(int port, int seq, int length) {
+        byte[] data = new byte[length];
+        for (int i = 0; i < length; i++)
+            data[i] = (byte) (port * 31 + seq + i);
+        return data;
+    }
+
+    /**
+     * Decode the bytes on the wire handing them to the
+     * decoder in chunks of random sizes, so that frames
+     * and tuples are split across reads.
+     */
+    private static List<TestTuple> decode(byte[] wire, Random rand, int maxChunk) throws Exception {
+        DummySession session = new DummySession();
+        session.setTransportMetadata(new DefaultTransportMetadata("mina", "dummy",
+                false, true, SocketAddress.class, IoSessionConfig.class, Object.class));
+
+        TestTupleDecoder decoder = new TestTupleDecoder();
+        AbstractProtocolDecoderOutput out = new AbstractProtocolDecoderOutput() {
+            @Override
+            public void flush(NextFilter nextFilter, IoSession session) {
+            }
+        };
+
+        int offset = 0;
+        while (offset < wire.length) {
+            int chunk = Math.min(1 + rand.nextInt(maxChunk), wire.length - offset);
+            decoder.decode(session, IoBuffer.wrap(wire, offset, chunk), out);
+            offset += chunk;
+        }
+
+        List<TestTuple> tuples = new ArrayList<>();
+        for (Object msg : out.getMessageQueue())
+            tuples.add((TestTuple) msg);
+        return tuples;
+    }
+
+    /**
+     * Write tuples on two ports sharing a connection, leaving
+     * frames pending on both ports when the final markers are written,
+     * as {@code TesterSink} does.
+     */
+    private void roundTrip(int maxChunk) throws Exception {
+        final CapturingClient client = new CapturingClient();
+        final TestTupleBatchWriter[] writers = {
+                new TestTupleBatchWriter(client, 0, encoding),
+                new TestTupleBatchWriter(client, 1, encoding) };
+
+        @SuppressWarnings("unchecked")
+        final List<byte[]>[] expected = new List[] { new ArrayList<>(), new ArrayList<>() };
+
+        // Enough tuples for more frames than may be in flight
+        // on each port, including tuples larger than a frame.
+        int seq = 0;
+        for (int i = 0; i < 3000; i++) {
+            int port = i % 2;
+            int length = i % 1000 == 999 ? TestTupleBatchWriter.FRAME_SIZE * 2 + 17 : 1 + i % 200;
+            byte[] data = data(port, seq++, length);
+            writers[port].write(tuple(data));
+            expected[port].add(data);
+            if (i % 700 == 0)
+                writers[port].flush();
+        }
+
+        // Port 0 completes while frames for both ports are pending.
+        writers[0].drain();
+        client.writeTuple(new TestTuple(0, new byte[0])).await();
+
+        for (int i = 0; i < 10; i++) {
+            byte[] data = data(1, seq++, 1 + i);
+            writers[1].write(tuple(data));
+            expected[1].add(data);
+        }
+        writers[1].drain();
+        client.writeTuple(new TestTuple(1, new byte[0])).await();
+
+        final List<TestTuple> decoded = decode(client.wire.toByteArray(), new Random(maxChunk), maxChunk);
+
+        for (int port = 0; port < 2; port++) {
+            List<byte[]> received = new ArrayList<>();
+            boolean finalMarker = false;
+            for (TestTuple tuple : decoded) {
+                if (tuple.getTesterId() != port)
+                    continue;
+                assertTrue("Tuple after final marker on port " + port, !finalMarker);
+                if (tuple.getTupleBuffer().remaining() == 0)
+                    finalMarker = true;
+                else
+                    received.add(tuple.getTupleData());
+            }
+            assertTrue("Final marker on port " + port, finalMarker);
+            assertEquals(expected[port].size(), received.size());
+            for (int i = 0; i < received.size(); i++)
+                assertArrayEquals("port " + port + " tuple " + i, expected[port].get(i), received.get(i));
+        }
+    }
+
+    @Test
+    public void testRoundTripSingleReads() throws Exception {
+        roundTrip(Integer.MAX_VALUE);
+    }
+
+    @Test
+    public void testRoundTripSplitReads() throws Exception {
+        roundTrip(1500);
+    }
+
+    @Test
+    public void testRoundTripSmallReads() throws Exception {
+        roundTrip(7);
+    }
+}
@@ -18,6 +18,7 @@ import org.junit.Test;
 import com.ibm.streamsx.topology.TStream;
 import com.ibm.streamsx.topology.Topology;
 import com.ibm.streamsx.topology.function.Function;
+import com.ibm.streamsx.topology.function.UnaryOperator;
 import com.ibm.streamsx.topology.streams.CollectionStreams;
 import com.ibm.streamsx.topology.streams.StringStreams;
 import com.ibm.streamsx.topology.test.TestTopology;
@@ -38,6 +39,35 @@ public class CollectionTupleTest extends TestTopology {
         completeAndValidate(words, 10,  "mary", "had", "a", "little", "lamb", "its", "fleece", "was", "white", "as", "snow");
     }
     
+    /**
+     * Modify tuples in place, each modify returns the
+     * object it was passed so may forward its input tuple.
+     */
+    @Test
+    public void testModifyInPlace() throws Exception {
+        completeAndValidate(_testModifyInPlace(), 10,
+                "[MARY, had, a, little, lamb!]", "[ITS, fleece, was, white, as, snow!]");
+    }
+    
+    private static TStream<String> _testModifyInPlace() throws Exception {
+        TStream<List<String>> words = _listSource();
+        
+        words = words.modify(new UnaryOperator<List<String>>() {
+            @Override
+            public List<String> apply(List<String> v) {
+                v.set(0, v.get(0).toUpperCase());
+                return v;
+            }});
+        words = words.modify(new UnaryOperator<List<String>>() {
+            @Override
+            public List<String> apply(List<String> v) {
+                v.set(v.size() - 1, v.get(v.size() - 1) + "!");
+                return v;
+            }});
+        
+        return StringStreams.toString(words);
+    }
+    
     private static TStream<List<String>> _listSource() throws Exception {
         final Topology topology = newTopology();
         TStream<String> source = topology.strings("mary had a little lamb", "its fleece was white as snow");
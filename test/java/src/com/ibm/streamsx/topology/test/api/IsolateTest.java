@@ -8,6 +8,7 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assume.assumeTrue;
 
+import java.io.Serializable;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
@@ -56,6 +57,64 @@ public class IsolateTest extends TestTopology {
         assertTrue(uniqueCount.valid());
     }
     
+    /**
+     * Java object tuples from another PE are forwarded by
+     * filter and split holding their serialized form.
+     */
+    @Test
+    public void testForwardedObjectIsolation() throws Exception {
+        assumeTrue(SC_OK);
+        assumeTrue(isDistributedOrService());
+        
+        Topology topology = newTopology("forwardedObjectIsolationTest");
+
+        TStream<Integer> ints = topology.constants(Arrays.asList(1, 2, 3, 4, 5, 6)).isolate();
+        TStream<Integer> odd = ints.filter(v -> v % 2 == 1);
+        List<TStream<Integer>> split = odd.split(2, v -> v == 3 ? 0 : 1);
+        TStream<String> ss = split.get(1).isolate().transform(String::valueOf);
+
+        Tester tester = topology.getTester();
+        Condition<List<String>> contents = tester.stringContents(ss, "1", "5");
+        
+        complete(topology.getTester(), contents, 20, TimeUnit.SECONDS);
+        
+        assertTrue(contents.valid());
+    }
+    
+    /**
+     * A value modified in place after a filter forwarded
+     * its tuple from another PE must be sent to the next
+     * PE with the modification.
+     */
+    @Test
+    public void testModifiedForwardedObjectIsolation() throws Exception {
+        assumeTrue(SC_OK);
+        assumeTrue(isDistributedOrService());
+        
+        Topology topology = newTopology("modifiedForwardedObjectIsolationTest");
+
+        TStream<MutableValue> values = topology.constants(Arrays.asList(1, 2, 3, 4))
+                .transform(MutableValue::new).isolate();
+        TStream<MutableValue> even = values.filter(v -> v.value % 2 == 0);
+        TStream<MutableValue> modified = even.modify(v -> {v.value *= 10; return v;});
+        TStream<String> ss = modified.isolate().transform(v -> String.valueOf(v.value));
+
+        Tester tester = topology.getTester();
+        Condition<List<String>> contents = tester.stringContents(ss, "20", "40");
+        
+        complete(topology.getTester(), contents, 20, TimeUnit.SECONDS);
+        
+        assertTrue(contents.valid());
+    }
+    
+    public static class MutableValue implements Serializable {
+        private static final long serialVersionUID = 1L;
+        int value;
+        MutableValue(int value) {
+            this.value = value;
+        }
+    }
+    
     @Test
     public void isolateIsEndOfStreamTest() throws Exception {
         assumeTrue(SC_OK);
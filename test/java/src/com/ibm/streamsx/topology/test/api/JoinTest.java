@@ -84,6 +84,56 @@ public class JoinTest extends TestTopology {
         });        
     }
 
+    @Test
+    public void testIndexedJoin() throws Exception {
+        final Topology t = newTopology();
+        TStream<String> strings = t.strings("a1", "b2", "a3", "c4", "a5", "b6");
+        
+        // a1 and b2 are evicted from the window and its index
+        TWindow<String,?> window = strings.last(4);
+        
+        TStream<String> main = t.strings("x", "a", "b", "z");
+        main = main.throttle(1, TimeUnit.SECONDS);
+        
+        TStream<List<String>> joined = _indexedJoinTest(main, window);
+        TStream<String> asString = StringStreams.toString(joined);
+        
+        completeAndValidate(asString, 12, "[a3-a, a5-a]", "[b6-b]", "[empty-z]");
+    }
+    
+    private static TStream<List<String>> _indexedJoinTest(TStream<String> main, TWindow<String,?> window) {
+        
+        return main.join(v -> v, window, v -> v.substring(0, 1),
+                new BiFunction<String, List<String>, List<String>>() {
+                    private static final long serialVersionUID = 1L;
+
+                    @Override
+                    public List<String> apply(String v1, List<String> v2) {
+                        // Skip the first value to ensure the window contents are stable.
+                        if ("x".equals(v1))
+                            return null;
+                        
+                        if (v2.isEmpty())
+                            return Collections.singletonList("empty-" + v1);
+                        
+                        List<String> tuple = new ArrayList<>();
+                        for (String s : v2)
+                            tuple.add(s + "-" + v1);
+                        return tuple;
+                    }
+                });
+    }
+    
+    @Test(expected=IllegalArgumentException.class)
+    public void testIndexedJoinKeyedWindow() throws Exception {
+        final Topology t = newTopology();
+        TWindow<String,String> window = t.strings("a1").last(4).key();
+        
+        TStream<String> main = t.strings("a");
+        main.join(v -> v, window, v -> v.substring(0, 1),
+                (String v1, List<String> v2) -> v1);
+    }
+
     @Test
     public void testJoinLast() throws Exception {
         final Topology t = newTopology();
@@ -207,6 +257,32 @@ public class JoinTest extends TestTopology {
         completeAndValidate(asString, 25, "a3", "b1", "c2", "empty");
     }
 
+    /**
+     * Only the two most recently updated keys are held.
+     */
+    @Test
+    public void testBoundedKeyedJoinLast() throws Exception {
+        final Topology t = newTopology();
+        TStream<String> strings = t.strings("a1", "b1", "c1", "a2", "a3", "c2");
+
+        TStream<String> main = delayedList(t, "a", "b", "c", "d");
+
+        TStream<String> joined = main.joinLast(v -> v, strings, v -> v.substring(0, 1),
+                (String v1, String v2) -> v2 == null ? "empty" : v2,
+                2, 0, TimeUnit.SECONDS);
+
+        completeAndValidate(joined, 25, "a3", "empty", "c2", "empty");
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void testNegativeJoinLastBound() throws Exception {
+        final Topology t = newTopology();
+        TStream<String> strings = t.strings("a1");
+        TStream<String> main = t.strings("a");
+        main.joinLast(v -> v, strings, v -> v.substring(0, 1),
+                (String v1, String v2) -> v1, -1, 0, TimeUnit.SECONDS);
+    }
+
     @SuppressWarnings("serial")
     private static TStream<String> _testKeyedJoinLast(TStream<String> main, TStream<String> strings) {
         
@@ -24,6 +24,8 @@ import java.util.concurrent.TimeUnit;
 
 import org.junit.Test;
 
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
 import com.ibm.streams.operator.OperatorContext;
 import com.ibm.streams.operator.OutputTuple;
 import com.ibm.streams.operator.PERuntime;
@@ -35,6 +37,7 @@ import com.ibm.streamsx.topology.Topology;
 import com.ibm.streamsx.topology.context.ContextProperties;
 import com.ibm.streamsx.topology.context.StreamsContext;
 import com.ibm.streamsx.topology.function.BiFunction;
+import com.ibm.streamsx.topology.function.Consumer;
 import com.ibm.streamsx.topology.function.Function;
 import com.ibm.streamsx.topology.function.FunctionContext;
 import com.ibm.streamsx.topology.function.Initializable;
@@ -42,6 +45,7 @@ import com.ibm.streamsx.topology.function.Predicate;
 import com.ibm.streamsx.topology.function.Supplier;
 import com.ibm.streamsx.topology.function.ToIntFunction;
 import com.ibm.streamsx.topology.function.UnaryOperator;
+import com.ibm.streamsx.topology.generator.spl.SPLGenerator;
 import com.ibm.streamsx.topology.logic.Value;
 import com.ibm.streamsx.topology.spl.SPL;
 import com.ibm.streamsx.topology.spl.SPLStream;
@@ -609,6 +613,17 @@ public class ParallelTest extends TestTopology {
                 getTesterType() == StreamsContext.Type.STREAMING_ANALYTICS_SERVICE_TESTER);
     }
     
+    /**
+     * Number of HashRemover operators in the SPL generated for the topology.
+     */
+    private static int hashRemoverCount(Topology topology) throws Exception {
+        // Generate from a copy as generation modifies the graph.
+        JsonObject graph = new JsonParser().parse(
+                topology.builder()._complete().toString()).getAsJsonObject();
+        String spl = new SPLGenerator().generateSPL(graph);
+        return spl.split("::HashRemover", -1).length - 1;
+    }
+    
     @Test
     public void testParallelPartitioned() throws Exception {
         
@@ -623,6 +638,124 @@ public class ParallelTest extends TestTopology {
         TStream<ChannelAndSequence> cs = pb.transform(channelSeqTransformer());
         TStream<ChannelAndSequence> joined = cs.endParallel();
 
+        TStream<String> valid_count = joined.transform(partitionCounter(count));
+        
+        // Map accepts the tuple with the hash.
+        assertEquals(0, hashRemoverCount(topology));
+
+        Tester tester = topology.getTester();
+        Condition<Long> expectedCount = tester.tupleCount(valid_count, 1);
+        Condition<List<String>> validCount = tester.stringContents(valid_count, "5");
+        
+        complete(tester, allConditions(expectedCount, validCount), 10, TimeUnit.SECONDS);
+
+         assertTrue(expectedCount.valid());
+         assertTrue(validCount.valid());
+    }
+    
+    /**
+     * Partitioned region starting with a filter, which
+     * forwards its input tuple so requires the HashRemover.
+     */
+    @Test
+    public void testParallelPartitionedFilter() throws Exception {
+        
+        checkUdpSupported();
+               
+        Topology topology = newTopology("testParallelPartitionFilter");
+        final int count = new Random().nextInt(10) + 37;
+
+        TStream<BeaconTuple> kb = topology.source(
+                keyableBeacon5Counter(count));
+        TStream<BeaconTuple> pb = kb.parallel(new Value<Integer>(5), keyBeacon());
+        TStream<BeaconTuple> fb = pb.filter(new AllowAll<BeaconTuple>());
+        TStream<ChannelAndSequence> cs = fb.transform(channelSeqTransformer());
+        TStream<ChannelAndSequence> joined = cs.endParallel();
+
+        TStream<String> valid_count = joined.transform(partitionCounter(count));
+        
+        assertEquals(1, hashRemoverCount(topology));
+
+        Tester tester = topology.getTester();
+        Condition<Long> expectedCount = tester.tupleCount(valid_count, 1);
+        Condition<List<String>> validCount = tester.stringContents(valid_count, "5");
+        
+        complete(tester, allConditions(expectedCount, validCount), 10, TimeUnit.SECONDS);
+
+         assertTrue(expectedCount.valid());
+         assertTrue(validCount.valid());
+    }
+    
+    /**
+     * Partitioned region starting with a ForEach and a FlatMap
+     * that both read the region's input, neither requires the HashRemover.
+     */
+    @Test
+    public void testParallelPartitionedForEachFlatMap() throws Exception {
+        
+        checkUdpSupported();
+               
+        Topology topology = newTopology("testParallelPartitionForEachFlatMap");
+        final int count = new Random().nextInt(10) + 37;
+
+        TStream<BeaconTuple> kb = topology.source(
+                keyableBeacon5Counter(count));
+        TStream<BeaconTuple> pb = kb.parallel(new Value<Integer>(5), keyBeacon());
+        pb.forEach(validBeacon(count));
+        TStream<ChannelAndSequence> cs = pb.multiTransform(channelSeqListTransformer());
+        TStream<ChannelAndSequence> joined = cs.endParallel();
+
+        TStream<String> valid_count = joined.transform(partitionCounter(count));
+        
+        assertEquals(0, hashRemoverCount(topology));
+
+        Tester tester = topology.getTester();
+        Condition<Long> expectedCount = tester.tupleCount(valid_count, 1);
+        Condition<List<String>> validCount = tester.stringContents(valid_count, "5");
+        
+        complete(tester, allConditions(expectedCount, validCount), 10, TimeUnit.SECONDS);
+
+         assertTrue(expectedCount.valid());
+         assertTrue(validCount.valid());
+    }
+    
+    /**
+     * Fails the job if a tuple does not have a sequence from
+     * {@link #keyableBeacon5Counter(int)} or a sequence
+     * is seen more than five times.
+     */
+    @SuppressWarnings("serial")
+    static Consumer<BeaconTuple> validBeacon(final int count) {
+        return new Consumer<BeaconTuple>() {
+            final Map<Long, Integer> seen = new HashMap<>();
+            
+            @Override
+            public void accept(BeaconTuple v) {
+                long seq = v.getSequence();
+                if (seq < 0 || seq >= count)
+                    throw new IllegalStateException("Invalid sequence " + seq);
+                Integer n = seen.merge(seq, 1, Integer::sum);
+                if (n > 5)
+                    throw new IllegalStateException("Sequence " + seq + " seen " + n + " times");
+            }
+        };
+    }
+    
+    @Test
+    public void testParallelConsistentHashPartitioned() throws Exception {
+        
+        checkUdpSupported();
+               
+        Topology topology = newTopology("testParallelConsistentHash");
+        final int count = new Random().nextInt(10) + 37;
+
+        TStream<BeaconTuple> kb = topology.source(
+                keyableBeacon5Counter(count));
+        TStream<BeaconTuple> pb = kb.parallel(new Value<Integer>(5), keyBeacon(),
+                Routing.CONSISTENT_HASH_PARTITIONED);
+        TStream<ChannelAndSequence> cs = pb.transform(channelSeqTransformer());
+        TStream<ChannelAndSequence> joined = cs.endParallel();
+
         TStream<String> valid_count = joined.transform(partitionCounter(count));
 
         Tester tester = topology.getTester();
@@ -635,6 +768,114 @@ public class ParallelTest extends TestTopology {
          assertTrue(validCount.valid());
     }
     
+    /**
+     * Hot key routing with the partial counts per channel
+     * merged after the parallel region.
+     */
+    @Test
+    public void testParallelHotKeyPartitioned() throws Exception {
+        
+        checkUdpSupported();
+               
+        Topology topology = newTopology("testParallelHotKey");
+        final int count = 4000;
+
+        // Three quarters of the tuples have the sequence zero.
+        TStream<BeaconTuple> kb = BeaconStreams.beacon(topology, count)
+                .transform(b -> new BeaconTuple((b.getSequence() % 4) == 0 ? b.getSequence() : 0));
+        TStream<BeaconTuple> pb = kb.parallel(of(4), keyBeacon(),
+                Routing.HOT_KEY_PARTITIONED);
+        TStream<ChannelAndSequence> cs = pb.transform(channelSeqTransformer());
+        TStream<ChannelAndSequence> joined = cs.endParallel();
+
+        TStream<String> hot = joined.transform(new Function<ChannelAndSequence, String>() {
+            private static final long serialVersionUID = 1L;
+            final Set<Integer> channels = new HashSet<>();
+            int hotCount;
+            int total;
+
+            @Override
+            public String apply(ChannelAndSequence v) {
+                if (v.getSequence() == 0) {
+                    hotCount++;
+                    channels.add(v.getChannel());
+                }
+                if (++total == count)
+                    return hotCount + ":" + (channels.size() > 1);
+                return null;
+            }
+        });
+
+        Tester tester = topology.getTester();
+        Condition<Long> expectedCount = tester.tupleCount(hot, 1);
+        Condition<List<String>> hotContents = tester.stringContents(hot, "3001:true");
+        
+        complete(tester, allConditions(expectedCount, hotContents), 20, TimeUnit.SECONDS);
+
+         assertTrue(expectedCount.valid());
+         assertTrue(hotContents.valid());
+    }
+    
+    /**
+     * Hot key routing of the union of multiple sources,
+     * so that the key counts are updated from multiple threads.
+     */
+    @Test
+    public void testParallelHotKeyPartitionedUnion() throws Exception {
+        
+        checkUdpSupported();
+               
+        Topology topology = newTopology("testParallelHotKeyUnion");
+        final int sources = 4;
+        final int count = 4000;
+
+        // Three quarters of each source's tuples have the sequence zero.
+        List<TStream<BeaconTuple>> beacons = new ArrayList<>();
+        for (int i = 0; i < sources; i++)
+            beacons.add(BeaconStreams.beacon(topology, count)
+                .transform(b -> new BeaconTuple((b.getSequence() % 4) == 0 ? b.getSequence() : 0)));
+        TStream<BeaconTuple> kb = beacons.get(0).union(new HashSet<>(beacons.subList(1, sources)));
+        TStream<BeaconTuple> pb = kb.parallel(of(4), keyBeacon(),
+                Routing.HOT_KEY_PARTITIONED);
+        TStream<ChannelAndSequence> cs = pb.transform(channelSeqTransformer());
+        TStream<ChannelAndSequence> joined = cs.endParallel();
+
+        TStream<String> hot = joined.transform(new Function<ChannelAndSequence, String>() {
+            private static final long serialVersionUID = 1L;
+            final Set<Integer> channels = new HashSet<>();
+            int hotCount;
+            int total;
+
+            @Override
+            public String apply(ChannelAndSequence v) {
+                if (v.getSequence() == 0) {
+                    hotCount++;
+                    channels.add(v.getChannel());
+                }
+                if (++total == sources * count)
+                    return hotCount + ":" + (channels.size() > 1);
+                return null;
+            }
+        });
+
+        Tester tester = topology.getTester();
+        Condition<Long> expectedCount = tester.tupleCount(hot, 1);
+        Condition<List<String>> hotContents = tester.stringContents(hot, (sources * 3001) + ":true");
+        
+        complete(tester, allConditions(expectedCount, hotContents), 20, TimeUnit.SECONDS);
+
+         assertTrue(expectedCount.valid());
+         assertTrue(hotContents.valid());
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void testParallelKeyerNotKeyedRouting() throws Exception {
+        assumeTrue(isMainRun());
+        Topology topology = newTopology();
+        TStream<BeaconTuple> kb = topology.source(keyableBeacon5Counter(5));
+        kb.parallel(of(3), keyBeacon(), Routing.ROUND_ROBIN);
+    }
+    
     static Function<BeaconTuple, Long> keyBeacon() {
         
         return new Function<BeaconTuple,Long>() {
@@ -810,6 +1051,16 @@ public class ParallelTest extends TestTopology {
         };
     }
     
+    @SuppressWarnings("serial")
+    static Function<BeaconTuple, Iterable<ChannelAndSequence>> channelSeqListTransformer() {
+        return new ChannelGetter<BeaconTuple, Iterable<ChannelAndSequence>>() {
+            @Override
+            public Iterable<ChannelAndSequence> apply(BeaconTuple v) {
+                return Collections.singletonList(new ChannelAndSequence(channel, (int) v.getSequence()));
+            }
+        };
+    }
+    
     @SuppressWarnings("serial")
     static Function<String, ChannelAndSequence> stringTupleChannelSeqTransformer() {
         return new ChannelGetter<String, ChannelAndSequence>() {
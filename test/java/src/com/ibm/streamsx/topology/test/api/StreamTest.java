@@ -24,8 +24,12 @@ import java.util.concurrent.TimeUnit;
 
 import org.junit.Test;
 
+import com.ibm.streams.operator.PERuntime;
+import com.ibm.streams.operator.metrics.Metric;
 import com.ibm.streamsx.topology.TStream;
 import com.ibm.streamsx.topology.Topology;
+import com.ibm.streamsx.topology.builder.BOperator;
+import com.ibm.streamsx.topology.builder.BOperatorInvocation;
 import com.ibm.streamsx.topology.context.StreamsContext.Type;
 import com.ibm.streamsx.topology.function.Function;
 import com.ibm.streamsx.topology.function.FunctionContainer;
@@ -34,6 +38,8 @@ import com.ibm.streamsx.topology.function.Initializable;
 import com.ibm.streamsx.topology.function.Predicate;
 import com.ibm.streamsx.topology.function.ToIntFunction;
 import com.ibm.streamsx.topology.function.UnaryOperator;
+import com.ibm.streamsx.topology.internal.core.JavaFunctionalOps;
+import com.ibm.streamsx.topology.internal.functional.FunctionalOpProperties;
 import com.ibm.streamsx.topology.streams.BeaconStreams;
 import com.ibm.streamsx.topology.streams.CollectionStreams;
 import com.ibm.streamsx.topology.streams.StringStreams;
@@ -411,6 +417,203 @@ public class StreamTest extends TestTopology {
         complete(tester, spCount, 20, TimeUnit.SECONDS);
     }
     
+    @Test
+    public void testLatencyMetrics() throws Exception {
+
+        final Topology topo = new Topology();
+        
+        TStream<String> strings = topo.strings("a", "b", "c");
+        TStream<String> upper = strings.transform(String::toUpperCase).latencyMetrics();
+        TStream<String> filtered = upper.filter(new AllowAll<String>()).latencyMetrics();
+        filtered.forEach(tuple -> {}).latencyMetrics();
+        
+        // Tuples over a few seconds so the metrics are updated,
+        // each reporting if its operator's metrics are populated.
+        TStream<String> populated = topo.periodicSource(() -> "L", 50, TimeUnit.MILLISECONDS)
+                .transform(new LatencyMetricValues()).latencyMetrics()
+                .filter(v -> "populated".equals(v));
+        
+        Tester tester = topo.getTester();
+        Condition<List<String>> contents = tester.stringContents(filtered, "A", "B", "C");
+        Condition<Long> populatedCount = tester.atLeastTupleCount(populated, 1);
+        complete(tester, allConditions(contents, populatedCount), 20, TimeUnit.SECONDS);
+        assertTrue(contents.valid());
+        assertTrue(populatedCount.valid());
+    }
+    
+    /**
+     * Checks the latency metrics of the operator calling it,
+     * each call takes at least one millisecond, so once updated
+     * every metric is at least one millisecond.
+     */
+    @SuppressWarnings("serial")
+    static final class LatencyMetricValues implements Function<String, String> {
+        @Override
+        public String apply(String v) {
+            try {
+                Thread.sleep(1);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            final Map<String, Metric> metrics = PERuntime.getCurrentContext()
+                    .getMetrics().getCustomMetrics();
+            for (String name : new String[] {"latencyP50", "latencyP99", "latencyP999", "latencyMax"}) {
+                final Metric metric = metrics.get(name);
+                if (metric == null)
+                    return "missing " + name;
+                if (metric.getValue() < TimeUnit.MILLISECONDS.toNanos(1))
+                    return "unpopulated";
+            }
+            return "populated";
+        }
+    }
+
+    @Test(expected=IllegalStateException.class)
+    public void testLatencyMetricsNotFunctional() throws Exception {
+        assumeTrue(isMainRun());
+
+        final Topology topo = new Topology();
+        topo.strings("a", "b", "c").latencyMetrics();
+    }
+
+    @Test
+    public void testTraceLatency() throws Exception {
+
+        final Topology topo = new Topology();
+        
+        TStream<Integer> source = topo.constants(Arrays.asList(1, 2, 3, 4)).traceLatency(0.5);
+        TStream<String> strings = source.transform(String::valueOf);
+        TStream<String> filtered = strings.filter(new AllowAll<String>());
+        filtered.forEach(tuple -> {});
+        
+        Tester tester = topo.getTester();
+        Condition<List<String>> contents = tester.stringContents(filtered, "1", "2", "3", "4");
+        complete(tester, contents, 20, TimeUnit.SECONDS);
+        assertTrue(contents.valid());
+        
+        // The finalized graph samples the source and traces
+        // the operators that record latencies.
+        int traced = 0;
+        for (BOperator op : topo.builder().getOps()) {
+            if (!(op instanceof BOperatorInvocation))
+                continue;
+            final BOperatorInvocation bop = (BOperatorInvocation) op;
+            switch (bop.kind()) {
+            case JavaFunctionalOps.SOURCE_KIND:
+                assertEquals(0.5, bop.getRawParameter(
+                        FunctionalOpProperties.LATENCY_TRACE_FRACTION_PARAM).get("value").getAsDouble(), 0.0);
+                break;
+            case JavaFunctionalOps.MAP_KIND:
+            case JavaFunctionalOps.FILTER_KIND:
+            case JavaFunctionalOps.FOR_EACH_KIND:
+                assertTrue(bop.kind(), bop.getRawParameter(
+                        FunctionalOpProperties.LATENCY_TRACE_PARAM).get("value").getAsBoolean());
+                traced++;
+                break;
+            default:
+                break;
+            }
+        }
+        assertTrue(traced >= 3);
+    }
+
+    @Test(expected=IllegalStateException.class)
+    public void testTraceLatencyNotSource() throws Exception {
+        assumeTrue(isMainRun());
+
+        final Topology topo = new Topology();
+        topo.strings("a", "b", "c").filter(new AllowAll<String>()).traceLatency(1.0);
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void testTraceLatencyFraction() throws Exception {
+        assumeTrue(isMainRun());
+
+        final Topology topo = new Topology();
+        topo.strings("a", "b", "c").traceLatency(0.0);
+    }
+    
+    @Test
+    public void testThrottleRate() throws Exception {
+
+        final Topology topo = new Topology();
+        
+        final int n = 300;
+        List<Integer> values = new ArrayList<>();
+        for (int i = 0; i < n; i++)
+            values.add(i);
+        TStream<Integer> throttled = topo.constants(values).throttle(1000.0, 10, false);
+        
+        // After the burst of 10 the remaining tuples are
+        // submitted one per millisecond.
+        TStream<String> elapsed = throttled.transform(new ElapsedMillis<Integer>(n));
+        
+        Tester tester = topo.getTester();
+        Condition<Long> count = tester.tupleCount(throttled, n);
+        Condition<String> minElapsed = tester.stringTupleTester(elapsed,
+                ms -> Long.valueOf(ms) >= (n - 10) * 80 / 100);
+        Condition<Long> elapsedCount = tester.tupleCount(elapsed, 1);
+        complete(tester, allConditions(count, elapsedCount), 20, TimeUnit.SECONDS);
+        assertTrue(count.valid());
+        assertTrue(elapsedCount.valid());
+        assertTrue(minElapsed.toString(), minElapsed.valid());
+    }
+    
+    /**
+     * Milliseconds between the first and the last of {@code n} tuples.
+     */
+    @SuppressWarnings("serial")
+    static final class ElapsedMillis<T> implements Function<T, String> {
+        private final int n;
+        private long first;
+        private int count;
+        
+        ElapsedMillis(int n) {
+            this.n = n;
+        }
+        
+        @Override
+        public String apply(T v) {
+            final long now = System.nanoTime();
+            if (count++ == 0)
+                first = now;
+            if (count == n)
+                return String.valueOf(TimeUnit.NANOSECONDS.toMillis(now - first));
+            return null;
+        }
+    }
+
+    @Test
+    public void testThrottleRateDrop() throws Exception {
+
+        final Topology topo = new Topology();
+        
+        List<Integer> values = new ArrayList<>();
+        for (int i = 0; i < 1000; i++)
+            values.add(i);
+        // Only the burst can be submitted before the source completes.
+        TStream<Integer> source = topo.constants(values);
+        TStream<Integer> throttled = source.throttle(0.1, 5, true);
+        
+        Tester tester = topo.getTester();
+        Condition<Long> sourceCount = tester.tupleCount(source, 1000);
+        Condition<Long> count = tester.atLeastTupleCount(throttled, 5);
+        complete(tester, allConditions(sourceCount, count), 20, TimeUnit.SECONDS);
+        assertTrue(sourceCount.valid());
+        assertTrue(count.valid());
+        // A token is added every ten seconds, allow one
+        // for a slow source.
+        assertTrue(count.toString(), count.getResult() <= 6);
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void testThrottleRateBurst() throws Exception {
+        assumeTrue(isMainRun());
+
+        final Topology topo = new Topology();
+        topo.strings("a", "b", "c").throttle(100.0, 0, false);
+    }
+    
     public static class CreateMetricTester<T> implements UnaryOperator<T>, Initializable {
         private static final long serialVersionUID = 1L;
 
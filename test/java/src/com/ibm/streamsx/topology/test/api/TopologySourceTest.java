@@ -18,6 +18,7 @@ import org.junit.Test;
 
 import com.ibm.streamsx.topology.TStream;
 import com.ibm.streamsx.topology.Topology;
+import com.ibm.streamsx.topology.function.BatchSupplier;
 import com.ibm.streamsx.topology.function.Function;
 import com.ibm.streamsx.topology.function.Predicate;
 import com.ibm.streamsx.topology.function.Supplier;
@@ -95,6 +96,38 @@ public class TopologySourceTest extends TestTopology {
         }
     }
     
+    @Test
+    public void testBatchSource() throws Exception {
+        Topology topology = newTopology("testBatchSource");
+
+        TStream<String> ts = topology.batchSource(new BatchSource(7));
+
+        Condition<List<String>> c = topology.getTester().stringContents(ts,
+                "C0", "C1", "C2", "C4", "C5", "C6");
+
+        complete(topology.getTester(), c, 10, TimeUnit.SECONDS);
+
+        assertTrue(c.toString(), c.valid());
+    }
+
+    private static class BatchSource implements BatchSupplier<String> {
+        private static final long serialVersionUID = 1L;
+        private final int count;
+        private transient int i;
+
+        BatchSource(int count) {
+            this.count = count;
+        }
+
+        @Override
+        public boolean fill(List<String> batch, int size) {
+            // Batches of two, with a null value that is ignored.
+            for (int j = 0; j < 2 && i < count; j++, i++)
+                batch.add(i == 3 ? null : "C" + i);
+            return i < count;
+        }
+    }
+
     @Test
     public void testPeriodicSource() throws Exception {
         
@@ -23,6 +23,7 @@ import com.ibm.streamsx.topology.TStream;
 import com.ibm.streamsx.topology.TWindow;
 import com.ibm.streamsx.topology.Topology;
 import com.ibm.streamsx.topology.function.Function;
+import com.ibm.streamsx.topology.function.IncrementalAggregator;
 import com.ibm.streamsx.topology.function.Predicate;
 import com.ibm.streamsx.topology.function.Supplier;
 import com.ibm.streamsx.topology.json.JSONStreams;
@@ -142,6 +143,142 @@ public class WindowTest extends TestTopology {
         completeAndValidate(aggregate, 10, "1", "3", "6", "9", "12", "15", "18");
     }
     
+    @Test
+    public void testCountSample() throws Exception {
+        final Topology f = newTopology("CountSample");
+        TStream<Number> source = f.numbers(1, 2, 3, 4, 5, 6, 7);
+        TStream<List<Number>> samples = source.last(3).sample(2);
+        
+        // Each sample is in window order and from the window.
+        TStream<String> sizes = samples.transform(sample -> {
+            final int newest = sample.get(sample.size() - 1).intValue();
+            int previous = 0;
+            for (Number n : sample) {
+                if (n.intValue() <= previous || n.intValue() <= newest - 3)
+                    throw new IllegalStateException(sample.toString());
+                previous = n.intValue();
+            }
+            return String.valueOf(sample.size());
+        });
+        
+        completeAndValidate(sizes, 10, "1", "2", "2", "2", "2", "2", "2");
+    }
+    
+    @Test(expected=IllegalArgumentException.class)
+    public void testZeroSample() throws Exception {
+        final Topology f = newTopology("ZeroSample");
+        TStream<Number> source = f.numbers(1, 2, 3, 4, 5, 6, 7);
+        source.last(3).sample(0);
+    }
+    
+    @SuppressWarnings("serial")
+    private static final class IncrementalSumInt implements
+            IncrementalAggregator<Number, int[], Integer> {
+        @Override
+        public int[] initialState() {
+            return new int[2];
+        }
+        @Override
+        public int[] add(int[] state, Number tuple) {
+            state[0] += tuple.intValue();
+            state[1]++;
+            return state;
+        }
+        @Override
+        public int[] remove(int[] state, Number tuple) {
+            state[0] -= tuple.intValue();
+            state[1]--;
+            return state;
+        }
+        @Override
+        public Integer result(int[] state) {
+            if (state[1] > 3)
+                throw new IllegalStateException("more than three tuples for last(3)");
+            return state[0];
+        }
+    }
+    
+    @Test
+    public void testCountIncrementalAggregate() throws Exception {
+        final Topology f = newTopology("CountIncrementalAggregate");
+        TStream<Number> source = f.numbers(1, 2, 3, 4, 5, 6, 7);
+        TWindow<Number,?> window = source.last(3);
+        TStream<Integer> aggregate = window.aggregate(new IncrementalSumInt());
+        
+        completeAndValidate(aggregate, 10, "1", "3", "6", "9", "12", "15", "18");
+    }
+    
+    @Test
+    public void testCountOffHeapAggregate() throws Exception {
+        final Topology f = newTopology("CountOffHeapAggregate");
+        TStream<Number> source = f.numbers(1, 2, 3, 4, 5, 6, 7);
+        TWindow<Number,?> window = source.last(3).offHeap();
+        TStream<Integer> aggregate = window.aggregate(new SumInt());
+        
+        completeAndValidate(aggregate, 10, "1", "3", "6", "9", "12", "15", "18");
+    }
+    
+    @Test
+    public void testCountOffHeapIncrementalAggregate() throws Exception {
+        final Topology f = newTopology("CountOffHeapIncrementalAggregate");
+        TStream<Number> source = f.numbers(1, 2, 3, 4, 5, 6, 7);
+        TWindow<Number,?> window = source.last(3).offHeap();
+        TStream<Integer> aggregate = window.aggregate(new IncrementalSumInt());
+        
+        completeAndValidate(aggregate, 10, "1", "3", "6", "9", "12", "15", "18");
+    }
+    
+    @Test
+    public void testCountBatchAggregate() throws Exception {
+        final Topology f = newTopology("CountBatchAggregate");
+        TStream<Number> source = f.numbers(1, 2, 3, 4, 5, 6, 7, 8, 9);
+        TWindow<Number,?> window = source.batch(3);
+        TStream<Integer> aggregate = window.aggregate(new SumInt());
+
+        completeAndValidate(aggregate, 10, "6", "15", "24");
+    }
+
+    @Test
+    public void testCountBatchIncrementalAggregate() throws Exception {
+        final Topology f = newTopology("CountBatchIncrementalAggregate");
+        TStream<Number> source = f.numbers(1, 2, 3, 4, 5, 6, 7, 8, 9);
+        TWindow<Number,?> window = source.batch(3);
+        TStream<Integer> aggregate = window.aggregate(new IncrementalSumInt());
+
+        completeAndValidate(aggregate, 10, "6", "15", "24");
+    }
+
+    @Test
+    public void testSessionAggregate() throws Exception {
+        final Topology f = newTopology("SessionAggregate");
+        TStream<Number> source = f.numbers(1, 2, 3, 4, 5, 6, 7);
+        TWindow<Number,?> window = source.session(2, TimeUnit.SECONDS);
+        TStream<Integer> aggregate = window.aggregate(new SumInt());
+
+        completeAndValidate(aggregate, 20, "28");
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void testZeroBatch() throws Exception {
+        final Topology f = newTopology("ZeroBatch");
+        TStream<Number> source = f.numbers(1, 2, 3, 4, 5, 6, 7);
+        source.batch(0);
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void testZeroTimeBatch() throws Exception {
+        final Topology f = newTopology("ZeroTimeBatch");
+        TStream<Number> source = f.numbers(1, 2, 3, 4, 5, 6, 7);
+        source.batch(0, TimeUnit.SECONDS);
+    }
+
+    @Test(expected=IllegalStateException.class)
+    public void testPeriodicBatchAggregate() throws Exception {
+        final Topology f = newTopology("PeriodicBatchAggregate");
+        TStream<Number> source = f.numbers(1, 2, 3, 4, 5, 6, 7);
+        source.batch(3).aggregate(new SumInt(), 1, TimeUnit.SECONDS);
+    }
+
     @Test
     public void testCountAggregateStv() throws Exception {
     	assumeTrue(!isEmbedded());
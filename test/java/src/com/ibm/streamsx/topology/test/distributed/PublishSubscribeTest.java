@@ -31,10 +31,12 @@ import com.ibm.streams.operator.types.XML;
 import com.ibm.streamsx.topology.TStream;
 import com.ibm.streamsx.topology.Topology;
 import com.ibm.streamsx.topology.function.Supplier;
+import com.ibm.streamsx.topology.internal.functional.ObjectSchemas;
 import com.ibm.streamsx.topology.jobconfig.JobConfig;
 import com.ibm.streamsx.topology.spl.SPLSchemas;
 import com.ibm.streamsx.topology.spl.SPLStream;
 import com.ibm.streamsx.topology.spl.SPLStreams;
+import com.ibm.streamsx.topology.streams.NumericStreams;
 import com.ibm.streamsx.topology.streams.StringStreams;
 import com.ibm.streamsx.topology.test.TestTopology;
 import com.ibm.streamsx.topology.tester.Condition;
@@ -159,6 +161,27 @@ public class PublishSubscribeTest extends TestTopology {
         checkSubscribedAsStrings(strings);
     }
 
+    /**
+     * A Long stream (held in a native schema) is published
+     * as a Java object, as in earlier releases.
+     */
+    @Test
+    public void testPublishLong() throws Exception {
+        TStream<String> source = source();
+        
+        TStream<Long> values = NumericStreams.mapToLong(source, v -> Long.valueOf(v.substring(1)));
+        
+        String topic = uniqueTopic("long");
+        values.publish(topic);
+        
+        TStream<Long> subscribe = source.topology().subscribe(topic, Long.class);
+        assertEquals(ObjectSchemas.JAVA_OBJECT_SCHEMA, subscribe.output()._type());
+        
+        TStream<String> strings = subscribe.transform(v -> "S" + v);
+
+        checkSubscribedAsStrings(strings);
+    }
+
     private void checkSubscribedAsStrings(TStream<String> strings) throws Exception {
         
         Topology t = strings.topology();
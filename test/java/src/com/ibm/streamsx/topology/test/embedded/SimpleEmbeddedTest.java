@@ -9,8 +9,14 @@ import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.junit.Assume.assumeTrue;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -22,6 +28,7 @@ import com.ibm.streams.operator.Tuple;
 import com.ibm.streams.operator.Type;
 import com.ibm.streamsx.topology.TStream;
 import com.ibm.streamsx.topology.Topology;
+import com.ibm.streamsx.topology.context.ContextProperties;
 import com.ibm.streamsx.topology.context.StreamsContext;
 import com.ibm.streamsx.topology.context.StreamsContextFactory;
 import com.ibm.streamsx.topology.function.Function;
@@ -193,4 +200,157 @@ public class SimpleEmbeddedTest extends TestTopology {
         } catch (IllegalStateException e) { /* expected */ }
     }
 
+    /**
+     * Threads that processed tuples in a region, keyed by test.
+     */
+    private static final Map<String,Set<Long>> THREADS = new ConcurrentHashMap<>();
+
+    private static <T> TStream<T> recordThread(TStream<T> stream, String key) {
+        THREADS.put(key, ConcurrentHashMap.newKeySet());
+        return stream.modify(t -> {
+            THREADS.get(key).add(Thread.currentThread().getId());
+            return t;
+        });
+    }
+
+    private static Map<String, Object> threaded() {
+        Map<String, Object> config = new HashMap<>();
+        config.put(ContextProperties.EMBEDDED_THREADED, true);
+        return config;
+    }
+
+    @Test
+    public void testThreadedIsolate() throws Exception {
+
+        Topology topology = new Topology("testThreadedIsolate");
+
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 2000; i++)
+            expected.add("T" + i);
+
+        TStream<String> s = topology.constants(expected);
+        s = recordThread(s, "isolateSource");
+        s = s.isolate();
+        s = recordThread(s, "isolated");
+
+        Tester tester = topology.getTester();
+        Condition<List<String>> contents = tester.stringContents(s,
+                expected.toArray(new String[0]));
+
+        StreamsContextFactory
+                .getStreamsContext(StreamsContext.Type.EMBEDDED_TESTER)
+                .submit(topology, threaded()).get();
+
+        assertTrue(contents.valid());
+        assertEquals(1, THREADS.get("isolateSource").size());
+        assertEquals(1, THREADS.get("isolated").size());
+        assertTrue(Collections.disjoint(THREADS.get("isolateSource"), THREADS.get("isolated")));
+    }
+
+    @Test
+    public void testThreadedParallel() throws Exception {
+
+        Topology topology = new Topology("testThreadedParallel");
+
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 2000; i++)
+            expected.add("P" + i);
+
+        TStream<String> s = topology.constants(expected);
+        s = s.parallel(3);
+        s = recordThread(s, "channels");
+        s = s.filter(nilFilter);
+        s = s.endParallel();
+        s = recordThread(s, "merged");
+
+        Tester tester = topology.getTester();
+        Condition<Long> count = tester.tupleCount(s, expected.size());
+        Condition<List<String>> contents = tester.stringContentsUnordered(s,
+                expected.toArray(new String[0]));
+
+        StreamsContextFactory
+                .getStreamsContext(StreamsContext.Type.EMBEDDED_TESTER)
+                .submit(topology, threaded()).get();
+
+        assertTrue(count.valid());
+        assertTrue(contents.valid());
+        assertEquals(3, THREADS.get("channels").size());
+        assertEquals(1, THREADS.get("merged").size());
+        assertTrue(Collections.disjoint(THREADS.get("channels"), THREADS.get("merged")));
+    }
+
+    @Test
+    public void testThreadedPartitionedParallel() throws Exception {
+
+        Topology topology = new Topology("testThreadedPartitionedParallel");
+
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 2000; i++)
+            expected.add("K" + (i % 7));
+
+        TStream<String> s = topology.constants(expected);
+        s = s.parallel(() -> 4, t -> t);
+        s = s.modify(t -> {
+            THREADS.computeIfAbsent(t, k -> ConcurrentHashMap.newKeySet())
+                .add(Thread.currentThread().getId());
+            return t;
+        });
+        s = s.endParallel();
+
+        Tester tester = topology.getTester();
+        Condition<List<String>> contents = tester.stringContentsUnordered(s,
+                expected.toArray(new String[0]));
+
+        StreamsContextFactory
+                .getStreamsContext(StreamsContext.Type.EMBEDDED_TESTER)
+                .submit(topology, threaded()).get();
+
+        assertTrue(contents.valid());
+        // Each key is always processed by the same channel.
+        for (int k = 0; k < 7; k++)
+            assertEquals(1, THREADS.get("K" + k).size());
+    }
+
+    @Test
+    public void testThreadedQueueWait() throws Exception {
+
+        for (String queueWait : new String[] {"park", "yield", "spin"}) {
+            Topology topology = new Topology("testThreadedQueueWait");
+
+            List<String> expected = new ArrayList<>();
+            for (int i = 0; i < 2000; i++)
+                expected.add(queueWait + i);
+
+            TStream<String> s = topology.constants(expected);
+            s = s.isolate();
+            s = s.parallel(2);
+            s = s.filter(nilFilter);
+            s = s.endParallel();
+
+            Tester tester = topology.getTester();
+            Condition<List<String>> contents = tester.stringContentsUnordered(s,
+                    expected.toArray(new String[0]));
+
+            Map<String, Object> config = threaded();
+            config.put(ContextProperties.EMBEDDED_QUEUE_WAIT, queueWait);
+            StreamsContextFactory
+                    .getStreamsContext(StreamsContext.Type.EMBEDDED_TESTER)
+                    .submit(topology, config).get();
+
+            assertTrue(queueWait, contents.valid());
+        }
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void testThreadedUnknownQueueWait() throws Exception {
+
+        Topology topology = new Topology("testThreadedUnknownQueueWait");
+        topology.strings("a", "b").isolate().print();
+
+        Map<String, Object> config = threaded();
+        config.put(ContextProperties.EMBEDDED_QUEUE_WAIT, "sleep");
+        StreamsContextFactory
+                .getStreamsContext(StreamsContext.Type.EMBEDDED)
+                .submit(topology, config).get();
+    }
 }
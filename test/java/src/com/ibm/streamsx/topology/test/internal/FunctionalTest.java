@@ -5,19 +5,41 @@
 package com.ibm.streamsx.topology.test.internal;
 
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static org.junit.Assume.assumeTrue;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.net.Proxy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.junit.Test;
 
+import com.ibm.streamsx.topology.function.Function;
 import com.ibm.streamsx.topology.function.Supplier;
+import com.ibm.streamsx.topology.function.ThreadSafe;
+import com.ibm.streamsx.topology.internal.functional.window.LastValueTable;
+import com.ibm.streamsx.topology.internal.logic.ConsistentKeyHasher;
+import com.ibm.streamsx.topology.internal.logic.HotKeyHasher;
+import com.ibm.streamsx.topology.internal.logic.KeyFunctionHasher;
 import com.ibm.streamsx.topology.internal.logic.ObjectUtils;
+import com.ibm.streamsx.topology.internal.logic.RandomSample;
+import com.ibm.streamsx.topology.internal.logic.RateLimiter;
+import com.ibm.streamsx.topology.internal.logic.WindowSample;
+import com.ibm.streamsx.topology.logic.Value;
 import com.ibm.streamsx.topology.test.AllowAll;
 import com.ibm.streamsx.topology.test.TestTopology;
 
@@ -38,6 +60,284 @@ public class FunctionalTest extends TestTopology {
         assertFalse(ObjectUtils.isImmutable(new Primitive()));
         assertFalse(ObjectUtils.isImmutable(new Collection()));
     }
+    
+    @Test
+    public void testThreadSafeLogicTest() {
+        assumeTrue(isMainRun());
+        
+        assertTrue(ObjectUtils.isThreadSafe(new AllowAll<String>()));
+        assertTrue(ObjectUtils.isThreadSafe(new FinalString("42")));
+        assertTrue(ObjectUtils.isThreadSafe(new MarkedCollection()));
+        assertTrue(ObjectUtils.isThreadSafe(new KeyFunctionHasher<String,String>(s -> s)));
+        
+        assertFalse(ObjectUtils.isThreadSafe(new Primitive()));
+        assertFalse(ObjectUtils.isThreadSafe(new TransientCollection()));
+        assertFalse(ObjectUtils.isThreadSafe(new KeyFunctionHasher<Integer,Integer>(new Counter())));
+        
+        // Transient fields are not checkpointed state.
+        assertTrue(ObjectUtils.isImmutable(new TransientCollection()));
+    }
+    
+    @Test
+    public void testRandomSample() {
+        assumeTrue(isMainRun());
+        
+        final RandomSample<Integer> sampler = new RandomSample<>(0.1);
+        int selected = 0;
+        for (int i = 0; i < 100000; i++) {
+            if (sampler.test(i))
+                selected++;
+        }
+        assertTrue(Integer.toString(selected), selected > 9000 && selected < 11000);
+        
+        assertTrue(new RandomSample<Integer>(1.0).test(0));
+        assertFalse(new RandomSample<Integer>(0.0).test(0));
+    }
+    
+    @Test
+    public void testWindowSample() {
+        assumeTrue(isMainRun());
+        
+        final List<Integer> window = new ArrayList<>();
+        for (int i = 0; i < 1000; i++)
+            window.add(i);
+        
+        final WindowSample<Integer> sampler = new WindowSample<>(10);
+        final int[] counts = new int[window.size()];
+        for (int r = 0; r < 1000; r++) {
+            final List<Integer> sample = sampler.apply(window);
+            assertEquals(10, sample.size());
+            for (int i = 1; i < sample.size(); i++)
+                assertTrue(sample.get(i) > sample.get(i - 1));
+            for (Integer v : sample)
+                counts[v]++;
+        }
+        // Each tuple is expected in 10 samples.
+        int zero = 0;
+        for (int count : counts) {
+            if (count == 0)
+                zero++;
+        }
+        assertTrue(Integer.toString(zero), zero < 10);
+        
+        assertEquals(window.subList(0, 5), sampler.apply(window.subList(0, 5)));
+    }
+    
+    /**
+     * Increasing the width only moves keys to the new channel.
+     */
+    @Test
+    public void testConsistentKeyHasher() {
+        assumeTrue(isMainRun());
+        
+        final int keys = 10000;
+        int moved = 0;
+        for (int i = 0; i < keys; i++) {
+            final int c10 = new ConsistentKeyHasher<Integer,Integer>(k -> k, Value.of(10)).applyAsInt(i);
+            final int c11 = new ConsistentKeyHasher<Integer,Integer>(k -> k, Value.of(11)).applyAsInt(i);
+            assertTrue(c10 >= 0 && c10 < 10);
+            if (c10 != c11) {
+                assertEquals(10, c11);
+                moved++;
+            }
+        }
+        // Expect 1/11 of the keys to move.
+        assertTrue(Integer.toString(moved), moved > keys / 15 && moved < keys / 8);
+    }
+    
+    /**
+     * A hot key is spread across channels, other keys are not.
+     */
+    @Test
+    public void testHotKeyHasher() {
+        assumeTrue(isMainRun());
+        
+        final HotKeyHasher<Integer,Integer> hasher = new HotKeyHasher<>(k -> k, Value.of(4));
+        final Map<Integer,Set<Integer>> channels = new HashMap<>();
+        for (int i = 0; i < 40000; i++) {
+            // Three quarters of the tuples have key 0.
+            final int key = (i % 4) == 0 ? (i % 400) + 1 : 0;
+            final int channel = hasher.applyAsInt(key);
+            assertTrue(channel >= 0 && channel < 4);
+            channels.computeIfAbsent(key, k -> new HashSet<>()).add(channel);
+        }
+        
+        // Key 0 is three channels' share of the stream.
+        assertTrue(channels.get(0).size() >= 3);
+        for (int key = 1; key <= 400; key += 4)
+            assertEquals(1, channels.get(key).size());
+    }
+    
+    /**
+     * A hot key is found when most keys are seen once,
+     * each replacing the least frequent tracked key.
+     */
+    @Test
+    public void testHotKeyHasherUntrackedKeys() {
+        assumeTrue(isMainRun());
+        
+        final HotKeyHasher<Integer,Integer> hasher = new HotKeyHasher<>(k -> k, Value.of(4));
+        final Set<Integer> hotChannels = new HashSet<>();
+        for (int i = 0; i < 200000; i++) {
+            // Half the tuples have key 0, the others a unique key.
+            final int key = (i % 2) == 0 ? i + 1 : 0;
+            final int channel = hasher.applyAsInt(key);
+            assertTrue(channel >= 0 && channel < 4);
+            if (key == 0)
+                hotChannels.add(channel);
+        }
+        
+        // Key 0 is two channels' share of the stream.
+        assertTrue(hotChannels.size() >= 2);
+    }
+
+    /**
+     * The hot key hasher updates its counts for every tuple,
+     * so HashAdder must synchronize on it.
+     */
+    @Test
+    public void testHotKeyHasherNotThreadSafe() {
+        assumeTrue(isMainRun());
+        
+        final HotKeyHasher<Integer,Integer> hasher = new HotKeyHasher<>(
+                (Function<Integer,Integer> & ThreadSafe) k -> k, Value.of(4));
+        assertFalse(ObjectUtils.isThreadSafe(hasher));
+    }
+
+    /**
+     * A low rate with a large burst does not overflow
+     * the burst's tolerance, so the burst is not delayed.
+     */
+    @Test
+    public void testRateLimiterLowRateLargeBurst() {
+        assumeTrue(isMainRun());
+        
+        for (double rate : new double[] {1.0, 1e-3, 1e-6}) {
+            final RateLimiter<Integer> limiter = new RateLimiter<>(rate, Integer.MAX_VALUE, true);
+            for (int i = 0; i < 1000; i++)
+                assertEquals(Integer.valueOf(i), limiter.apply(i));
+        }
+        
+        // Interval is limited, first tuple is never delayed.
+        for (double rate : new double[] {1e-12, Double.MIN_VALUE}) {
+            final RateLimiter<Integer> limiter = new RateLimiter<>(rate, Integer.MAX_VALUE, true);
+            assertEquals(Integer.valueOf(0), limiter.apply(0));
+        }
+    }
+    
+    @Test
+    public void testRateLimiterArguments() {
+        assumeTrue(isMainRun());
+        
+        for (double rate : new double[] {0.0, -1.0, Double.NaN, Double.POSITIVE_INFINITY}) {
+            try {
+                new RateLimiter<>(rate, 1, false);
+                fail("rate: " + rate);
+            } catch (IllegalArgumentException e) {
+                // expected
+            }
+        }
+        try {
+            new RateLimiter<>(1.0, 0, false);
+            fail("burst: 0");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    /**
+     * The least recently updated keys are removed from a bounded table.
+     */
+    @Test
+    public void testLastValueTable() throws Exception {
+        assumeTrue(isMainRun());
+
+        final LastValueTable<String,Integer> unbounded = new LastValueTable<>(0, 0);
+        assertNull(unbounded.get("a"));
+        unbounded.put("a", 1);
+        unbounded.put("a", 2);
+        unbounded.put(null, 3);
+        assertEquals(Integer.valueOf(2), unbounded.get("a"));
+        assertEquals(Integer.valueOf(3), unbounded.get(null));
+        assertEquals(2, unbounded.size());
+
+        final LastValueTable<String,Integer> bounded = new LastValueTable<>(2, 0);
+        bounded.put("a", 1);
+        bounded.put("b", 2);
+        bounded.put("a", 3);
+        bounded.put("c", 4);
+        assertEquals(2, bounded.size());
+        assertEquals(Integer.valueOf(3), bounded.get("a"));
+        assertNull(bounded.get("b"));
+        assertEquals(Integer.valueOf(4), bounded.get("c"));
+
+        final LastValueTable<String,Integer> expiring = new LastValueTable<>(0, 50);
+        expiring.put("a", 1);
+        assertEquals(Integer.valueOf(1), expiring.get("a"));
+        Thread.sleep(100);
+        assertNull(expiring.get("a"));
+        assertEquals(1, expiring.size());
+        expiring.purge();
+        assertEquals(0, expiring.size());
+    }
+
+    /**
+     * A checkpointed table is restored with the same
+     * values and least recently updated order.
+     */
+    @Test
+    public void testLastValueTableCheckpoint() throws Exception {
+        assumeTrue(isMainRun());
+
+        final LastValueTable<String,Integer> unbounded = new LastValueTable<>(0, 0);
+        unbounded.put("a", 1);
+        unbounded.put(null, 2);
+        final LastValueTable<String,Integer> unboundedRestored = roundTrip(unbounded, new LastValueTable<>(0, 0));
+        assertEquals(2, unboundedRestored.size());
+        assertEquals(Integer.valueOf(1), unboundedRestored.get("a"));
+        assertEquals(Integer.valueOf(2), unboundedRestored.get(null));
+
+        final LastValueTable<String,Integer> bounded = new LastValueTable<>(2, 60_000);
+        bounded.put("a", 1);
+        bounded.put("b", 2);
+        bounded.put("a", 3);
+        final LastValueTable<String,Integer> restored = new LastValueTable<>(2, 60_000);
+        restored.put("z", 26);
+        roundTrip(bounded, restored);
+        assertEquals(2, restored.size());
+        assertNull(restored.get("z"));
+        assertEquals(Integer.valueOf(3), restored.get("a"));
+        assertEquals(Integer.valueOf(2), restored.get("b"));
+
+        // b is the least recently updated key
+        restored.put("c", 4);
+        assertNull(restored.get("b"));
+        assertEquals(Integer.valueOf(3), restored.get("a"));
+
+        // Values keep their age
+        final LastValueTable<String,Integer> expiring = new LastValueTable<>(0, 100);
+        expiring.put("a", 1);
+        Thread.sleep(150);
+        assertEquals(0, roundTrip(expiring, new LastValueTable<>(0, 100)).size());
+
+        restored.clear();
+        assertEquals(0, restored.size());
+        assertNull(restored.get("a"));
+        restored.put("d", 5);
+        assertEquals(Integer.valueOf(5), restored.get("d"));
+    }
+
+    private static <K, V> LastValueTable<K,V> roundTrip(LastValueTable<K,V> table,
+            LastValueTable<K,V> restored) throws Exception {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            table.checkpoint(out);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            restored.reset(in);
+        }
+        return restored;
+    }
 
     static class FinalPrimitive implements Supplier<Integer> {
         private final int v;
@@ -92,6 +392,25 @@ public class FunctionalTest extends TestTopology {
         }
     }
     
+    static class MarkedCollection extends Collection implements ThreadSafe {
+    }
+    
+    static class TransientCollection implements Supplier<List<String>> {
+        private transient List<String> v;
+        @Override
+        public List<String> get() {
+            return v;
+        }
+    }
+    
+    static class Counter implements Function<Integer,Integer> {
+        private int n;
+        @Override
+        public Integer apply(Integer v) {
+            return v + n++;
+        }
+    }
+    
     static class FinalMixed implements Serializable {
         @SuppressWarnings("unused")
         private final double d = 0.0;
@@ -0,0 +1,128 @@
+/*
+# Licensed Materials - Property of IBM
+# Copyright IBM Corp. 2026
+ */
+package com.ibm.streamsx.topology.test.spi;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.ibm.streamsx.topology.spi.runtime.CompactSerializer;
+import com.ibm.streamsx.topology.spi.runtime.TupleCodecs;
+import com.ibm.streamsx.topology.spi.runtime.TupleSerializer;
+import com.ibm.streamsx.topology.test.TestTopology;
+
+public class CompactSerializerTest extends TestTopology {
+
+    public static class Trade implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private String symbol;
+        private long quantity;
+        private double price;
+        private boolean buy;
+        private List<String> tags;
+        private transient int ignored;
+
+        Trade() {
+        }
+
+        Trade(String symbol, long quantity, double price, boolean buy, List<String> tags) {
+            this.symbol = symbol;
+            this.quantity = quantity;
+            this.price = price;
+            this.buy = buy;
+            this.tags = tags;
+            this.ignored = 42;
+        }
+    }
+
+    private static byte[] serialize(TupleSerializer serializer, Object tuple) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        serializer.serialize(tuple, out);
+        return out.toByteArray();
+    }
+
+    private static Object roundTrip(TupleSerializer serializer, Object tuple) throws Exception {
+        return serializer.deserialize(new ByteArrayInputStream(serialize(serializer, tuple)));
+    }
+
+    /**
+     * Serializers are serialized as part of the topology,
+     * so test using a copy.
+     */
+    private static TupleSerializer copy(TupleSerializer serializer) throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream oos = new ObjectOutputStream(bytes)) {
+            oos.writeObject(serializer);
+        }
+        try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            return (TupleSerializer) ois.readObject();
+        }
+    }
+
+    @Test
+    public void testDefaultClasses() throws Exception {
+        assumeTrue(isMainRun());
+
+        TupleSerializer serializer = copy(new CompactSerializer());
+
+        assertEquals("Hello \u00e9\u4e16", roundTrip(serializer, "Hello \u00e9\u4e16"));
+        assertEquals(Integer.valueOf(-73), roundTrip(serializer, -73));
+        assertEquals(Long.valueOf(Long.MAX_VALUE), roundTrip(serializer, Long.MAX_VALUE));
+        assertEquals(Double.valueOf(3.5), roundTrip(serializer, 3.5));
+        assertArrayEquals(new byte[] {1, 2, 3}, (byte[]) roundTrip(serializer, new byte[] {1, 2, 3}));
+        assertNull(roundTrip(serializer, null));
+
+        // Unregistered classes use Java serialization.
+        assertEquals(Arrays.asList("a", "b"), roundTrip(serializer, Arrays.asList("a", "b")));
+
+        // Class identifier and length only.
+        assertEquals(1 + 4 + 5, serialize(serializer, "Hello").length);
+        assertEquals(1 + 8, serialize(serializer, 99L).length);
+        assertTrue(serialize(serializer, 99L).length
+                < serialize(TupleSerializer.JAVA_SERIALIZER, 99L).length);
+    }
+
+    @Test
+    public void testFieldCodec() throws Exception {
+        assumeTrue(isMainRun());
+
+        TupleSerializer serializer = copy(new CompactSerializer()
+                .register(Trade.class, TupleCodecs.fields(Trade.class)));
+
+        Trade trade = new Trade("IBM", 200, 152.25, true, Arrays.asList("x", "y"));
+        Trade rt = (Trade) roundTrip(serializer, trade);
+
+        assertEquals("IBM", rt.symbol);
+        assertEquals(200, rt.quantity);
+        assertEquals(152.25, rt.price, 0.0);
+        assertTrue(rt.buy);
+        assertEquals(Arrays.asList("x", "y"), rt.tags);
+        assertEquals(0, rt.ignored);
+
+        Trade empty = (Trade) roundTrip(serializer, new Trade(null, 0, 0, false, null));
+        assertNull(empty.symbol);
+        assertNull(empty.tags);
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void testDuplicateRegistration() {
+        assumeTrue(isMainRun());
+        new CompactSerializer().register(String.class, TupleCodecs.STRING);
+    }
+}
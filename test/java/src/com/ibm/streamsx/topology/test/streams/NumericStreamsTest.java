@@ -0,0 +1,146 @@
+/*
+# Licensed Materials - Property of IBM
+# Copyright IBM Corp. 2026
+ */
+package com.ibm.streamsx.topology.test.streams;
+
+import static com.ibm.streamsx.topology.internal.gson.GsonUtilities.jstring;
+import static com.ibm.streamsx.topology.internal.gson.GsonUtilities.objectArray;
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.google.gson.JsonObject;
+import com.ibm.streamsx.topology.TStream;
+import com.ibm.streamsx.topology.Topology;
+import com.ibm.streamsx.topology.function.Function;
+import com.ibm.streamsx.topology.function.Supplier;
+import com.ibm.streamsx.topology.internal.core.JavaFunctionalOps;
+import com.ibm.streamsx.topology.internal.functional.ObjectSchemas;
+import com.ibm.streamsx.topology.spi.builder.Invoker;
+import com.ibm.streamsx.topology.spi.runtime.TupleSerializer;
+import com.ibm.streamsx.topology.streams.NumericStreams;
+import com.ibm.streamsx.topology.streams.StringStreams;
+import com.ibm.streamsx.topology.test.TestTopology;
+
+public class NumericStreamsTest extends TestTopology {
+
+    @Test
+    public void testMapToLong() throws Exception {
+        final Topology f = new Topology("MapToLong");
+        TStream<String> source = f.strings("a", "bcd", "ef", "ghijk");
+        TStream<Long> lengths = NumericStreams.mapToLong(source, s -> s.length() * 1000000000L);
+        assertEquals(Long.class, lengths.getTupleClass());
+        assertEquals(ObjectSchemas.LONG_SCHEMA, lengths.output()._type());
+
+        lengths = NumericStreams.filterLong(lengths, v -> v != 2000000000L);
+        assertEquals(ObjectSchemas.LONG_SCHEMA, lengths.output()._type());
+
+        completeAndValidate(StringStreams.toString(lengths), 10,
+                "1000000000", "3000000000", "5000000000");
+    }
+
+    @Test
+    public void testMapToDouble() throws Exception {
+        final Topology f = new Topology("MapToDouble");
+        TStream<String> source = f.strings("1.5", "-2.25", "7", "0.5");
+        TStream<Double> values = NumericStreams.mapToDouble(source, Double::parseDouble);
+        assertEquals(Double.class, values.getTupleClass());
+        assertEquals(ObjectSchemas.DOUBLE_SCHEMA, values.output()._type());
+
+        values = NumericStreams.filterDouble(values, v -> v > 0.0);
+
+        completeAndValidate(StringStreams.toString(values), 10,
+                "1.5", "7.0", "0.5");
+    }
+
+    @Test
+    public void testDiscoveredLongType() throws Exception {
+        final Topology f = new Topology("DiscoveredLong");
+        TStream<String> source = f.strings("3", "42", "-9");
+        TStream<Long> values = source.map(new ParseLong());
+        assertEquals(Long.class, values.getTupleClass());
+        assertEquals(ObjectSchemas.LONG_SCHEMA, values.output()._type());
+
+        completeAndValidate(StringStreams.toString(values), 10, "3", "42", "-9");
+    }
+
+    /**
+     * Long and Double streams are published and subscribed to
+     * as Java objects, the schema used before they had native
+     * schemas, so they match publishers and subscribers
+     * in applications built with earlier releases.
+     */
+    @Test
+    public void testPublishedSchema() throws Exception {
+        final Topology f = new Topology("PublishedSchema");
+        TStream<String> source = f.strings("3", "42", "-9");
+        NumericStreams.mapToLong(source, Long::parseLong).publish("numeric/long");
+        NumericStreams.mapToDouble(source, Double::parseDouble).publish("numeric/double");
+
+        List<String> published = new ArrayList<>();
+        JsonObject graph = f.builder()._complete();
+        objectArray(graph, "operators", op -> {
+            if ("com.ibm.streamsx.topology.topic::PublishJava".equals(jstring(op, "kind")))
+                objectArray(op, "inputs", input -> published.add(jstring(input, "type")));
+        });
+        assertEquals(Collections.nCopies(2, ObjectSchemas.JAVA_OBJECT_SCHEMA), published);
+
+        assertEquals(ObjectSchemas.JAVA_OBJECT_SCHEMA,
+                f.subscribe("numeric/long", Long.class).output()._type());
+        assertEquals(ObjectSchemas.JAVA_OBJECT_SCHEMA,
+                f.subscribe("numeric/double", Double.class).output()._type());
+    }
+
+    /**
+     * A Long stream with a serializer is held as a serialized object.
+     */
+    @Test
+    public void testSerializedLongSchema() throws Exception {
+        final Topology f = new Topology("SerializedLong");
+        JsonObject name = new JsonObject();
+        name.addProperty("name", "S");
+        TStream<Long> values = Invoker.invokeSource(f, JavaFunctionalOps.SOURCE_KIND, name,
+                new LongData(), Long.class, new LongSerializer(), null);
+        assertEquals(ObjectSchemas.JAVA_OBJECT_SCHEMA, values.output()._type());
+
+        values = values.asType(Long.class);
+        assertEquals(ObjectSchemas.JAVA_OBJECT_SCHEMA, values.output()._type());
+    }
+
+    @SuppressWarnings("serial")
+    static final class LongData implements Supplier<Iterable<Long>> {
+        @Override
+        public Iterable<Long> get() {
+            return Collections.singletonList(7L);
+        }
+    }
+
+    @SuppressWarnings("serial")
+    static final class LongSerializer implements TupleSerializer {
+        @Override
+        public void serialize(Object tuple, OutputStream output) throws IOException {
+            output.write(((Long) tuple).intValue());
+        }
+
+        @Override
+        public Object deserialize(InputStream input) throws IOException {
+            return Long.valueOf(input.read());
+        }
+    }
+
+    @SuppressWarnings("serial")
+    static final class ParseLong implements Function<String, Long> {
+        @Override
+        public Long apply(String v) {
+            return Long.valueOf(v);
+        }
+    }
+}
@@ -222,4 +222,67 @@ public class ConditionTest extends TestTopology {
         assertFalse(contents.toString(), contents.valid());
         assertFalse(passed);
     }
+    
+    @Test
+    public void testStringContentsUnorderedDuplicates() throws Exception {
+        final Topology topology = new Topology();
+        TStream<String> source = topology.strings("A", "B", "A", "C", "B");
+
+        Condition<List<String>> contents = topology.getTester().stringContentsUnordered(source, "B", "A", "C", "B", "A");
+
+        boolean passed = complete(topology.getTester(), contents, 10, TimeUnit.SECONDS);
+        assertTrue(contents.toString(), contents.valid());
+        assertTrue(passed);
+    }
+    
+    @Test
+    public void testStringContentsUnorderedDuplicatesBad() throws Exception {
+        final Topology topology = new Topology();
+        TStream<String> source = topology.strings("A", "B", "A", "C");
+
+        Condition<List<String>> contents = topology.getTester().stringContentsUnordered(source, "A", "B", "C", "C");
+
+        boolean passed = complete(topology.getTester(), contents, 10, TimeUnit.SECONDS);
+        assertFalse(contents.toString(), contents.valid());
+        assertFalse(passed);
+    }
+    
+    @Test
+    public void testStringContentsDigestGood() throws Exception {
+        final Topology topology = new Topology();
+        TStream<String> source = topology.strings("A", "B", "C", "D", "A");
+
+        Condition<Long> contents = topology.getTester().stringContentsDigest(source,
+                Arrays.asList("D", "A", "C", "A", "B"));
+
+        boolean passed = complete(topology.getTester(), contents, 10, TimeUnit.SECONDS);
+        assertTrue(contents.toString(), contents.valid());
+        assertTrue(passed);
+    }
+    
+    @Test
+    public void testStringContentsDigestBad() throws Exception {
+        final Topology topology = new Topology();
+        TStream<String> source = topology.strings("A", "B", "C", "D");
+
+        Condition<Long> contents = topology.getTester().stringContentsDigest(source,
+                Arrays.asList("A", "B", "C", "E"));
+
+        boolean passed = complete(topology.getTester(), contents, 10, TimeUnit.SECONDS);
+        assertFalse(contents.toString(), contents.valid());
+        assertFalse(passed);
+    }
+    
+    @Test
+    public void testStringContentsDigestTooMany() throws Exception {
+        final Topology topology = new Topology();
+        TStream<String> source = topology.strings("A", "B", "C", "D");
+
+        Condition<Long> contents = topology.getTester().stringContentsDigest(source,
+                Arrays.asList("A", "B", "C"));
+
+        boolean passed = complete(topology.getTester(), contents, 10, TimeUnit.SECONDS);
+        assertFalse(contents.toString(), contents.valid());
+        assertFalse(passed);
+    }
 }
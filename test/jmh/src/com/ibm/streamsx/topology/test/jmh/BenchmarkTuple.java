@@ -0,0 +1,76 @@
+/*
+# Licensed Materials - Property of IBM
+# Copyright IBM Corp. 2026
+ */
+package com.ibm.streamsx.topology.test.jmh;
+
+import java.io.Serializable;
+
+import com.ibm.streamsx.topology.function.Function;
+import com.ibm.streamsx.topology.spi.runtime.CompactSerializer;
+import com.ibm.streamsx.topology.spi.runtime.TupleCodecs;
+import com.ibm.streamsx.topology.spi.runtime.TupleSerializer;
+
+/**
+ * Small tuple typical of a high rate stream.
+ */
+public class BenchmarkTuple implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Function returning a tuple's key.
+     */
+    static final Function<BenchmarkTuple, Object> KEY = BenchmarkTuple::getKey;
+
+    private String key;
+    private long timestamp;
+    private double value;
+
+    BenchmarkTuple() {
+    }
+
+    BenchmarkTuple(String key, long timestamp, double value) {
+        this.key = key;
+        this.timestamp = timestamp;
+        this.value = value;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    public double getValue() {
+        return value;
+    }
+
+    /**
+     * Create {@code count} tuples with keys cycling through {@code keys} values.
+     */
+    static BenchmarkTuple[] tuples(int count, int keys) {
+        BenchmarkTuple[] tuples = new BenchmarkTuple[count];
+        for (int i = 0; i < count; i++)
+            tuples[i] = new BenchmarkTuple("K" + (i % keys), i, i * 0.5);
+        return tuples;
+    }
+
+    /**
+     * Serializer used by benchmarks with a {@code serializer} parameter.
+     * @param kind {@code java} for Java serialization or {@code compact}
+     * for a {@code CompactSerializer} with a field codec for this class.
+     */
+    static TupleSerializer serializer(String kind) {
+        switch (kind) {
+        case "java":
+            return TupleSerializer.JAVA_SERIALIZER;
+        case "compact":
+            return new CompactSerializer().register(BenchmarkTuple.class,
+                    TupleCodecs.fields(BenchmarkTuple.class));
+        default:
+            throw new IllegalArgumentException(kind);
+        }
+    }
+}
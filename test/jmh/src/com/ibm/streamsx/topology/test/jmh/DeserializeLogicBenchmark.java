@@ -0,0 +1,80 @@
+/*
+# Licensed Materials - Property of IBM
+# Copyright IBM Corp. 2026
+ */
+package com.ibm.streamsx.topology.test.jmh;
+
+import java.io.Serializable;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.ibm.streamsx.topology.function.Predicate;
+import com.ibm.streamsx.topology.internal.logic.ObjectUtils;
+
+/**
+ * Deserialization of an operator's functional logic,
+ * performed for each function when an operator initializes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class DeserializeLogicBenchmark {
+
+    @Param({ "lambda", "class" })
+    public String logic;
+
+    private String serializedLogic;
+
+    @Setup
+    public void setup() {
+        final Serializable function;
+        switch (logic) {
+        case "lambda":
+            function = lambda("K1");
+            break;
+        case "class":
+            function = new KeyFilter("K1");
+            break;
+        default:
+            throw new IllegalArgumentException(logic);
+        }
+        serializedLogic = ObjectUtils.serializeLogic(function);
+    }
+
+    private static Predicate<BenchmarkTuple> lambda(String key) {
+        return t -> key.equals(t.getKey());
+    }
+
+    private static final class KeyFilter implements Predicate<BenchmarkTuple> {
+        private static final long serialVersionUID = 1L;
+        private final String key;
+
+        KeyFilter(String key) {
+            this.key = key;
+        }
+
+        @Override
+        public boolean test(BenchmarkTuple tuple) {
+            return key.equals(tuple.getKey());
+        }
+    }
+
+    @Benchmark
+    public Object deserializeLogic() throws Exception {
+        return ObjectUtils.deserializeLogic(serializedLogic);
+    }
+}
@@ -0,0 +1,77 @@
+/*
+# Licensed Materials - Property of IBM
+# Copyright IBM Corp. 2026
+ */
+package com.ibm.streamsx.topology.test.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.ibm.streams.operator.OutputTuple;
+import com.ibm.streams.operator.StreamingOutput;
+import com.ibm.streams.operator.Tuple;
+import com.ibm.streamsx.topology.function.Function;
+import com.ibm.streamsx.topology.internal.functional.ops.FunctionTransform;
+
+/**
+ * Hand-off of tuples to a {@code Map} operator through its
+ * {@code FunctionalQueue}, for each queue wait strategy,
+ * compared to the operator without a queue ({@code none}).
+ * <BR>
+ * Once the queue is full the submitting thread is limited to the
+ * rate the queue's reader thread processes the tuples, so the
+ * throughput is that of the complete hand-off.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class FunctionalQueueBenchmark {
+
+    @Param({ "none", "park", "yield", "spin" })
+    public String queue;
+
+    @Param({ "1024" })
+    public int queueSize;
+
+    private SingleOperator op;
+    private StreamingOutput<OutputTuple> input;
+    private Tuple tuple;
+
+    @Setup
+    public void setup() throws Exception {
+        Function<BenchmarkTuple, BenchmarkTuple> identity = t -> t;
+        op = new SingleOperator(FunctionTransform.class, identity);
+        if (!"none".equals(queue)) {
+            op.operator().setIntParameter("queueSize", queueSize);
+            op.operator().setStringParameter("queueWaitStrategy", queue);
+        }
+        input = op.inject(op.addInput());
+        op.start();
+        tuple = SingleOperator.MAPPING.convertTo(BenchmarkTuple.tuples(1, 1)[0]);
+    }
+
+    @TearDown
+    public void teardown() {
+        op.stop();
+    }
+
+    @Benchmark
+    public boolean submit() throws Exception {
+        return input.submit(tuple);
+    }
+}
@@ -0,0 +1,69 @@
+/*
+# Licensed Materials - Property of IBM
+# Copyright IBM Corp. 2026
+ */
+package com.ibm.streamsx.topology.test.jmh;
+
+import java.io.ByteArrayInputStream;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.ibm.streamsx.topology.internal.logic.ObjectUtils;
+import com.ibm.streamsx.topology.internal.spljava.SPLMapping;
+import com.ibm.streamsx.topology.internal.spljava.Schemas;
+import com.ibm.streamsx.topology.spi.runtime.TupleSerializer;
+
+/**
+ * Serialization of a tuple's {@code JavaObjectBlob}, comparing
+ * Java serialization ({@code JavaSerializer}) with {@code CompactSerializer}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class JavaObjectBlobBenchmark {
+
+    @Param({ "java", "compact" })
+    public String serializer;
+
+    private TupleSerializer tupleSerializer;
+    private SPLMapping<Object> mapping;
+    private BenchmarkTuple value;
+    private byte[] data;
+
+    @SuppressWarnings("unchecked")
+    @Setup
+    public void setup() throws Exception {
+        tupleSerializer = BenchmarkTuple.serializer(serializer);
+        mapping = (SPLMapping<Object>) Schemas.getObjectMapping(
+                ObjectUtils.serializeLogic(tupleSerializer));
+        value = BenchmarkTuple.tuples(1, 1)[0];
+        data = serialize();
+    }
+
+    /**
+     * Serialize a tuple's blob, as when it is sent to another PE.
+     */
+    @Benchmark
+    public byte[] serialize() {
+        return mapping.convertTo(value).getBlob(0).getData();
+    }
+
+    @Benchmark
+    public Object deserialize() throws Exception {
+        return tupleSerializer.deserialize(new ByteArrayInputStream(data));
+    }
+}
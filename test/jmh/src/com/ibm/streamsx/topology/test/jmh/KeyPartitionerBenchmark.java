@@ -0,0 +1,61 @@
+/*
+# Licensed Materials - Property of IBM
+# Copyright IBM Corp. 2026
+ */
+package com.ibm.streamsx.topology.test.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.ibm.streams.operator.Tuple;
+import com.ibm.streams.operator.types.Blob;
+import com.ibm.streams.operator.types.ValueFactory;
+import com.ibm.streamsx.topology.function.Function;
+import com.ibm.streamsx.topology.internal.functional.window.KeyPartitioner;
+
+/**
+ * Partitioning of window tuples by a key function, for a tuple
+ * holding a reference to its object and one holding a serialized object
+ * (as received from another PE).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class KeyPartitionerBenchmark {
+
+    private KeyPartitioner partitioner;
+    private Tuple byReference;
+    private Tuple serialized;
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    @Setup
+    public void setup() throws Exception {
+        partitioner = new KeyPartitioner(SingleOperator.MAPPING, (Function) BenchmarkTuple.KEY);
+        byReference = SingleOperator.MAPPING.convertTo(BenchmarkTuple.tuples(1, 1)[0]);
+        serialized = SingleOperator.JAVA_OBJECT.getTuple(new Blob[] {
+                ValueFactory.newBlob(byReference.getBlob(0).getData()) });
+    }
+
+    @Benchmark
+    public Object byReference() {
+        return partitioner.getPartition(byReference);
+    }
+
+    @Benchmark
+    public Object serialized() {
+        return partitioner.getPartition(serialized);
+    }
+}
@@ -0,0 +1,94 @@
+/*
+# Licensed Materials - Property of IBM
+# Copyright IBM Corp. 2026
+ */
+package com.ibm.streamsx.topology.test.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.ibm.streamsx.topology.TStream;
+import com.ibm.streamsx.topology.Topology;
+import com.ibm.streamsx.topology.generator.spl.SPLGenerator;
+
+/**
+ * Generation of SPL from a synthetic topology graph.
+ * <BR>
+ * The topology is a long chain of filters with isolated,
+ * low latency and parallel regions and unions at regular
+ * intervals, so that every preprocessing pass and the
+ * creation of composites traverse a graph of
+ * {@code operators} operators.
+ * Each invocation generates from a fresh copy of the graph,
+ * as generation modifies the graph.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class SPLGeneratorBenchmark {
+
+    @Param({ "1000", "10000" })
+    public int operators;
+
+    private String json;
+    private JsonObject graph;
+
+    @Setup
+    public void setup() throws Exception {
+        json = topology(operators).builder()._complete().toString();
+    }
+
+    @Setup(Level.Invocation)
+    public void copyGraph() {
+        graph = new JsonParser().parse(json).getAsJsonObject();
+    }
+
+    @Benchmark
+    public String generateSPL() throws Exception {
+        return new SPLGenerator().generateSPL(graph);
+    }
+
+    /**
+     * Topology with a chain of {@code n} filters, every two hundred
+     * filters has two isolated regions and a low latency region,
+     * every thousand filters has a parallel region and
+     * every five hundred filters unions in another stream.
+     */
+    static Topology topology(int n) {
+        Topology topology = new Topology("SPLGenerator" + n);
+        TStream<String> s = topology.strings("a", "b");
+        TStream<String> other = topology.strings("c");
+        for (int i = 0; i < n; i++) {
+            if (i % 200 == 25 || i % 200 == 175)
+                s = s.isolate();
+            if (i % 200 == 100)
+                s = s.lowLatency();
+            if (i % 200 == 150)
+                s = s.endLowLatency();
+            if (i % 500 == 60)
+                s = s.union(other.filter(v -> true));
+            if (i % 1000 == 250)
+                s = s.parallel(3).filter(v -> true).endParallel();
+            s = s.filter(v -> true);
+        }
+        s.print();
+        return topology;
+    }
+}
@@ -0,0 +1,70 @@
+/*
+# Licensed Materials - Property of IBM
+# Copyright IBM Corp. 2026
+ */
+package com.ibm.streamsx.topology.test.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.ibm.streams.operator.Tuple;
+import com.ibm.streams.operator.types.Blob;
+import com.ibm.streams.operator.types.ValueFactory;
+import com.ibm.streamsx.topology.internal.logic.ObjectUtils;
+import com.ibm.streamsx.topology.internal.spljava.SPLMapping;
+import com.ibm.streamsx.topology.internal.spljava.Schemas;
+
+/**
+ * Round trip of a Java object through its SPL tuple representation.
+ * <BR>
+ * {@code byReference} is the conversion between operators
+ * in the same PE, the tuple holds a reference to the object.
+ * {@code serialized} is the conversion between PEs, the object
+ * is serialized into the tuple's blob and deserialized from it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class SPLJavaObjectBenchmark {
+
+    @Param({ "java", "compact" })
+    public String serializer;
+
+    private SPLMapping<Object> mapping;
+    private BenchmarkTuple value;
+
+    @SuppressWarnings("unchecked")
+    @Setup
+    public void setup() throws Exception {
+        mapping = (SPLMapping<Object>) Schemas.getObjectMapping(
+                ObjectUtils.serializeLogic(BenchmarkTuple.serializer(serializer)));
+        value = BenchmarkTuple.tuples(1, 1)[0];
+    }
+
+    @Benchmark
+    public Object byReference() {
+        return mapping.convertFrom(mapping.convertTo(value));
+    }
+
+    @Benchmark
+    public Object serialized() throws Exception {
+        final byte[] data = mapping.convertTo(value).getBlob(0).getData();
+        final Tuple received = SingleOperator.JAVA_OBJECT.getTuple(
+                new Blob[] { ValueFactory.newBlob(data) });
+        return mapping.convertFrom(received);
+    }
+}
@@ -0,0 +1,100 @@
+/*
+# Licensed Materials - Property of IBM
+# Copyright IBM Corp. 2026
+ */
+package com.ibm.streamsx.topology.test.jmh;
+
+import java.io.Serializable;
+import java.util.concurrent.Future;
+
+import com.ibm.streams.flow.declare.InputPortDeclaration;
+import com.ibm.streams.flow.declare.OperatorGraph;
+import com.ibm.streams.flow.declare.OperatorGraphFactory;
+import com.ibm.streams.flow.declare.OperatorInvocation;
+import com.ibm.streams.flow.declare.OutputPortDeclaration;
+import com.ibm.streams.flow.handlers.StreamCounter;
+import com.ibm.streams.flow.javaprimitives.JavaOperatorTester;
+import com.ibm.streams.flow.javaprimitives.JavaTestableGraph;
+import com.ibm.streams.operator.Operator;
+import com.ibm.streams.operator.OutputTuple;
+import com.ibm.streams.operator.StreamSchema;
+import com.ibm.streams.operator.StreamingOutput;
+import com.ibm.streams.operator.Tuple;
+import com.ibm.streams.operator.Type;
+import com.ibm.streamsx.topology.internal.functional.ObjectSchemas;
+import com.ibm.streamsx.topology.internal.logic.ObjectUtils;
+import com.ibm.streamsx.topology.internal.spljava.SPLMapping;
+import com.ibm.streamsx.topology.internal.spljava.Schemas;
+
+/**
+ * A functional operator executed in-process using the
+ * Java Operator API test framework, so that the benchmarks
+ * submit tuples directly to its input ports.
+ * <BR>
+ * The operator's single output port is connected to a tuple counter.
+ */
+final class SingleOperator {
+
+    static final StreamSchema JAVA_OBJECT = Type.Factory.getStreamSchema(ObjectSchemas.JAVA_OBJECT_SCHEMA);
+
+    @SuppressWarnings("unchecked")
+    static final SPLMapping<Object> MAPPING = (SPLMapping<Object>) Schemas.getSPLMapping(JAVA_OBJECT);
+
+    private final OperatorGraph graph = OperatorGraphFactory.newGraph();
+    private final OperatorInvocation<? extends Operator> op;
+    private final StreamCounter<Tuple> counter = new StreamCounter<>();
+    private OutputPortDeclaration output;
+    private JavaTestableGraph testable;
+    private Future<JavaTestableGraph> execution;
+
+    SingleOperator(Class<? extends Operator> opClass, Serializable logic) {
+        op = graph.addOperator(opClass);
+        op.setStringParameter("functionalLogic", ObjectUtils.serializeLogic(logic));
+    }
+
+    /**
+     * Set a parameter containing a serialized function.
+     */
+    SingleOperator logic(String name, Serializable logic) {
+        op.setStringParameter(name, ObjectUtils.serializeLogic(logic));
+        return this;
+    }
+
+    OperatorInvocation<? extends Operator> operator() {
+        return op;
+    }
+
+    InputPortDeclaration addInput() {
+        return op.addInput(JAVA_OBJECT);
+    }
+
+    /**
+     * Get the port used to submit tuples to an input port,
+     * must be called for all required ports before {@link #start()}.
+     */
+    StreamingOutput<OutputTuple> inject(InputPortDeclaration port) throws Exception {
+        return executable().getInputTester(port);
+    }
+
+    void start() throws Exception {
+        execution = executable().execute();
+    }
+
+    void stop() {
+        if (execution != null)
+            execution.cancel(true);
+    }
+
+    long outputCount() {
+        return counter.getTupleCount();
+    }
+
+    private JavaTestableGraph executable() throws Exception {
+        if (testable == null) {
+            output = op.addOutput(JAVA_OBJECT);
+            testable = new JavaOperatorTester().executable(graph);
+            testable.registerStreamHandler(output, counter);
+        }
+        return testable;
+    }
+}
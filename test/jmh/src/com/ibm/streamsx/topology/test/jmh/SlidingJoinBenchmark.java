@@ -0,0 +1,108 @@
+/*
+# Licensed Materials - Property of IBM
+# Copyright IBM Corp. 2026
+ */
+package com.ibm.streamsx.topology.test.jmh;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.ibm.streams.operator.OutputTuple;
+import com.ibm.streams.operator.StreamingOutput;
+import com.ibm.streams.operator.Tuple;
+import com.ibm.streamsx.topology.function.BiFunction;
+import com.ibm.streamsx.topology.internal.functional.ops.FunctionJoin;
+
+/**
+ * Join of a tuple against a sliding count window ({@code SlidingJoin.port1Join}).
+ * <BR>
+ * {@code scan} passes the complete window to a joiner
+ * that searches it for the latest tuple with a matching key,
+ * {@code indexed} uses a hash-indexed window so the joiner is
+ * only passed the matching tuples. Each window key has ten tuples.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class SlidingJoinBenchmark {
+
+    private static final int LOOKUPS = 1024;
+
+    @Param({ "100", "10000" })
+    public int windowSize;
+
+    @Param({ "scan", "indexed" })
+    public String join;
+
+    private SingleOperator op;
+    private StreamingOutput<OutputTuple> lookup;
+    private Tuple[] lookups;
+    private int next;
+
+    @Setup
+    public void setup() throws Exception {
+        final int keys = Math.max(1, windowSize / 10);
+        final boolean indexed = "indexed".equals(join);
+
+        op = new SingleOperator(FunctionJoin.class, indexed ? indexedJoiner() : scanJoiner());
+        StreamingOutput<OutputTuple> window = op.inject(
+                op.addInput().sliding().evictCount(windowSize));
+        lookup = op.inject(op.addInput());
+        if (indexed) {
+            op.logic("joinKeyGetter", BenchmarkTuple.KEY);
+            op.logic("windowJoinKeyGetter", BenchmarkTuple.KEY);
+        }
+        op.start();
+
+        for (BenchmarkTuple value : BenchmarkTuple.tuples(windowSize, keys))
+            window.submit(SingleOperator.MAPPING.convertTo(value));
+
+        lookups = new Tuple[LOOKUPS];
+        BenchmarkTuple[] values = BenchmarkTuple.tuples(LOOKUPS, keys);
+        for (int i = 0; i < LOOKUPS; i++)
+            lookups[i] = SingleOperator.MAPPING.convertTo(values[i]);
+    }
+
+    private static BiFunction<BenchmarkTuple, List<BenchmarkTuple>, BenchmarkTuple> scanJoiner() {
+        return (t, window) -> {
+            for (int i = window.size() - 1; i >= 0; i--) {
+                final BenchmarkTuple u = window.get(i);
+                if (u.getKey().equals(t.getKey()))
+                    return u;
+            }
+            return null;
+        };
+    }
+
+    private static BiFunction<BenchmarkTuple, List<BenchmarkTuple>, BenchmarkTuple> indexedJoiner() {
+        return (t, matches) -> matches.isEmpty() ? null : matches.get(matches.size() - 1);
+    }
+
+    @TearDown
+    public void teardown() {
+        op.stop();
+    }
+
+    @Benchmark
+    public boolean port1Join() throws Exception {
+        final Tuple tuple = lookups[next];
+        next = (next + 1) & (LOOKUPS - 1);
+        return lookup.submit(tuple);
+    }
+}
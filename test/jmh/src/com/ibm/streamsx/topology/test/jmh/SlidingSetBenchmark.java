@@ -0,0 +1,93 @@
+/*
+# Licensed Materials - Property of IBM
+# Copyright IBM Corp. 2026
+ */
+package com.ibm.streamsx.topology.test.jmh;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.ibm.streams.flow.declare.InputPortDeclaration;
+import com.ibm.streams.operator.OutputTuple;
+import com.ibm.streams.operator.StreamingOutput;
+import com.ibm.streams.operator.Tuple;
+import com.ibm.streamsx.topology.function.Function;
+import com.ibm.streamsx.topology.internal.functional.ops.FunctionAggregate;
+
+/**
+ * Insertion and eviction of tuples in a sliding count window
+ * ({@code SlidingSet}) of an {@code Aggregate} operator.
+ * <BR>
+ * The window triggers on every tuple with an aggregate function that
+ * does not look at the window's tuples and submits nothing, so the cost is
+ * dominated by maintaining the window's partitions.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class SlidingSetBenchmark {
+
+    private static final int TUPLES = 4096;
+
+    @Param({ "10", "1000" })
+    public int windowSize;
+
+    @Param({ "1", "100" })
+    public int partitions;
+
+    @Param({ "false", "true" })
+    public boolean offHeap;
+
+    private SingleOperator op;
+    private StreamingOutput<OutputTuple> input;
+    private Tuple[] tuples;
+    private int next;
+
+    @Setup
+    public void setup() throws Exception {
+        Function<List<BenchmarkTuple>, Object> aggregate = l -> null;
+        op = new SingleOperator(FunctionAggregate.class, aggregate);
+        op.operator().setBooleanParameter("offHeap", offHeap);
+
+        InputPortDeclaration port = op.addInput().sliding().evictCount(windowSize).triggerCount(1);
+        if (partitions > 1) {
+            port.partitioned();
+            op.logic("keyGetter", BenchmarkTuple.KEY);
+        }
+        input = op.inject(port);
+        op.start();
+
+        tuples = new Tuple[TUPLES];
+        BenchmarkTuple[] values = BenchmarkTuple.tuples(TUPLES, partitions);
+        for (int i = 0; i < TUPLES; i++)
+            tuples[i] = SingleOperator.MAPPING.convertTo(values[i]);
+    }
+
+    @TearDown
+    public void teardown() {
+        op.stop();
+    }
+
+    @Benchmark
+    public boolean insert() throws Exception {
+        final Tuple tuple = tuples[next];
+        next = (next + 1) & (TUPLES - 1);
+        return input.submit(tuple);
+    }
+}